@@ -0,0 +1,37 @@
+#!/usr/bin/env sh
+# Measures /api/v1/voters4/add-voters insert throughput (rows/sec) for several payload sizes.
+#
+# Usage: bench/add-voters-throughput.sh [base-url] [sizes...]
+#   base-url defaults to http://localhost:8080, sizes default to "1000 10000 100000".
+#
+# To compare before/after, run it once against a build of the previous commit and once against the current one,
+# on the same database. Turn off SQL logging for both runs (SPRING_JPA_SHOW_SQL=false), it dominates otherwise.
+# Inserted rows are not cleaned up.
+set -eu
+
+BASE_URL="${1:-http://localhost:8080}"
+[ $# -gt 0 ] && shift
+SIZES="${*:-1000 10000 100000}"
+PAYLOAD_DIR="$(mktemp -d)"
+trap 'rm -rf "$PAYLOAD_DIR"' EXIT
+
+printf '%-10s %-8s %-12s %-12s\n' "rows" "status" "seconds" "rows/sec"
+for size in $SIZES; do
+  payload="$PAYLOAD_DIR/voters-$size.json"
+  awk -v n="$size" 'BEGIN {
+    printf "[";
+    for (i = 1; i <= n; i++) {
+      age = 18 + (i % 60);
+      printf "%s{\"name\":\"bench-voter-%d\",\"age\":%d,\"isAdult\":true}", (i > 1 ? "," : ""), i, age;
+    }
+    printf "]";
+  }' > "$payload"
+
+  result="$(curl -s -o /dev/null -w '%{http_code} %{time_total}' \
+    -H 'Content-Type: application/json' --data-binary "@$payload" \
+    "$BASE_URL/api/v1/voters4/add-voters")"
+  status="${result% *}"
+  seconds="${result#* }"
+  rate="$(awk -v n="$size" -v t="$seconds" 'BEGIN { if (t > 0) printf "%.0f", n / t; else print "n/a" }')"
+  printf '%-10s %-8s %-12s %-12s\n' "$size" "$status" "$seconds" "$rate"
+done
@@ -0,0 +1,36 @@
+#!/usr/bin/env sh
+# Compares two JMH JSON result files benchmark by benchmark: score, allocation per op (when run with -prof gc)
+# and the relative change. Lower is better for the avgt (time per op) benchmarks in this project.
+#
+# Usage: bench/jmh-compare.sh <baseline.json> <candidate.json>
+#
+# Produce the files with the benchmarks profile, which writes target/jmh-result.json, e.g.
+#   mvn -Pbenchmarks test-compile exec:exec -Djmh.args="-prof gc" && cp target/jmh-result.json baseline.json
+# Benchmarks present in only one file are listed with "-" on the missing side. Requires jq.
+set -eu
+
+if [ $# -ne 2 ]; then
+  echo "Usage: $0 <baseline.json> <candidate.json>" >&2
+  exit 2
+fi
+
+jq -r -n --slurpfile base "$1" --slurpfile cand "$2" '
+  def key: .benchmark + (if (.params // {}) == {} then "" else " " + ([.params | to_entries[] | "\(.key)=\(.value)"] | join(",")) end);
+  def index: map({key: key, value: .}) | from_entries;
+  def alloc: .secondaryMetrics["gc.alloc.rate.norm"].score // null;
+  def fmt: if . == null then "-" else (. * 100 | round / 100 | tostring) end;
+  ($base[0] | index) as $b | ($cand[0] | index) as $c
+  | (["benchmark", "unit", "baseline", "candidate", "change", "B/op base", "B/op cand"] | @tsv),
+    ((($b | keys) + ($c | keys) | unique)[] as $k
+     | $b[$k] as $x | $c[$k] as $y
+     | [ ($k | sub("^com\\.example\\.DEMO_INTEGRATION\\."; "")),
+         (($x // $y).primaryMetric.scoreUnit),
+         ($x.primaryMetric.score | fmt),
+         ($y.primaryMetric.score | fmt),
+         (if $x != null and $y != null and $x.primaryMetric.score != 0
+            then ((($y.primaryMetric.score / $x.primaryMetric.score - 1) * 1000 | round / 10 | tostring) + "%")
+            else "-" end),
+         (if $x != null then ($x | alloc | fmt) else "-" end),
+         (if $y != null then ($y | alloc | fmt) else "-" end) ]
+     | @tsv)
+' | awk -F '\t' '{ printf "%-72s %-6s %12s %12s %8s %10s %10s\n", $1, $2, $3, $4, $5, $6, $7 }'
@@ -0,0 +1,72 @@
+#!/usr/bin/env sh
+# Compares concurrent-reader capacity of the blocking v1 stream (/api/v1/voters4/stream-all-voters) and the
+# demand-driven v2 stream (/api/v2/voters4/voters) under the same heap. Every client reads the whole table at a
+# throttled rate, like a slow consumer; while they run, a probe measures /get-voters-page latency to show whether
+# the server still has threads and connections left for other work. The process RSS is sampled at the same time.
+#
+# Usage: bench/v2-read-capacity.sh [jar] [concurrency levels...]
+#   jar defaults to target/DEMO-INTEGRATION-0.0.1-SNAPSHOT.jar, levels default to "100 400 1000".
+#   HEAP (default 256m) is the fixed memory budget, RATE (default 256k) the per-client read rate for curl.
+#
+# Requires curl and a running, seeded database (e.g. seed it with the load test or bulk-ingest first).
+# The application runs on port 8081 with -Xmx$HEAP; raise the open file limit for high levels (ulimit -n 65536).
+# A client counts as ok when it got HTTP 200 and the same number of bytes as an unthrottled read.
+set -eu
+
+JAR="${1:-target/DEMO-INTEGRATION-0.0.1-SNAPSHOT.jar}"
+[ $# -gt 0 ] && shift
+LEVELS="${*:-100 400 1000}"
+HEAP="${HEAP:-256m}"
+RATE="${RATE:-256k}"
+PORT=8081
+BASE="http://localhost:$PORT"
+PROBE_URL="$BASE/api/v1/voters4/get-voters-page?size=20"
+WORK_DIR="$(mktemp -d)"
+APP_PID=""
+
+cleanup() {
+  [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+java -Xmx"$HEAP" -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false \
+  --server.tomcat.max-connections=20000 --server.tomcat.accept-count=2000 \
+  > "$WORK_DIR/app.log" 2>&1 &
+APP_PID=$!
+i=0
+until curl -s -o /dev/null "$BASE/api/v1/system/executors"; do
+  i=$((i + 1))
+  [ "$i" -gt 120 ] && { echo "application did not start, see $WORK_DIR/app.log" >&2; exit 1; }
+  sleep 1
+done
+
+printf '%-4s %-8s %-8s %-8s %-12s %-16s %-10s\n' "api" "clients" "ok" "failed" "p99(s)" "probe(status/s)" "rss(MB)"
+for api in v1 v2; do
+  url="$BASE/api/v1/voters4/stream-all-voters"
+  [ "$api" = v2 ] && url="$BASE/api/v2/voters4/voters"
+  expected="$(curl -s -o /dev/null -w '%{size_download}' "$url")"
+  for clients in $LEVELS; do
+    out="$WORK_DIR/$api-$clients"
+    mkdir -p "$out"
+    n=0
+    pids=""
+    while [ "$n" -lt "$clients" ]; do
+      curl -s -o /dev/null --limit-rate "$RATE" --max-time 600 \
+        -w '%{http_code} %{size_download} %{time_total}\n' "$url" > "$out/$n.txt" 2>/dev/null &
+      pids="$pids $!"
+      n=$((n + 1))
+    done
+    sleep 2
+    probe="$(curl -s -o /dev/null --max-time 60 -w '%{http_code}/%{time_total}' "$PROBE_URL" || true)"
+    rss="$(awk '/VmRSS/ { printf "%.0f", $2 / 1024 }' "/proc/$APP_PID/status" 2>/dev/null || echo n/a)"
+    for pid in $pids; do
+      wait "$pid" || true
+    done
+    cat "$out"/*.txt > "$out.all"
+    ok="$(awk -v size="$expected" '$1 == 200 && $2 == size { n++ } END { print n + 0 }' "$out.all")"
+    failed=$((clients - ok))
+    p99="$(sort -n -k3 "$out.all" | awk -v c="$clients" '{ t[NR] = $3 } END { i = int(c * 0.99); if (i < 1) i = 1; print t[i] }')"
+    printf '%-4s %-8s %-8s %-8s %-12s %-16s %-10s\n' "$api" "$clients" "$ok" "$failed" "${p99:-n/a}" "$probe" "$rss"
+  done
+done
@@ -0,0 +1,66 @@
+#!/usr/bin/env sh
+# Compares platform-thread and virtual-thread mode under high client concurrency: throughput and p99 latency
+# of /api/v1/voters4/get-voters-page for each concurrency level.
+#
+# Usage: bench/virtual-threads-compare.sh [jar] [concurrency levels...]
+#   jar defaults to target/DEMO-INTEGRATION-0.0.1-SNAPSHOT.jar, levels default to "1000 2000 5000 10000".
+#
+# Requires `hey` (https://github.com/rakyll/hey) and a running database. Each mode gets its own JVM on port 8081.
+# Raise the open file limit first (ulimit -n 65536); 10k clients need that many sockets on both sides.
+# After each virtual-thread run the pinning counters are printed from /api/v1/system/virtual-threads/pinning.
+set -eu
+
+JAR="${1:-target/DEMO-INTEGRATION-0.0.1-SNAPSHOT.jar}"
+[ $# -gt 0 ] && shift
+LEVELS="${*:-1000 2000 5000 10000}"
+PORT=8081
+URL="http://localhost:$PORT/api/v1/voters4/get-voters-page?size=20"
+REQUESTS_PER_CLIENT=20
+WORK_DIR="$(mktemp -d)"
+APP_PID=""
+
+cleanup() {
+  [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+start_app() {
+  java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$1" \
+    --spring.jpa.show-sql=false --server.tomcat.max-connections=20000 --server.tomcat.accept-count=2000 \
+    > "$WORK_DIR/app-$1.log" 2>&1 &
+  APP_PID=$!
+  i=0
+  until curl -s -o /dev/null "http://localhost:$PORT/api/v1/system/executors"; do
+    i=$((i + 1))
+    [ "$i" -gt 120 ] && { echo "application did not start, see $WORK_DIR/app-$1.log" >&2; exit 1; }
+    sleep 1
+  done
+  # warm up the JIT and connection pool before measuring
+  hey -n 2000 -c 50 "$URL" > /dev/null
+}
+
+stop_app() {
+  kill "$APP_PID" 2>/dev/null || true
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+}
+
+printf '%-10s %-10s %-12s %-10s %-10s\n' "mode" "clients" "req/sec" "p99(s)" "non-2xx"
+for virtual in false true; do
+  mode=platform
+  [ "$virtual" = true ] && mode=virtual
+  start_app "$virtual"
+  for clients in $LEVELS; do
+    out="$WORK_DIR/$mode-$clients.txt"
+    hey -n $((clients * REQUESTS_PER_CLIENT)) -c "$clients" -t 30 "$URL" > "$out"
+    rps="$(awk '/Requests\/sec:/ { print $2 }' "$out")"
+    p99="$(awk '/ 99% in / { print $3 }' "$out")"
+    errors="$(awk '/^Status code distribution:/ { on = 1; next } on && /\[[0-9]+\]/ { gsub(/[\[\]]/, "", $1); if ($1 !~ /^2/) n += $2 } END { print n + 0 }' "$out")"
+    printf '%-10s %-10s %-12s %-10s %-10s\n' "$mode" "$clients" "${rps:-n/a}" "${p99:-n/a}" "$errors"
+  done
+  if [ "$virtual" = true ]; then
+    echo "pinning: $(curl -s "http://localhost:$PORT/api/v1/system/virtual-threads/pinning")"
+  fi
+  stop_app
+done
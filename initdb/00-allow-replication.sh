@@ -0,0 +1,3 @@
+#!/bin/sh
+# Lets the postgres_replica service stream WAL from this primary (applied on first initialisation only).
+echo "host replication all all md5" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,45 @@
+package com.example.DEMO_INTEGRATION;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared logging setup for benchmarks: events are formatted like a real encoder would, then discarded,
+ * so measurements include the logging call but not console or file I/O.
+ */
+public final class BenchmarkLogging {
+
+    private BenchmarkLogging() {
+    }
+
+    /**
+     * Replaces all root appenders with a discarding one and sets the root level.
+     */
+    public static void discardAll(Level rootLevel) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        DiscardingAppender appender = new DiscardingAppender();
+        appender.setContext(loggerContext);
+        appender.start();
+        root.addAppender(appender);
+        root.setLevel(rootLevel);
+    }
+
+    // Formats like a real encoder would, without writing anywhere
+    static final class DiscardingAppender extends AppenderBase<ILoggingEvent> {
+        volatile int sink;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            int length = event.getFormattedMessage().length() + event.getMDCPropertyMap().size();
+            if (event.getThrowableProxy() != null) {
+                length += event.getThrowableProxy().getStackTraceElementProxyArray().length;
+            }
+            sink = length;
+        }
+    }
+}
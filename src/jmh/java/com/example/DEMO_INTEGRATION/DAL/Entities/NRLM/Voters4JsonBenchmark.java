@@ -0,0 +1,66 @@
+package com.example.DEMO_INTEGRATION.DAL.Entities.NRLM;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the Voters4 payloads: get-all-voters bodies (serialize) and add-voters requests
+ * (deserialize), using prebuilt readers/writers as Spring's message converters do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Voters4JsonBenchmark {
+
+    @Param({"1", "1000"})
+    public int voterCount;
+
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+    private List<Voters4> voters;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        TypeReference<List<Voters4>> listType = new TypeReference<>() {};
+        listWriter = mapper.writerFor(listType);
+        listReader = mapper.readerFor(listType);
+        voters = new ArrayList<>(voterCount);
+        for (int i = 0; i < voterCount; i++) {
+            voters.add(new Voters4(i + 1, "voter-" + i, 18 + i % 60, Boolean.TRUE));
+        }
+        json = listWriter.writeValueAsBytes(voters);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return listWriter.writeValueAsBytes(voters);
+    }
+
+    @Benchmark
+    public List<Voters4> deserialize() throws IOException {
+        return listReader.readValue(json);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping behind BaseRepository.executeDynamicNativeQuery, without the database: rows shaped like the
+ * Postgres driver returns them for a Voters4 projection (the id as bigint, as from a COUNT or a cast) mapped
+ * onto a DTO, next to a hand-written mapper for the same DTO, plus the per-column conversions on their own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NativeRowMapperBenchmark {
+
+    // Only mapRows takes this state, so the conversion benchmarks are not repeated per row count
+    @State(Scope.Thread)
+    public static class Rows {
+        @Param({"1", "100", "10000"})
+        public int rowCount;
+
+        private List<Object[]> rows;
+
+        @Setup
+        public void setUp() {
+            rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                rows.add(new Object[]{(long) i, "voter-" + i, 18 + i % 60, Boolean.TRUE});
+            }
+        }
+    }
+
+    @Benchmark
+    public List<VoterRow> mapRows(Rows rows) {
+        return NativeRowMapper.mapRows(rows.rows, VoterRow.class);
+    }
+
+    // What a mapper written for this one DTO would do; mapRows should stay close to it
+    @Benchmark
+    public List<VoterRow> mapRowsHandWritten(Rows rows) {
+        List<VoterRow> result = new ArrayList<>(rows.rows.size());
+        for (Object[] row : rows.rows) {
+            result.add(new VoterRow(((Number) row[0]).intValue(), (String) row[1], (Integer) row[2], (Boolean) row[3]));
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object convertAssignable() {
+        return NativeRowMapper.convertToType("voter-1", String.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object convertNumber() {
+        return NativeRowMapper.convertToType(123_456L, Integer.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object convertDigitString() {
+        return NativeRowMapper.convertToType("123456", Integer.class);
+    }
+
+    public static class VoterRow {
+        private final Integer id;
+        private final String name;
+        private final Integer age;
+        private final Boolean isAdult;
+
+        public VoterRow(Integer id, String name, Integer age, Boolean isAdult) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.isAdult = isAdult;
+        }
+
+        public Integer getId() { return id; }
+        public String getName() { return name; }
+        public Integer getAge() { return age; }
+        public Boolean getIsAdult() { return isAdult; }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.DEMO_INTEGRATION.DAL.Repository;
+
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DemoIntegrationApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * addAll (persist/merge, flushed every BATCH_SIZE rows) against batchAddAll (persist only) on a real
+ * PostgreSQL started in-process, through the application context so JDBC batching, the pooled sequence and
+ * the repository proxies are the ones the service uses. Each call inserts fresh entities in one transaction;
+ * the table is truncated after every iteration so it does not grow across the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Voters4WriteBenchmark {
+
+    private static final int BATCH_SIZE = 50; // Matches hibernate.jdbc.batch_size
+
+    @Param({"1000", "10000"})
+    public int rowCount;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private Voters4Repository repository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<Voters4> voters;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        // Command-line arguments, so they override application.properties (builder properties would not)
+        context = new SpringApplicationBuilder(DemoIntegrationApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true",
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.sql.init.mode=never",
+                        "--app.threads.pinning.monitor-enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.DEMO_INTEGRATION=WARN");
+        repository = context.getBean("voters4Repository", Voters4Repository.class); // The bean Voters4Service is wired with
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    }
+
+    // Fresh, id-less entities each call: persisted ones carry ids and would turn addAll into merges
+    @Setup(Level.Invocation)
+    public void createVoters() {
+        voters = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            voters.add(new Voters4(null, "bench-voter-" + i, 18 + i % 60, Boolean.TRUE));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE public.\"Voters4\"");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public Boolean addAll() {
+        return transactionTemplate.execute(status -> repository.addAll(voters));
+    }
+
+    @Benchmark
+    public Boolean batchAddAll() {
+        return transactionTemplate.execute(status -> repository.batchAddAll(voters, BATCH_SIZE));
+    }
+}
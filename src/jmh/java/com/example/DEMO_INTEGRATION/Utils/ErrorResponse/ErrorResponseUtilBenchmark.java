@@ -0,0 +1,67 @@
+package com.example.DEMO_INTEGRATION.Utils.ErrorResponse;
+
+import ch.qos.logback.classic.Level;
+import com.example.DEMO_INTEGRATION.BenchmarkLogging;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning an exception into an error response: the instanceof chain, the ErrorResponse body and the
+ * ERROR log line with its stack trace (formatted, then discarded). The exceptions are created once, so the
+ * numbers exclude filling in their stack traces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseUtilBenchmark {
+
+    private LoggerUtil logger;
+    private Exception invalidInput;
+    private Exception serverBusy;
+    private Exception dataAccessFailure;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.discardAll(Level.INFO);
+        logger = LoggerUtil.getLogger(ErrorResponseUtilBenchmark.class);
+        invalidInput = new IllegalArgumentException("Page size must be between 1 and 1000");
+        serverBusy = new TaskRejectedException("Executor serviceExecutor is at capacity");
+        dataAccessFailure = new DataAccessException("Unexpected error adding voters",
+                new IllegalStateException("connection reset")) {};
+    }
+
+    // Early branch of the chain: 400
+    @Benchmark
+    public ResponseEntity<ErrorResponseUtil.ErrorResponse> invalidInput() {
+        return ErrorResponseUtil.handleException(invalidInput, logger);
+    }
+
+    // 503 with Retry-After, the path taken under overload
+    @Benchmark
+    public ResponseEntity<ErrorResponseUtil.ErrorResponse> serverBusy() {
+        return ErrorResponseUtil.handleException(serverBusy, logger);
+    }
+
+    // Falls through to the RuntimeException branch, with a cause in the logged trace
+    @Benchmark
+    public ResponseEntity<ErrorResponseUtil.ErrorResponse> dataAccessFailure() {
+        return ErrorResponseUtil.handleException(dataAccessFailure, logger);
+    }
+}
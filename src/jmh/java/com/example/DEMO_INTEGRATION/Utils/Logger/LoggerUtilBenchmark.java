@@ -0,0 +1,99 @@
+package com.example.DEMO_INTEGRATION.Utils.Logger;
+
+import ch.qos.logback.classic.Level;
+import com.example.DEMO_INTEGRATION.BenchmarkLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one LoggerUtil call, legacy Map/String.format API against the LogContext/{} fast path, with the
+ * level disabled (DEBUG under an INFO root) and enabled (INFO), plus the cost a request thread pays for
+ * {@code logStructured}. The appender formats the message and reads the MDC, then discards the event, and the
+ * structured pipeline writes to a null stream, so the numbers exclude I/O. Run with {@code -prof gc} and
+ * compare {@code gc.alloc.rate.norm} (bytes per call).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerUtilBenchmark {
+
+    private static final LogContext CONTEXT = LogContext.of("entityType", "Voters4", "operation", "getVoterById");
+    private static final Map<String, String> STRUCTURED_CONTEXT = Map.of("entityType", "Voters4", "operation", "getVoterById");
+
+    private LoggerUtil logger;
+    private Integer voterId;
+    private boolean found;
+    private StructuredLogPipeline pipeline;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.discardAll(Level.INFO);
+        pipeline = new StructuredLogPipeline(8192, StructuredLogPipeline.OverflowPolicy.DROP, 0, TimeUnit.MILLISECONDS,
+                OutputStream.nullOutputStream(), true);
+        StructuredLogPipeline.install(pipeline);
+
+        logger = LoggerUtil.getLogger(LoggerUtilBenchmark.class);
+        voterId = 123_456;
+        found = true;
+    }
+
+    @TearDown
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Benchmark
+    public void legacyDisabled() {
+        logger.log(LoggerUtil.LogLevel.DEBUG, "Fetched Voters4 by ID: " + voterId, null,
+                Map.of("entityType", "Voters4", "entityId", voterId.toString(), "found", String.valueOf(found)));
+    }
+
+    @Benchmark
+    public void fastDisabled() {
+        logger.log(LoggerUtil.LogLevel.DEBUG, CONTEXT, "Fetched Voters4 by ID: {} (found={})", voterId, found);
+    }
+
+    @Benchmark
+    public void legacyEnabled() {
+        logger.log(LoggerUtil.LogLevel.INFO, "Fetched Voters4 by ID: " + voterId, null,
+                Map.of("entityType", "Voters4", "entityId", voterId.toString(), "found", String.valueOf(found)));
+    }
+
+    @Benchmark
+    public void fastEnabled() {
+        logger.log(LoggerUtil.LogLevel.INFO, CONTEXT, "Fetched Voters4 by ID: {} (found={})", voterId, found);
+    }
+
+    @Benchmark
+    public void legacyEnabledFormatted() {
+        logger.log(LoggerUtil.LogLevel.INFO, "Fetched Voters4 by ID: %d (found=%s)", new Object[]{voterId, found},
+                Map.of("entityType", "Voters4", "operation", "getVoterById"));
+    }
+
+    @Benchmark
+    public void structuredDisabled() {
+        logger.logStructured(LoggerUtil.LogLevel.DEBUG, "Fetched Voters4 by ID", STRUCTURED_CONTEXT);
+    }
+
+    // Publish only; a full ring drops the event, which is the path a saturated writer puts callers on
+    @Benchmark
+    public void structuredEnabled() {
+        logger.logStructured(LoggerUtil.LogLevel.INFO, "Fetched Voters4 by ID", STRUCTURED_CONTEXT);
+    }
+}
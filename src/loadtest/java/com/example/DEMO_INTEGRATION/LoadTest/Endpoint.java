@@ -0,0 +1,30 @@
+package com.example.DEMO_INTEGRATION.LoadTest;
+
+/**
+ * Voters4Controller endpoints the load test drives, named as they appear in {@code --mix}.
+ */
+enum Endpoint {
+    GET_ALL("get-all"),
+    ADD("add"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key.trim())) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint in mix: " + key + " (expected get-all, add, update or delete)");
+    }
+}
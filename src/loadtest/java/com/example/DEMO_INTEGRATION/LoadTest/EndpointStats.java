@@ -0,0 +1,88 @@
+package com.example.DEMO_INTEGRATION.LoadTest;
+
+import com.example.DEMO_INTEGRATION.Utils.Metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counters and latency of one endpoint during one step. Latency is measured from the request's
+ * scheduled send time, not the actual one, so a backed-up client or server shows up as latency instead of
+ * silently lowering the offered load.
+ */
+final class EndpointStats {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Endpoint endpoint;
+    private final LatencyHistogram latency = LatencyHistogram.cumulative();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> errorStatuses = new ConcurrentHashMap<>();
+
+    EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void sent() {
+        sent.increment();
+    }
+
+    // The concurrency limit was reached at the scheduled time; the request was never sent
+    void dropped() {
+        dropped.increment();
+    }
+
+    // No request could be built, e.g. the pool of deletable ids ran out
+    void skipped() {
+        skipped.increment();
+    }
+
+    /**
+     * @param status the HTTP status, or -1 when the request failed without a response (timeout, reset)
+     */
+    void completed(long scheduledNanos, long nowNanos, int status) {
+        latency.record(nowNanos - scheduledNanos, nowNanos);
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else {
+            errors.increment();
+            errorStatuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+
+    long okCount() {
+        return ok.sum();
+    }
+
+    long failedCount() {
+        return errors.sum() + dropped.sum();
+    }
+
+    Map<String, Object> toReport(double measuredSeconds) {
+        LatencyHistogram.Snapshot snapshot = latency.snapshot(System.nanoTime());
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("endpoint", endpoint.key());
+        report.put("sent", sent.sum());
+        report.put("ok", ok.sum());
+        report.put("errors", errors.sum());
+        report.put("dropped", dropped.sum());
+        report.put("skipped", skipped.sum());
+        report.put("throughputPerSecond", ok.sum() / measuredSeconds);
+        report.put("p50Ms", snapshot.valueAtQuantile(0.50) / NANOS_PER_MILLI);
+        report.put("p99Ms", snapshot.valueAtQuantile(0.99) / NANOS_PER_MILLI);
+        report.put("p999Ms", snapshot.valueAtQuantile(0.999) / NANOS_PER_MILLI);
+        report.put("maxMs", snapshot.getMax() / NANOS_PER_MILLI);
+        Map<String, Long> statuses = new TreeMap<>();
+        errorStatuses.forEach((status, count) -> statuses.put(status < 0 ? "no-response" : String.valueOf(status), count.sum()));
+        report.put("errorStatuses", statuses);
+        return report;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.DEMO_INTEGRATION.LoadTest;
+
+import com.example.DEMO_INTEGRATION.DemoIntegrationApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load test of Voters4Controller. Requests arrive at a fixed rate regardless of how fast responses
+ * come back, spread over the endpoints by the weighted mix; at most {@code --concurrency} are in flight and
+ * arrivals beyond that are counted as dropped. Each rate in {@code --rates} is one step (warm-up, then the
+ * measured duration), so a rising list shows where throughput stops following the offered load.
+ *
+ * <p>Without {@code --base-url} the application is started in this JVM on a random port, which shares the CPU
+ * with the load generator; point {@code --base-url} at a separately started instance for capacity numbers.
+ * Run with: {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rates=100,200,400 --seed=100000"}
+ */
+public final class LoadTestHarness {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final VoterTraffic traffic;
+    private final Endpoint[] weighted;
+
+    private LoadTestHarness(LoadTestOptions options, HttpClient client, String baseUrl) {
+        this.options = options;
+        this.client = client;
+        this.traffic = new VoterTraffic(client, baseUrl, options.requestTimeout, options.addBatch);
+        List<Endpoint> slots = new ArrayList<>();
+        options.mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        this.weighted = slots.toArray(Endpoint[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext context = null;
+        ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            String baseUrl = options.baseUrl;
+            if (baseUrl == null) {
+                List<String> appArgs = new ArrayList<>(List.of(
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--app.threads.pinning.monitor-enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.DEMO_INTEGRATION=WARN"));
+                // DevTools would restart into this class's main with the application arguments.
+                System.setProperty("spring.devtools.restart.enabled", "false");
+                if (options.embeddedDb) {
+                    postgres = EmbeddedPostgres.builder().start();
+                    appArgs.add("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+                    appArgs.add("--spring.datasource.username=postgres");
+                    appArgs.add("--spring.datasource.password=");
+                    appArgs.add("--spring.jpa.hibernate.ddl-auto=create");
+                    appArgs.add("--spring.sql.init.mode=never");
+                } else {
+                    if (options.dbUrl != null) appArgs.add("--spring.datasource.url=" + options.dbUrl);
+                    if (options.dbUser != null) appArgs.add("--spring.datasource.username=" + options.dbUser);
+                    if (options.dbPassword != null) appArgs.add("--spring.datasource.password=" + options.dbPassword);
+                }
+                context = new SpringApplicationBuilder(DemoIntegrationApplication.class).run(appArgs.toArray(String[]::new));
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+            new LoadTestHarness(options, client, baseUrl).run();
+        } finally {
+            clientExecutor.shutdownNow();
+            if (context != null) context.close();
+            if (postgres != null) postgres.close();
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        if (options.seed > 0) {
+            System.out.printf("Seeding %,d voters...%n", options.seed);
+            traffic.seed(options.seed);
+        }
+        int idCount = traffic.loadIds();
+        System.out.printf("%,d voters available (%,d deletable)%n", idCount, traffic.remainingDeletes());
+
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (int rate : options.rates) {
+            steps.add(runStep(rate));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("seed", options.seed);
+        report.put("concurrency", options.concurrency);
+        report.put("warmupSeconds", options.warmup.toSeconds());
+        report.put("durationSeconds", options.duration.toSeconds());
+        report.put("addBatch", options.addBatch);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix.forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+        report.put("mix", mix);
+        report.put("steps", steps);
+        if (options.report.getParent() != null) {
+            Files.createDirectories(options.report.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(options.report.toFile(), report);
+        System.out.println("Report written to " + options.report.toAbsolutePath());
+    }
+
+    private Map<String, Object> runStep(int rate) throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+        Semaphore inFlight = new Semaphore(options.concurrency);
+        double intervalNanos = 1_000_000_000.0 / rate;
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup.toNanos();
+        long end = measureStart + options.duration.toNanos();
+        System.out.printf("%nStep: %,d req/s for %ds (+%ds warm-up)%n", rate, options.duration.toSeconds(), options.warmup.toSeconds());
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + (long) (i * intervalNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+            EndpointStats endpointStats = scheduled >= measureStart ? stats.get(endpoint) : null;
+            HttpRequest request = traffic.request(endpoint);
+            if (request == null) {
+                if (endpointStats != null) endpointStats.skipped();
+                continue;
+            }
+            if (!inFlight.tryAcquire()) {
+                if (endpointStats != null) endpointStats.dropped();
+                continue;
+            }
+            if (endpointStats != null) endpointStats.sent();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long now = System.nanoTime();
+                        if (endpointStats != null) {
+                            endpointStats.completed(scheduled, now, response != null ? response.statusCode() : -1);
+                        }
+                        inFlight.release();
+                    });
+        }
+        if (!inFlight.tryAcquire(options.concurrency, DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            System.out.println("Warning: requests still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s; they are not counted");
+        } else {
+            inFlight.release(options.concurrency);
+        }
+
+        double measuredSeconds = options.duration.toNanos() / 1_000_000_000.0;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long ok = 0;
+        long failed = 0;
+        System.out.printf("%-8s %8s %8s %7s %7s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "sent", "ok", "errors", "dropped", "skipped", "ok/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats endpointStats : stats.values()) {
+            Map<String, Object> row = endpointStats.toReport(measuredSeconds);
+            endpoints.add(row);
+            ok += endpointStats.okCount();
+            failed += endpointStats.failedCount();
+            System.out.printf("%-8s %8d %8d %7d %7d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("endpoint"), row.get("sent"), row.get("ok"), row.get("errors"), row.get("dropped"),
+                    row.get("skipped"), row.get("throughputPerSecond"), row.get("p50Ms"), row.get("p99Ms"),
+                    row.get("p999Ms"), row.get("maxMs"));
+        }
+        System.out.printf("offered %,d req/s, achieved %.1f ok/s, %,d errors or drops%n", rate, ok / measuredSeconds, failed);
+
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("rate", rate);
+        step.put("achievedPerSecond", ok / measuredSeconds);
+        step.put("failed", failed);
+        step.put("endpoints", endpoints);
+        return step;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.DEMO_INTEGRATION.LoadTest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options of the load test, given as {@code --name=value}. Every option has a default, so a bare
+ * run starts the application against the database in application.properties, seeds 10,000 voters and drives
+ * 100 requests/second for a minute.
+ */
+final class LoadTestOptions {
+
+    String baseUrl;            // --base-url: target a running instance instead of starting one in-process
+    boolean embeddedDb;        // --embedded-db: start a throwaway PostgreSQL instead of using the configured one
+    String dbUrl;              // --db-url, --db-user, --db-password: override spring.datasource.*
+    String dbUser;
+    String dbPassword;
+    int seed = 10_000;         // --seed: voters bulk-loaded before the first step
+    List<Integer> rates = List.of(100); // --rates: comma-separated arrival rates (requests/second), one step each
+    int concurrency = 256;     // --concurrency: requests in flight at most; arrivals beyond it are dropped
+    Duration warmup = Duration.ofSeconds(10);   // --warmup-seconds: per step, not reported
+    Duration duration = Duration.ofSeconds(60); // --duration-seconds: measured part of each step
+    Duration requestTimeout = Duration.ofSeconds(30); // --timeout-seconds
+    int addBatch = 10;         // --add-batch: voters per add-voters request
+    Map<Endpoint, Integer> mix = defaultMix(); // --mix: weights, e.g. get-all:10,add:30,update:40,delete:20
+    Path report = Path.of("target", "loadtest-result.json"); // --report
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "base-url" -> options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "embedded-db" -> options.embeddedDb = Boolean.parseBoolean(value);
+                case "db-url" -> options.dbUrl = value;
+                case "db-user" -> options.dbUser = value;
+                case "db-password" -> options.dbPassword = value;
+                case "seed" -> options.seed = nonNegative(name, Integer.parseInt(value));
+                case "rates" -> options.rates = parseRates(value);
+                case "concurrency" -> options.concurrency = positive(name, Integer.parseInt(value));
+                case "warmup-seconds" -> options.warmup = Duration.ofSeconds(nonNegative(name, Integer.parseInt(value)));
+                case "duration-seconds" -> options.duration = Duration.ofSeconds(positive(name, Integer.parseInt(value)));
+                case "timeout-seconds" -> options.requestTimeout = Duration.ofSeconds(positive(name, Integer.parseInt(value)));
+                case "add-batch" -> options.addBatch = positive(name, Integer.parseInt(value));
+                case "mix" -> options.mix = parseMix(value);
+                case "report" -> options.report = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        if (options.baseUrl != null && (options.embeddedDb || options.dbUrl != null)) {
+            throw new IllegalArgumentException("--base-url targets a running instance; database options do not apply");
+        }
+        return options;
+    }
+
+    private static Map<Endpoint, Integer> defaultMix() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        mix.put(Endpoint.GET_ALL, 10);
+        mix.put(Endpoint.ADD, 30);
+        mix.put(Endpoint.UPDATE, 40);
+        mix.put(Endpoint.DELETE, 20);
+        return mix;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like endpoint:weight, got: " + part);
+            }
+            mix.put(Endpoint.fromKey(pair[0]), nonNegative("mix weight", Integer.parseInt(pair[1].trim())));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix weights must not all be 0");
+        }
+        return mix;
+    }
+
+    private static List<Integer> parseRates(String value) {
+        List<Integer> rates = new ArrayList<>();
+        for (String part : value.split(",")) {
+            rates.add(positive("rates", Integer.parseInt(part.trim())));
+        }
+        return List.copyOf(rates);
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) throw new IllegalArgumentException("--" + name + " must be greater than 0");
+        return value;
+    }
+
+    private static int nonNegative(String name, int value) {
+        if (value < 0) throw new IllegalArgumentException("--" + name + " must not be negative");
+        return value;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.DEMO_INTEGRATION.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seeds the voters table and builds the requests of the mix. Ids read back after seeding are split in two:
+ * updates pick any id from the first half, deletes consume the second half one id at a time, so an update
+ * never targets a row a delete already removed.
+ */
+final class VoterTraffic {
+
+    private static final String API = "/api/v1/voters4";
+    private static final int SEED_CHUNK = 100_000; // Rows per bulk-ingest request
+    private static final int ID_PAGE_SIZE = 1000;  // get-voters-page maximum
+
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration timeout;
+    private final int addBatch;
+    private final AtomicInteger nextDelete = new AtomicInteger();
+    private final AtomicInteger nameCounter = new AtomicInteger();
+    private int[] ids = new int[0];
+    private int updatableCount;
+
+    VoterTraffic(HttpClient client, String baseUrl, Duration timeout, int addBatch) {
+        this.client = client;
+        this.baseUrl = baseUrl + API;
+        this.timeout = timeout;
+        this.addBatch = addBatch;
+    }
+
+    /**
+     * Loads {@code count} voters through the COPY-based bulk-ingest endpoint.
+     */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int loaded = 0; loaded < count; loaded += SEED_CHUNK) {
+            int rows = Math.min(SEED_CHUNK, count - loaded);
+            StringBuilder csv = new StringBuilder(rows * 24 + 16).append("name,age,isAdult\n");
+            for (int i = 0; i < rows; i++) {
+                int age = 1 + (loaded + i) % 90;
+                csv.append("seed-voter-").append(loaded + i).append(',').append(age).append(',').append(age >= 18).append('\n');
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/bulk-ingest?format=csv&header=true"))
+                    .timeout(Duration.ofMinutes(5))
+                    .header("Content-Type", "text/csv")
+                    .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+        }
+    }
+
+    /**
+     * Reads every voter id through keyset pages and splits them between updates and deletes.
+     *
+     * @return the number of ids found
+     */
+    int loadIds() throws IOException, InterruptedException {
+        int[] found = new int[1024];
+        int size = 0;
+        String token = null;
+        do {
+            String url = baseUrl + "/get-voters-page?size=" + ID_PAGE_SIZE
+                    + (token != null ? "&pageToken=" + URLEncoder.encode(token, StandardCharsets.UTF_8) : "");
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Reading voter ids failed with HTTP " + response.statusCode());
+            }
+            JsonNode page = mapper.readTree(response.body());
+            for (JsonNode voter : page.path("content")) {
+                if (size == found.length) {
+                    found = Arrays.copyOf(found, size * 2);
+                }
+                found[size++] = voter.path("id").asInt();
+            }
+            token = page.path("nextPageToken").isTextual() ? page.path("nextPageToken").asText() : null;
+        } while (token != null);
+
+        ids = Arrays.copyOf(found, size);
+        updatableCount = size / 2;
+        nextDelete.set(updatableCount);
+        return size;
+    }
+
+    int remainingDeletes() {
+        return Math.max(0, ids.length - nextDelete.get());
+    }
+
+    /**
+     * @return the next request for {@code endpoint}, or null when none can be built (no ids left to delete)
+     */
+    HttpRequest request(Endpoint endpoint) {
+        return switch (endpoint) {
+            case GET_ALL -> newRequest("/get-all-voters").GET().build();
+            case ADD -> newRequest("/add-voters")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(newVoters()))
+                    .build();
+            case UPDATE -> {
+                if (updatableCount == 0) {
+                    yield null;
+                }
+                int id = ids[ThreadLocalRandom.current().nextInt(updatableCount)];
+                int age = 18 + ThreadLocalRandom.current().nextInt(70);
+                yield newRequest("/update-voter")
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(
+                                "{\"id\":" + id + ",\"name\":\"load-updated-" + id + "\",\"age\":" + age + ",\"isAdult\":true}"))
+                        .build();
+            }
+            case DELETE -> {
+                int index = nextDelete.getAndIncrement();
+                if (index >= ids.length) {
+                    yield null;
+                }
+                yield newRequest("/delete-voter/" + ids[index]).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+    }
+
+    private String newVoters() {
+        StringBuilder json = new StringBuilder(addBatch * 56).append('[');
+        for (int i = 0; i < addBatch; i++) {
+            int n = nameCounter.incrementAndGet();
+            int age = 1 + n % 90;
+            if (i > 0) json.append(',');
+            json.append("{\"name\":\"load-voter-").append(n).append("\",\"age\":").append(age)
+                    .append(",\"isAdult\":").append(age >= 18).append('}');
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.DEMO_INTEGRATION.BAL.Ingestion;
+
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionChunkError;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs large inserts as background jobs, so the request that submits them returns at once with a job id.
+ * A job's rows are written in chunks of {@code chunkSize}, one transaction per chunk; a failing chunk is
+ * rolled back and recorded, and the job goes on with the next one.
+ *
+ * <p>Jobs wait in the bounded queue of the given executor, whose threads are the workers. A job is rejected
+ * with {@link RejectedExecutionException} (HTTP 503) when that queue is full or when the rows accepted but
+ * not yet written would exceed {@code maxQueuedRows}, which bounds the memory they hold. Finished jobs stay
+ * queryable until {@code retainedJobs} later jobs have finished.
+ */
+public class IngestionJobQueue<T> {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED }
+
+    private static final int MAX_REPORTED_ERRORS = 100; // Failed chunks listed individually in a job status
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(IngestionJobQueue.class);
+    private final String name;
+    private final Executor workers;
+    private final int chunkSize;
+    private final long maxQueuedRows;
+    private final int retainedJobs;
+    private final Consumer<List<T>> chunkWriter;
+    private final OperationMetrics chunkMetrics;
+
+    private final ConcurrentMap<String, Job<T>> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> finishedJobs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    private final AtomicLong queuedRows = new AtomicLong();
+
+    /**
+     * @param name          used in logs and metrics
+     * @param workers       runs one job per task; its queue bounds the number of waiting jobs
+     * @param chunkSize     rows written per transaction
+     * @param maxQueuedRows rows accepted but not yet written, across all jobs
+     * @param retainedJobs  finished jobs kept for status queries
+     * @param chunkWriter   writes one chunk in one transaction
+     */
+    public IngestionJobQueue(String name, Executor workers, int chunkSize, long maxQueuedRows, int retainedJobs,
+                             Consumer<List<T>> chunkWriter) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be greater than 0");
+        if (maxQueuedRows <= 0) throw new IllegalArgumentException("Max queued rows must be greater than 0");
+        if (retainedJobs < 0) throw new IllegalArgumentException("Retained jobs cannot be negative");
+        this.name = name;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.maxQueuedRows = maxQueuedRows;
+        this.retainedJobs = retainedJobs;
+        this.chunkWriter = chunkWriter;
+        this.chunkMetrics = OperationMetrics.forOperation("IngestionJobQueue", name + ".chunk");
+    }
+
+    /**
+     * Queues the rows as one job. The list is kept by reference until the job finishes, so callers must not
+     * modify it after the call.
+     *
+     * @return the job's initial status, holding the id to query it with
+     * @throws IllegalArgumentException   if the rows are null or empty, or more than the queue can ever hold
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public IngestionJobStatus submit(List<T> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("Rows cannot be null or empty");
+        }
+        if (rows.size() > maxQueuedRows) {
+            throw new IllegalArgumentException("A job cannot hold more than " + maxQueuedRows + " rows");
+        }
+        if (queuedRows.addAndGet(rows.size()) > maxQueuedRows) {
+            queuedRows.addAndGet(-rows.size());
+            throw new RejectedExecutionException("Ingestion queue [" + name + "] is full with " + maxQueuedRows + " pending rows");
+        }
+
+        Job<T> job = new Job<>(UUID.randomUUID().toString(), rows, chunkSize);
+        jobs.put(job.id, job);
+        try {
+            workers.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            queuedRows.addAndGet(-rows.size());
+            throw e;
+        }
+
+        logger.log(LoggerUtil.LogLevel.INFO, "Ingestion job queued", null, null,
+                Map.of("queue", name, "jobId", job.id, "rows", String.valueOf(rows.size()),
+                        "chunks", String.valueOf(job.totalChunks)));
+        return job.status();
+    }
+
+    /**
+     * @return the job's current status, or empty if the id is unknown or the job has been retired
+     */
+    public Optional<IngestionJobStatus> status(String jobId) {
+        Job<T> job = jobId == null ? null : jobs.get(jobId);
+        return job == null ? Optional.empty() : Optional.of(job.status());
+    }
+
+    private void run(Job<T> job) {
+        job.start();
+        try {
+            for (int chunk = 0; chunk < job.totalChunks; chunk++) {
+                int from = chunk * chunkSize;
+                List<T> rows = job.rows.subList(from, Math.min(from + chunkSize, job.rows.size()));
+                long startNanos = chunkMetrics.start();
+                try {
+                    chunkWriter.accept(rows);
+                    chunkMetrics.recordSuccess(startNanos, rows.size());
+                    job.chunkWritten(rows.size());
+                } catch (RuntimeException e) {
+                    chunkMetrics.recordFailure(startNanos);
+                    job.chunkFailed(new IngestionChunkError(chunk, from, rows.size(), rootMessage(e)));
+                    logger.log(LoggerUtil.LogLevel.WARN, "Ingestion chunk failed and was rolled back", e, null,
+                            Map.of("queue", name, "jobId", job.id, "chunk", String.valueOf(chunk)));
+                } finally {
+                    queuedRows.addAndGet(-rows.size());
+                }
+            }
+        } finally {
+            job.finish();
+            retire(job);
+        }
+
+        IngestionJobStatus status = job.status();
+        logger.log(LoggerUtil.LogLevel.INFO, "Ingestion job finished", null, null,
+                Map.of("queue", name, "jobId", job.id, "state", status.getState(),
+                        "rowsWritten", String.valueOf(status.getRowsWritten()),
+                        "failedChunks", String.valueOf(status.getFailedChunks()),
+                        "durationMs", String.valueOf(status.getRunningMs())));
+    }
+
+    private void retire(Job<T> job) {
+        finishedJobs.add(job.id);
+        if (finishedCount.incrementAndGet() > retainedJobs) {
+            String oldest = finishedJobs.poll();
+            if (oldest != null) {
+                finishedCount.decrementAndGet();
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    // Data access exceptions wrap the driver's message, which is the one that explains the failure
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    // Progress fields are written by the one worker running the job and read by status queries
+    private static final class Job<T> {
+        private final String id;
+        private final int totalRows;
+        private final int chunkSize;
+        private final int totalChunks;
+        private final long submittedAtMillis = System.currentTimeMillis();
+        private final long submittedNanos = System.nanoTime();
+        private final List<IngestionChunkError> errors = new CopyOnWriteArrayList<>();
+        private volatile List<T> rows;
+        private volatile State state = State.QUEUED;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+        private volatile int completedChunks;
+        private volatile int failedChunks;
+        private volatile long rowsWritten;
+        private volatile long rowsFailed;
+
+        private Job(String id, List<T> rows, int chunkSize) {
+            this.id = id;
+            this.rows = rows;
+            this.totalRows = rows.size();
+            this.chunkSize = chunkSize;
+            this.totalChunks = (rows.size() + chunkSize - 1) / chunkSize;
+        }
+
+        private void start() {
+            startedNanos = System.nanoTime();
+            state = State.RUNNING;
+        }
+
+        private void chunkWritten(int rowCount) {
+            rowsWritten += rowCount;
+            completedChunks++;
+        }
+
+        private void chunkFailed(IngestionChunkError error) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+            rowsFailed += error.getRowCount();
+            failedChunks++;
+        }
+
+        private void finish() {
+            rows = null; // Written or failed; nothing references the entities any more
+            finishedNanos = System.nanoTime();
+            if (failedChunks == 0) {
+                state = State.COMPLETED;
+            } else if (completedChunks == 0) {
+                state = State.FAILED;
+            } else {
+                state = State.COMPLETED_WITH_ERRORS;
+            }
+        }
+
+        private IngestionJobStatus status() {
+            State current = state;
+            long now = System.nanoTime();
+            long started = startedNanos;
+            long finished = finishedNanos;
+            long queuedNanos = (current == State.QUEUED ? now : started) - submittedNanos;
+            long runningNanos = current == State.QUEUED ? 0 : (finished != 0 ? finished : now) - started;
+            long written = rowsWritten;
+            long runningMs = TimeUnit.NANOSECONDS.toMillis(runningNanos);
+            return new IngestionJobStatus(id, current.name(), totalRows, chunkSize, totalChunks, completedChunks,
+                    failedChunks, written, rowsFailed, submittedAtMillis, TimeUnit.NANOSECONDS.toMillis(queuedNanos),
+                    runningMs, runningNanos > 0 ? written * TimeUnit.SECONDS.toNanos(1) / runningNanos : 0,
+                    new ArrayList<>(errors));
+        }
+    }
+}
@@ -1,16 +1,70 @@
 package com.example.DEMO_INTEGRATION.BAL.Interfaces;
 
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
 import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkWriteResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface IVoters4Service {
-    CompletableFuture<List<Voters4>> getAllVoters();
+    List<Voters4> getAllVoters();
 
-    CompletableFuture<Boolean> addVoters(List<Voters4> votersList);
+    CompletableFuture<List<Voters4>> getAllVotersAsync();
 
-    CompletableFuture<Boolean> updateVoter(Voters4 voter);
+    String getVotersVersionTag();
 
-    CompletableFuture<Boolean> deleteVoter(Integer voterId);
+    Optional<Voters4> getVoterById(Integer voterId);
+
+    long streamAllVoters(Consumer<Voters4> consumer);
+
+    KeysetPage<Voters4> getVotersPage(String sortBy, String pageToken, int size);
+
+    CompletableFuture<KeysetPage<Voters4>> getVotersPageAsync(String sortBy, String pageToken, int size);
+
+    List<Voters4> searchVoters(List<FilterCriterion> filters, int limit);
+
+    CompletableFuture<List<Voters4>> searchVotersAsync(List<FilterCriterion> filters, int limit);
+
+    boolean addVoters(List<Voters4> votersList);
+
+    CompletableFuture<Boolean> addVotersAsync(List<Voters4> votersList);
+
+    IngestionJobStatus submitVoterIngestion(List<Voters4> votersList);
+
+    Optional<IngestionJobStatus> getIngestionJob(String jobId);
+
+    BulkIngestResult bulkIngestVoters(InputStream source, BulkIngestFormat format, boolean csvHeader);
+
+    boolean updateVoter(Voters4 voter);
+
+    CompletableFuture<Boolean> updateVoterAsync(Voters4 voter);
+
+    boolean isWriteBehindEnabled();
+
+    CompletableFuture<Boolean> bufferVoterUpdate(Voters4 voter);
+
+    boolean deleteVoter(Integer voterId);
+
+    CompletableFuture<Boolean> deleteVoterAsync(Integer voterId);
+
+    BulkWriteResult updateVoters(List<Voters4> voters);
+
+    CompletableFuture<BulkWriteResult> updateVotersAsync(List<Voters4> voters);
+
+    UpsertResult upsertVoters(List<Voters4> voters);
+
+    CompletableFuture<UpsertResult> upsertVotersAsync(List<Voters4> voters);
+
+    BulkWriteResult deleteVoters(List<Integer> voterIds);
+
+    CompletableFuture<BulkWriteResult> deleteVotersAsync(List<Integer> voterIds);
 }
@@ -1,35 +1,84 @@
 package com.example.DEMO_INTEGRATION.BAL.Services;
 
+import com.example.DEMO_INTEGRATION.BAL.Ingestion.IngestionJobQueue;
 import com.example.DEMO_INTEGRATION.BAL.Interfaces.IVoters4Service;
+import com.example.DEMO_INTEGRATION.BAL.Spill.VoterWriteSpill;
+import com.example.DEMO_INTEGRATION.BAL.WriteBehind.WriteBehindBuffer;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
 import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
 import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkWriteResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Service
 public class Voters4Service implements IVoters4Service {
 
+    private static final OperationMetrics GET_ALL_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "getAllVoters");
+    private static final OperationMetrics GET_VOTER_BY_ID_METRICS = OperationMetrics.forOperation("Voters4Service", "getVoterById");
+    private static final OperationMetrics STREAM_ALL_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "streamAllVoters");
+    private static final OperationMetrics GET_VOTERS_PAGE_METRICS = OperationMetrics.forOperation("Voters4Service", "getVotersPage");
+    private static final OperationMetrics SEARCH_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "searchVoters");
+    private static final OperationMetrics ADD_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "addVoters");
+    private static final OperationMetrics SUBMIT_VOTER_INGESTION_METRICS = OperationMetrics.forOperation("Voters4Service", "submitVoterIngestion");
+    private static final OperationMetrics BULK_INGEST_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "bulkIngestVoters");
+    private static final OperationMetrics UPDATE_VOTER_METRICS = OperationMetrics.forOperation("Voters4Service", "updateVoter");
+    private static final OperationMetrics BUFFER_VOTER_UPDATE_METRICS = OperationMetrics.forOperation("Voters4Service", "bufferVoterUpdate");
+    private static final OperationMetrics DELETE_VOTER_METRICS = OperationMetrics.forOperation("Voters4Service", "deleteVoter");
+    private static final OperationMetrics UPDATE_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "updateVoters");
+    private static final OperationMetrics UPSERT_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "upsertVoters");
+    private static final OperationMetrics DELETE_VOTERS_METRICS = OperationMetrics.forOperation("Voters4Service", "deleteVoters");
+
     private final IVoters4Repository voters4Repository;
+    private final WriteBehindBuffer<Voters4> voterWriteBehind;
+    private final IngestionJobQueue<Voters4> voterIngestionQueue;
+    private final VoterWriteSpill voterWriteSpill;
     private final LoggerUtil logger;
+    private final int streamFetchSize;
+    private final List<String> upsertKeyAttributes;
+    private final int upsertChunkSize;
 
-    public Voters4Service(IVoters4Repository voters4Repository) {
+    public Voters4Service(IVoters4Repository voters4Repository,
+                          WriteBehindBuffer<Voters4> voterWriteBehind,
+                          IngestionJobQueue<Voters4> voterIngestionQueue,
+                          VoterWriteSpill voterWriteSpill,
+                          @Value("${app.voters4.stream.fetch-size:500}") int streamFetchSize,
+                          @Value("${app.voters4.upsert.key-attributes:id}") String[] upsertKeyAttributes,
+                          @Value("${app.voters4.upsert.chunk-size:1000}") int upsertChunkSize) {
+        if (upsertKeyAttributes.length == 0) throw new IllegalArgumentException("Upsert key attributes cannot be empty");
+        if (upsertChunkSize <= 0) throw new IllegalArgumentException("Upsert chunk size must be greater than 0");
         this.voters4Repository = voters4Repository;
+        this.voterWriteBehind = voterWriteBehind;
+        this.voterIngestionQueue = voterIngestionQueue;
+        this.voterWriteSpill = voterWriteSpill;
+        this.streamFetchSize = streamFetchSize;
+        this.upsertKeyAttributes = List.of(upsertKeyAttributes);
+        this.upsertChunkSize = upsertChunkSize;
         this.logger = LoggerUtil.getLogger(getClass());
     }
 
-
+    // Each operation comes in two forms: the plain method runs on the caller's thread (the blocking controller
+    // under virtual threads), and its ...Async twin runs the same code on the service executor.
     @Override
-    @Async
-    public CompletableFuture<List<Voters4>> getAllVoters() {
-        LocalDateTime startTime = LocalDateTime.now();
+    public List<Voters4> getAllVoters() {
+        long startNanos = GET_ALL_VOTERS_METRICS.start();
 
         try {
             logger.log(LoggerUtil.LogLevel.DEBUG, "Fetching all voters4 records", null,
@@ -37,15 +86,17 @@ public class Voters4Service implements IVoters4Service {
 
             List<Voters4> result = voters4Repository.getAllVoters();
 
+            long durationMs = GET_ALL_VOTERS_METRICS.recordSuccess(startNanos, result.size());
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully fetched voters4 records", null,
                     Map.of(
                             "operation", "getAllVoters",
                             "resultCount", String.valueOf(result.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(durationMs)
                     ));
 
-            return CompletableFuture.completedFuture(result);
+            return result;
         } catch (Exception e) {
+            GET_ALL_VOTERS_METRICS.recordFailure(startNanos);
             logger.log(LoggerUtil.LogLevel.ERROR, "Failed to fetch voters4 records", e, null,
                     Map.of("operation", "getAllVoters"));
             throw e;
@@ -54,24 +105,158 @@ public class Voters4Service implements IVoters4Service {
 
     @Override
     @Async
-    public CompletableFuture<Boolean> addVoters(List<Voters4> votersList) {
-        LocalDateTime startTime = LocalDateTime.now();
+    public CompletableFuture<List<Voters4>> getAllVotersAsync() {
+        return CompletableFuture.completedFuture(getAllVoters());
+    }
+
+    // In-memory read; lets callers skip getAllVoters when nothing changed
+    @Override
+    public String getVotersVersionTag() {
+        return voters4Repository.getVotersVersionTag();
+    }
+
+    // Runs on the caller's thread: lookups are usually cache hits, cheaper than handing off to the executor
+    @Override
+    public Optional<Voters4> getVoterById(Integer voterId) {
+        long startNanos = GET_VOTER_BY_ID_METRICS.start();
+        try {
+            Optional<Voters4> result = voters4Repository.getVoterById(voterId);
+            GET_VOTER_BY_ID_METRICS.recordSuccess(startNanos, result.isPresent() ? 1 : 0);
+            return result;
+        } catch (IllegalArgumentException e) {
+            GET_VOTER_BY_ID_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid voter id", e, null,
+                    Map.of("operation", "getVoterById"));
+            throw e;
+        } catch (Exception e) {
+            GET_VOTER_BY_ID_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to fetch voters4 record", e, null,
+                    Map.of("operation", "getVoterById", "voterId", String.valueOf(voterId)));
+            throw e;
+        }
+    }
+
+    // Runs on the caller's thread: the consumer writes straight to the HTTP response while the cursor is open
+    @Override
+    public long streamAllVoters(Consumer<Voters4> consumer) {
+        long startNanos = STREAM_ALL_VOTERS_METRICS.start();
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Streaming all voters4 records", null,
+                    Map.of("operation", "streamAllVoters", "fetchSize", String.valueOf(streamFetchSize)));
+
+            long count = voters4Repository.streamAllVoters(streamFetchSize, consumer);
+
+            long durationMs = STREAM_ALL_VOTERS_METRICS.recordSuccess(startNanos, count);
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully streamed voters4 records", null,
+                    Map.of(
+                            "operation", "streamAllVoters",
+                            "resultCount", String.valueOf(count),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+
+            return count;
+        } catch (Exception e) {
+            STREAM_ALL_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to stream voters4 records", e, null,
+                    Map.of("operation", "streamAllVoters"));
+            throw e;
+        }
+    }
+
+    @Override
+    public KeysetPage<Voters4> getVotersPage(String sortBy, String pageToken, int size) {
+        long startNanos = GET_VOTERS_PAGE_METRICS.start();
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Fetching voters4 page", null,
+                    Map.of("operation", "getVotersPage", "size", String.valueOf(size)));
+
+            KeysetPage<Voters4> result = voters4Repository.getVotersPage(sortBy, pageToken, size);
+
+            long durationMs = GET_VOTERS_PAGE_METRICS.recordSuccess(startNanos, result.getSize());
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully fetched voters4 page", null,
+                    Map.of(
+                            "operation", "getVotersPage",
+                            "resultCount", String.valueOf(result.getSize()),
+                            "hasMore", String.valueOf(result.isHasMore()),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+
+            return result;
+        } catch (Exception e) {
+            GET_VOTERS_PAGE_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to fetch voters4 page", e, null,
+                    Map.of("operation", "getVotersPage"));
+            throw e;
+        }
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<KeysetPage<Voters4>> getVotersPageAsync(String sortBy, String pageToken, int size) {
+        return CompletableFuture.completedFuture(getVotersPage(sortBy, pageToken, size));
+    }
+
+    @Override
+    public List<Voters4> searchVoters(List<FilterCriterion> filters, int limit) {
+        long startNanos = SEARCH_VOTERS_METRICS.start();
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Searching voters4 records", null,
+                    Map.of("operation", "searchVoters", "filters", String.valueOf(filters)));
+
+            List<Voters4> result = voters4Repository.searchVoters(filters, limit);
+
+            long durationMs = SEARCH_VOTERS_METRICS.recordSuccess(startNanos, result.size());
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully searched voters4 records", null,
+                    Map.of(
+                            "operation", "searchVoters",
+                            "resultCount", String.valueOf(result.size()),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+
+            return result;
+        } catch (Exception e) {
+            SEARCH_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to search voters4 records", e, null,
+                    Map.of("operation", "searchVoters"));
+            throw e;
+        }
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<List<Voters4>> searchVotersAsync(List<FilterCriterion> filters, int limit) {
+        return CompletableFuture.completedFuture(searchVoters(filters, limit));
+    }
+
+    @Override
+    public boolean addVoters(List<Voters4> votersList) {
+        long startNanos = ADD_VOTERS_METRICS.start();
 
         try {
             logger.log(LoggerUtil.LogLevel.DEBUG, "Adding voters4 records", null,
                     Map.of("operation", "addVoters"));
 
-            boolean result = voters4Repository.addVoters(votersList);
+            boolean result = addOrSpillVoters(votersList);
 
+            long durationMs = ADD_VOTERS_METRICS.recordSuccess(startNanos, votersList.size());
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully added voters4 records", null,
                     Map.of(
                             "operation", "addVoters",
                             "addedCount", String.valueOf(votersList.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(durationMs)
                     ));
 
-            return CompletableFuture.completedFuture(result);
+            return result;
+        } catch (RejectedExecutionException e) {
+            ADD_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to add voters4 records: spill journal full", e, null,
+                    Map.of("operation", "addVoters"));
+            throw e;
         } catch (Exception e) {
+            ADD_VOTERS_METRICS.recordFailure(startNanos);
             logger.log(LoggerUtil.LogLevel.ERROR, "Failed to add voters4 records", e, null,
                     Map.of("operation", "addVoters"));
             throw new DataAccessException("Unexpected error adding voters", e) {};
@@ -80,24 +265,105 @@ public class Voters4Service implements IVoters4Service {
 
     @Override
     @Async
-    public CompletableFuture<Boolean> updateVoter(Voters4 voter) {
-        LocalDateTime startTime = LocalDateTime.now();
+    public CompletableFuture<Boolean> addVotersAsync(List<Voters4> votersList) {
+        return CompletableFuture.completedFuture(addVoters(votersList));
+    }
+
+    // Not @Async: only queues the job, which runs on the ingestion executor.
+    // Chunks are persisted, so unlike addVoters a voter with an id cannot be merged and is rejected up front.
+    @Override
+    public IngestionJobStatus submitVoterIngestion(List<Voters4> votersList) {
+        long startNanos = SUBMIT_VOTER_INGESTION_METRICS.start();
+        int requested = votersList != null ? votersList.size() : 0;
+
+        try {
+            if (votersList != null && votersList.stream().anyMatch(voter -> voter != null && voter.getId() != null)) {
+                throw new IllegalArgumentException("Voters queued for ingestion cannot carry an id; use async=false to merge them");
+            }
+            IngestionJobStatus status = voterIngestionQueue.submit(votersList);
+
+            long durationMs = SUBMIT_VOTER_INGESTION_METRICS.recordSuccess(startNanos, requested);
+            logger.log(LoggerUtil.LogLevel.INFO, "Queued voters4 ingestion job", null,
+                    Map.of(
+                            "operation", "submitVoterIngestion",
+                            "jobId", status.getJobId(),
+                            "inputCount", String.valueOf(requested),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+            return status;
+        } catch (IllegalArgumentException | RejectedExecutionException e) {
+            SUBMIT_VOTER_INGESTION_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voters4 ingestion job not queued", e, null,
+                    Map.of("operation", "submitVoterIngestion", "inputCount", String.valueOf(requested)));
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<IngestionJobStatus> getIngestionJob(String jobId) {
+        return voterIngestionQueue.status(jobId);
+    }
+
+    // Runs on the caller's thread: the source is the live request body and is consumed while the COPY runs
+    @Override
+    public BulkIngestResult bulkIngestVoters(InputStream source, BulkIngestFormat format, boolean csvHeader) {
+        long startNanos = BULK_INGEST_VOTERS_METRICS.start();
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Bulk ingesting voters4 records", null,
+                    Map.of("operation", "bulkIngestVoters", "format", String.valueOf(format)));
+
+            voterWriteSpill.rejectWhileBacklogged("bulkIngestVoters");
+            BulkIngestResult result = voters4Repository.bulkIngestVoters(source, format, csvHeader);
+
+            BULK_INGEST_VOTERS_METRICS.recordSuccess(startNanos, result.getLoaded());
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully bulk ingested voters4 records", null,
+                    Map.of(
+                            "operation", "bulkIngestVoters",
+                            "loaded", String.valueOf(result.getLoaded()),
+                            "rejected", String.valueOf(result.getRejected()),
+                            "durationMs", String.valueOf(result.getDurationMs())
+                    ));
+
+            return result;
+        } catch (RejectedExecutionException e) {
+            BULK_INGEST_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voters4 bulk ingest refused while the spill journal replays", e, null,
+                    Map.of("operation", "bulkIngestVoters"));
+            throw e;
+        } catch (Exception e) {
+            BULK_INGEST_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk ingest voters4 records", e, null,
+                    Map.of("operation", "bulkIngestVoters"));
+            throw new DataAccessException("Unexpected error bulk ingesting voters", e) {};
+        }
+    }
+
+    @Override
+    public boolean updateVoter(Voters4 voter) {
+        long startNanos = UPDATE_VOTER_METRICS.start();
 
         try {
             logger.log(LoggerUtil.LogLevel.DEBUG, "Updating voter4 record", null,
                     Map.of("operation", "updateVoter", "voterId", voter.getId() != null ? voter.getId().toString() : "null"));
 
-            boolean result = voters4Repository.updateVoter(voter);
+            boolean result = updateOrSpillVoter(voter);
 
+            long durationMs = UPDATE_VOTER_METRICS.recordSuccess(startNanos, result ? 1 : 0);
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully updated voter4 record", null,
                     Map.of(
                             "operation", "updateVoter",
                             "voterId", voter.getId() != null ? voter.getId().toString() : "null",
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(durationMs)
                     ));
 
-            return CompletableFuture.completedFuture(result);
+            return result;
+        } catch (RejectedExecutionException e) {
+            UPDATE_VOTER_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to update voter4 record: spill journal full", e, null,
+                    Map.of("operation", "updateVoter", "voterId", voter.getId() != null ? voter.getId().toString() : "null"));
+            throw e;
         } catch (Exception e) {
+            UPDATE_VOTER_METRICS.recordFailure(startNanos);
             logger.log(LoggerUtil.LogLevel.ERROR, "Failed to update voter4 record", e, null,
                     Map.of("operation", "updateVoter", "voterId", voter.getId() != null ? voter.getId().toString() : "null"));
             throw new DataAccessException("Unexpected error updating voter", e) {};
@@ -106,27 +372,231 @@ public class Voters4Service implements IVoters4Service {
 
     @Override
     @Async
-    public CompletableFuture<Boolean> deleteVoter(Integer voterId) {
-        LocalDateTime startTime = LocalDateTime.now();
+    public CompletableFuture<Boolean> updateVoterAsync(Voters4 voter) {
+        return CompletableFuture.completedFuture(updateVoter(voter));
+    }
+
+    @Override
+    public boolean isWriteBehindEnabled() {
+        return voterWriteBehind.isEnabled();
+    }
+
+    // Not @Async: queuing is cheap, and under ack-on-flush the future must not hold an executor thread until the flush
+    @Override
+    public CompletableFuture<Boolean> bufferVoterUpdate(Voters4 voter) {
+        long startNanos = BUFFER_VOTER_UPDATE_METRICS.start();
+        String voterId = voter != null && voter.getId() != null ? voter.getId().toString() : "null";
+
+        try {
+            CompletableFuture<Boolean> ack = voterWriteBehind.submit(voter);
+            BUFFER_VOTER_UPDATE_METRICS.recordSuccess(startNanos, 1);
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Queued voter4 update for write-behind", null,
+                    Map.of("operation", "bufferVoterUpdate", "voterId", voterId));
+            return ack;
+        } catch (IllegalArgumentException | RejectedExecutionException e) {
+            BUFFER_VOTER_UPDATE_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voter4 update not queued for write-behind", e, null,
+                    Map.of("operation", "bufferVoterUpdate", "voterId", voterId));
+            throw e;
+        }
+    }
+
+    // Writes go to the spill journal while it still holds earlier ones (to keep their order) or when the
+    // database cannot be reached; the journal replays them once it can
+    private boolean addOrSpillVoters(List<Voters4> votersList) {
+        if (voterWriteSpill.hasBacklog()) {
+            voterWriteSpill.spillAdd(votersList);
+            return true;
+        }
+        try {
+            return voters4Repository.addVoters(votersList);
+        } catch (RuntimeException e) {
+            if (!voterWriteSpill.canSpill(e)) {
+                throw e;
+            }
+            voterWriteSpill.spillAdd(votersList);
+            logger.log(LoggerUtil.LogLevel.WARN, "Database unavailable, voters4 records spilled to the journal", e, null,
+                    Map.of("operation", "addVoters", "inputCount", String.valueOf(votersList.size())));
+            return true;
+        }
+    }
+
+    private boolean updateOrSpillVoter(Voters4 voter) {
+        if (voterWriteSpill.hasBacklog()) {
+            voterWriteSpill.spillUpdate(voter);
+            return true;
+        }
+        try {
+            return voters4Repository.updateVoter(voter);
+        } catch (RuntimeException e) {
+            if (!voterWriteSpill.canSpill(e)) {
+                throw e;
+            }
+            voterWriteSpill.spillUpdate(voter);
+            logger.log(LoggerUtil.LogLevel.WARN, "Database unavailable, voter4 update spilled to the journal", e, null,
+                    Map.of("operation", "updateVoter", "voterId", voter.getId() != null ? voter.getId().toString() : "null"));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean deleteVoter(Integer voterId) {
+        long startNanos = DELETE_VOTER_METRICS.start();
 
         try {
             logger.log(LoggerUtil.LogLevel.DEBUG, "Deleting voter4 record", null,
                     Map.of("operation", "deleteVoter", "voterId", voterId != null ? voterId.toString() : "null"));
 
+            voterWriteSpill.rejectWhileBacklogged("deleteVoter");
             boolean result = voters4Repository.deleteVoter(voterId);
 
+            long durationMs = DELETE_VOTER_METRICS.recordSuccess(startNanos, result ? 1 : 0);
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully deleted voter4 record", null,
                     Map.of(
                             "operation", "deleteVoter",
                             "voterId", voterId != null ? voterId.toString() : "null",
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(durationMs)
                     ));
 
-            return CompletableFuture.completedFuture(result);
+            return result;
+        } catch (RejectedExecutionException e) {
+            DELETE_VOTER_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voter4 delete refused while the spill journal replays", e, null,
+                    Map.of("operation", "deleteVoter"));
+            throw e;
         } catch (Exception e) {
+            DELETE_VOTER_METRICS.recordFailure(startNanos);
             logger.log(LoggerUtil.LogLevel.ERROR, "Failed to delete voter4 record", e, null,
                     Map.of("operation", "deleteVoter", "voterId", voterId != null ? voterId.toString() : "null"));
             throw new DataAccessException("Unexpected error deleting voter", e) {};
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Async
+    public CompletableFuture<Boolean> deleteVoterAsync(Integer voterId) {
+        return CompletableFuture.completedFuture(deleteVoter(voterId));
+    }
+
+    @Override
+    public BulkWriteResult updateVoters(List<Voters4> voters) {
+        long startNanos = UPDATE_VOTERS_METRICS.start();
+        int requested = voters != null ? voters.size() : 0;
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Bulk updating voters4 records", null,
+                    Map.of("operation", "updateVoters", "inputCount", String.valueOf(requested)));
+
+            voterWriteSpill.rejectWhileBacklogged("updateVoters");
+            int updated = voters4Repository.updateVoters(voters);
+            long durationMs = UPDATE_VOTERS_METRICS.recordSuccess(startNanos, updated);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully bulk updated voters4 records", null,
+                    Map.of(
+                            "operation", "updateVoters",
+                            "updatedCount", String.valueOf(updated),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+
+            return new BulkWriteResult(requested, updated, durationMs);
+        } catch (RejectedExecutionException e) {
+            UPDATE_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voters4 bulk update refused while the spill journal replays", e, null,
+                    Map.of("operation", "updateVoters"));
+            throw e;
+        } catch (Exception e) {
+            UPDATE_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk update voters4 records", e, null,
+                    Map.of("operation", "updateVoters"));
+            throw new DataAccessException("Unexpected error bulk updating voters", e) {};
+        }
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<BulkWriteResult> updateVotersAsync(List<Voters4> voters) {
+        return CompletableFuture.completedFuture(updateVoters(voters));
+    }
+
+    @Override
+    public UpsertResult upsertVoters(List<Voters4> voters) {
+        long startNanos = UPSERT_VOTERS_METRICS.start();
+        int requested = voters != null ? voters.size() : 0;
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Upserting voters4 records", null,
+                    Map.of("operation", "upsertVoters", "inputCount", String.valueOf(requested)));
+
+            voterWriteSpill.rejectWhileBacklogged("upsertVoters");
+            UpsertResult result = voters4Repository.upsertVoters(voters, upsertKeyAttributes, upsertChunkSize);
+            long durationMs = UPSERT_VOTERS_METRICS.recordSuccess(startNanos, requested);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully upserted voters4 records", null,
+                    Map.of(
+                            "operation", "upsertVoters",
+                            "insertedCount", String.valueOf(result.getInserted()),
+                            "updatedCount", String.valueOf(result.getUpdated()),
+                            "unchangedCount", String.valueOf(result.getUnchanged()),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+
+            return result;
+        } catch (RejectedExecutionException e) {
+            UPSERT_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voters4 upsert refused while the spill journal replays", e, null,
+                    Map.of("operation", "upsertVoters"));
+            throw e;
+        } catch (Exception e) {
+            UPSERT_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to upsert voters4 records", e, null,
+                    Map.of("operation", "upsertVoters"));
+            throw new DataAccessException("Unexpected error upserting voters", e) {};
+        }
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<UpsertResult> upsertVotersAsync(List<Voters4> voters) {
+        return CompletableFuture.completedFuture(upsertVoters(voters));
+    }
+
+    @Override
+    public BulkWriteResult deleteVoters(List<Integer> voterIds) {
+        long startNanos = DELETE_VOTERS_METRICS.start();
+        int requested = voterIds != null ? voterIds.size() : 0;
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Bulk deleting voters4 records", null,
+                    Map.of("operation", "deleteVoters", "inputCount", String.valueOf(requested)));
+
+            voterWriteSpill.rejectWhileBacklogged("deleteVoters");
+            int deleted = voters4Repository.deleteVoters(voterIds);
+            long durationMs = DELETE_VOTERS_METRICS.recordSuccess(startNanos, deleted);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully bulk deleted voters4 records", null,
+                    Map.of(
+                            "operation", "deleteVoters",
+                            "deletedCount", String.valueOf(deleted),
+                            "durationMs", String.valueOf(durationMs)
+                    ));
+
+            return new BulkWriteResult(requested, deleted, durationMs);
+        } catch (RejectedExecutionException e) {
+            DELETE_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Voters4 bulk delete refused while the spill journal replays", e, null,
+                    Map.of("operation", "deleteVoters"));
+            throw e;
+        } catch (Exception e) {
+            DELETE_VOTERS_METRICS.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk delete voters4 records", e, null,
+                    Map.of("operation", "deleteVoters"));
+            throw new DataAccessException("Unexpected error bulk deleting voters", e) {};
+        }
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<BulkWriteResult> deleteVotersAsync(List<Integer> voterIds) {
+        return CompletableFuture.completedFuture(deleteVoters(voterIds));
+    }
+}
@@ -0,0 +1,396 @@
+package com.example.DEMO_INTEGRATION.BAL.Spill;
+
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import com.example.DEMO_INTEGRATION.DAL.Journal.MappedSpillJournal;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.SpillJournalStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Accepts voter writes into a {@link MappedSpillJournal} while PostgreSQL is unreachable and replays them, in
+ * order, once it answers again. Inserts ({@code addVoters} and ingestion job chunks) and single-voter updates
+ * (direct or write-behind) can be journaled: such a write is spilled when it failed for a connection-level or
+ * transient reason (never for invalid data), and every later one is spilled too until the journal is drained.
+ * Any other voter write (bulk update, upsert, delete, bulk ingest) cannot be journaled and is refused through
+ * {@link #rejectWhileBacklogged} until then, so no write overtakes a spilled one.
+ *
+ * <p>One replay thread reads the journal in batches. Consecutive records of the same kind are applied with
+ * one set-based call ({@code addVoters} or {@code updateVoters}, updates coalesced per id); a transient failure
+ * backs off and retries from the checkpoint, and any other failure applies the batch record by record so
+ * only the records the database rejects are dropped. Replay is at-least-once: after a crash between applying
+ * a batch and checkpointing it the batch is applied again. That is harmless for updates; each insert record
+ * carries a random key that {@code addVotersOnce} claims in the transaction inserting its voters, so an insert
+ * already applied is skipped. Keys are released once their records are checkpointed.
+ */
+public class VoterWriteSpill implements SmartLifecycle {
+
+    private static final byte ADD_VOTERS = 1; // Written before inserts carried a key; replayed without one
+    private static final byte UPDATE_VOTER = 2;
+    private static final byte ADD_VOTERS_ONCE = 3;
+    private static final int MAX_NAME_LENGTH = 100; // "Name" column length
+    // Below the web server's stop phases, and stops after the write-behind buffer, whose final flush may spill
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4097;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JavaType VOTER_LIST = OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, Voters4.class);
+    private static final OperationMetrics REPLAY_METRICS = OperationMetrics.forOperation("VoterWriteSpill", "replay");
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(VoterWriteSpill.class);
+    private final IVoters4Repository voters4Repository;
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int replayBatch;
+    private final long retryBackoffNanos;
+
+    private volatile MappedSpillJournal journal;
+    private volatile Thread replayer;
+    private volatile boolean running;
+
+    private final LongAdder spilledAdds = new LongAdder();
+    private final LongAdder spilledUpdates = new LongAdder();
+    private final LongAdder replayedRecords = new LongAdder();
+    private final LongAdder replayedRows = new LongAdder();
+    private final LongAdder replayNanos = new LongAdder();
+    private final LongAdder replayRejected = new LongAdder();
+    private final LongAdder replayRetries = new LongAdder();
+    private volatile String lastReplayError;
+
+    /**
+     * @param segmentSize   bytes per journal segment file
+     * @param maxSegments   segment files kept at once; writes are rejected (HTTP 503) when all are full
+     * @param replayBatch   records read per replay round
+     * @param retryBackoff  wait before replaying again after the database failed transiently
+     */
+    public VoterWriteSpill(IVoters4Repository voters4Repository, boolean enabled, Path directory, int segmentSize,
+                           int maxSegments, int replayBatch, long retryBackoff, TimeUnit unit) {
+        if (replayBatch <= 0) throw new IllegalArgumentException("Replay batch must be greater than 0");
+        this.voters4Repository = voters4Repository;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.replayBatch = replayBatch;
+        this.retryBackoffNanos = unit.toNanos(retryBackoff);
+    }
+
+    /**
+     * @return true while earlier writes still wait in the journal; later writes must queue behind them
+     */
+    public boolean hasBacklog() {
+        MappedSpillJournal current = journal;
+        return current != null && !current.isEmpty();
+    }
+
+    /**
+     * Refuses a voter write that the journal cannot hold while earlier writes still wait in it, since applying
+     * it directly would overtake them.
+     *
+     * @param operation named in the rejection message
+     * @throws RejectedExecutionException if the journal has a backlog (HTTP 503)
+     */
+    public void rejectWhileBacklogged(String operation) {
+        if (hasBacklog()) {
+            throw new RejectedExecutionException("Voter spill journal is replaying earlier writes; " + operation
+                    + " is refused until it is drained");
+        }
+    }
+
+    /**
+     * @return true if the journal is open and the failure means the database could not be reached or timed out
+     */
+    public boolean canSpill(Throwable failure) {
+        return journal != null && isTransient(failure);
+    }
+
+    /**
+     * Appends an insert of the voters and returns once it is on disk.
+     *
+     * @throws IllegalArgumentException                        if a voter lacks a required column
+     * @throws java.util.concurrent.RejectedExecutionException if the journal is full or closed
+     */
+    public void spillAdd(List<Voters4> voters) {
+        if (voters == null || voters.isEmpty()) {
+            throw new IllegalArgumentException("Voters list cannot be null or empty");
+        }
+        for (Voters4 voter : voters) {
+            validate(voter);
+        }
+        append(ADD_VOTERS_ONCE, new KeyedVoters(UUID.randomUUID(), voters));
+        spilledAdds.add(voters.size());
+    }
+
+    /**
+     * Appends an update of the voter and returns once it is on disk.
+     *
+     * @throws IllegalArgumentException                        if the voter has no id or lacks a required column
+     * @throws java.util.concurrent.RejectedExecutionException if the journal is full or closed
+     */
+    public void spillUpdate(Voters4 voter) {
+        if (voter == null || voter.getId() == null) {
+            throw new IllegalArgumentException("Voter object or ID cannot be null");
+        }
+        validate(voter);
+        append(UPDATE_VOTER, voter);
+        spilledUpdates.increment();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        journal = new MappedSpillJournal(directory, segmentSize, maxSegments);
+        running = true;
+        Thread thread = new Thread(this::replayLoop, "voters4-spill-replay");
+        thread.setDaemon(true);
+        replayer = thread;
+        thread.start();
+        logger.log(LoggerUtil.LogLevel.INFO, "Voter spill journal opened", null, null,
+                Map.of("directory", directory.toString(), "pendingRecords", String.valueOf(journal.pendingRecords())));
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = replayer;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        replayer = null;
+        MappedSpillJournal current = journal;
+        journal = null;
+        current.close(); // Unreplayed records stay on disk for the next start
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        logger.log(LoggerUtil.LogLevel.INFO, "Voter spill journal closed", null, null,
+                Map.of("pendingRecords", String.valueOf(current.pendingRecords())));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void append(byte type, Object value) {
+        MappedSpillJournal current = journal;
+        if (current == null) {
+            throw new IllegalStateException("Voter spill journal is not open");
+        }
+        try {
+            current.append(type, OBJECT_MAPPER.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode voter for the spill journal", e);
+        }
+        LockSupport.unpark(replayer);
+    }
+
+    private void replayLoop() {
+        while (running) {
+            List<MappedSpillJournal.Record> records = journal.read(replayBatch);
+            if (records.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            int from = 0;
+            while (from < records.size() && running) {
+                byte type = records.get(from).getType();
+                int to = from;
+                while (to < records.size() && records.get(to).getType() == type) {
+                    to++;
+                }
+                if (!replayRun(type, records.subList(from, to))) {
+                    LockSupport.parkNanos(retryBackoffNanos); // Database still unavailable; retry from the checkpoint
+                    break;
+                }
+                from = to;
+            }
+        }
+    }
+
+    // Applies and commits consecutive records of one type; false if the database failed transiently
+    private boolean replayRun(byte type, List<MappedSpillJournal.Record> run) {
+        long startNanos = REPLAY_METRICS.start();
+        try {
+            List<UUID> keys = new ArrayList<>();
+            int rows = apply(type, run, keys);
+            REPLAY_METRICS.recordSuccess(startNanos, rows);
+            replayNanos.add(System.nanoTime() - startNanos);
+            journal.commit(run.get(run.size() - 1).getNextPosition(), run.size());
+            replayedRecords.add(run.size());
+            replayedRows.add(rows);
+            releaseKeys(keys);
+            return true;
+        } catch (RuntimeException e) {
+            REPLAY_METRICS.recordFailure(startNanos);
+            lastReplayError = e.getMessage();
+            if (isTransient(e)) {
+                replayRetries.increment();
+                logger.log(LoggerUtil.LogLevel.WARN, "Spill journal replay waiting for the database", e, null,
+                        Map.of("pendingRecords", String.valueOf(journal.pendingRecords())));
+                return false;
+            }
+            if (run.size() == 1) {
+                replayRejected.increment();
+                logger.log(LoggerUtil.LogLevel.ERROR, "Spilled voter write rejected by the database and dropped", e, null,
+                        Map.of("recordType", type == UPDATE_VOTER ? "updateVoter" : "addVoters"));
+                journal.commit(run.get(0).getNextPosition(), 1);
+                return true;
+            }
+        }
+        // A record the database rejects must not hold back the rest of the batch
+        for (MappedSpillJournal.Record record : run) {
+            if (!replayRun(type, List.of(record))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Adds the keys of applied insert records to appliedKeys
+    private int apply(byte type, List<MappedSpillJournal.Record> run, List<UUID> appliedKeys) {
+        try {
+            if (type == ADD_VOTERS_ONCE) {
+                Map<UUID, List<Voters4>> votersByKey = new LinkedHashMap<>();
+                for (MappedSpillJournal.Record record : run) {
+                    KeyedVoters keyed = OBJECT_MAPPER.readValue(record.getPayload(), KeyedVoters.class);
+                    votersByKey.put(keyed.key(), keyed.voters());
+                }
+                int rows = voters4Repository.addVotersOnce(votersByKey);
+                appliedKeys.addAll(votersByKey.keySet());
+                return rows;
+            }
+            if (type == ADD_VOTERS) {
+                List<Voters4> voters = new ArrayList<>();
+                for (MappedSpillJournal.Record record : run) {
+                    voters.addAll(OBJECT_MAPPER.<List<Voters4>>readValue(record.getPayload(), VOTER_LIST));
+                }
+                voters4Repository.addVoters(voters);
+                return voters.size();
+            }
+            // Last write per id wins, as it would have applied directly
+            Map<Integer, Voters4> latest = new LinkedHashMap<>();
+            for (MappedSpillJournal.Record record : run) {
+                Voters4 voter = OBJECT_MAPPER.readValue(record.getPayload(), Voters4.class);
+                latest.remove(voter.getId());
+                latest.put(voter.getId(), voter);
+            }
+            voters4Repository.updateVoters(new ArrayList<>(latest.values()));
+            return run.size();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable spill journal record", e);
+        }
+    }
+
+    // The keys only guard records that can still be read again; a key left behind is never reused
+    private void releaseKeys(List<UUID> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            voters4Repository.releaseWriteKeys(keys);
+        } catch (RuntimeException e) {
+            logger.log(LoggerUtil.LogLevel.WARN, "Spill journal write keys not released", e, null,
+                    Map.of("keys", String.valueOf(keys.size())));
+        }
+    }
+
+    private static void validate(Voters4 voter) {
+        if (voter == null || voter.getName() == null || voter.getAge() == null || voter.getIsAdult() == null) {
+            throw new IllegalArgumentException("Voter name, age and isAdult are required");
+        }
+        if (voter.getName().length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Voter name cannot be longer than " + MAX_NAME_LENGTH + " characters");
+        }
+    }
+
+    // Connection failures, timeouts and server shutdown or overload; SQLState classes 08, 53 and 57P
+    private static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof JDBCConnectionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                String state = sqlException.getSQLState();
+                if (state.startsWith("08") || state.startsWith("53") || state.startsWith("57P")) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private record KeyedVoters(UUID key, List<Voters4> voters) {
+    }
+
+    public SpillJournalStats snapshot() {
+        MappedSpillJournal current = journal;
+        long busyNanos = replayNanos.sum();
+        long rows = replayedRows.sum();
+        return new SpillJournalStats(enabled, running, directory.toString(),
+                current == null ? 0 : current.segmentCount(),
+                current == null ? 0 : current.diskBytes(),
+                (long) segmentSize * maxSegments,
+                current == null ? 0 : current.pendingRecords(),
+                current == null ? 0 : current.getAppended(),
+                current == null ? 0 : current.getAppendedBytes(),
+                current == null ? 0 : current.getFsyncs(),
+                current == null ? 0 : current.getRejected(),
+                current == null ? 0 : current.getRecoveredRecords(),
+                current == null ? 0 : current.getCorruptRecords(),
+                spilledAdds.sum(), spilledUpdates.sum(), replayedRecords.sum(), rows,
+                busyNanos == 0 ? 0 : rows * TimeUnit.SECONDS.toNanos(1) / busyNanos,
+                replayRejected.sum(), replayRetries.sum(), lastReplayError);
+    }
+}
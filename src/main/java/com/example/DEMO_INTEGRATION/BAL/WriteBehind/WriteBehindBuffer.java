@@ -0,0 +1,371 @@
+package com.example.DEMO_INTEGRATION.BAL.WriteBehind;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.WriteBehindStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Coalesces high-frequency updates per entity id and writes them in batches from one background thread.
+ * A later update for an id that is still pending replaces the earlier one (last write wins), so a burst of
+ * updates to one row costs one row in the next batch instead of one transaction each.
+ *
+ * <p>A batch is written when {@code flushSize} ids are pending or {@code flushInterval} has passed, whichever
+ * comes first. The {@link AckMode} decides what the caller's future means: {@code BUFFER} completes as soon as
+ * the update is queued, so updates not yet flushed are lost if the process dies; {@code FLUSH} completes once
+ * the batch holding the update has committed, with false if no row has the update's id. A full buffer rejects new ids with
+ * {@link RejectedExecutionException} (HTTP 503). A failed batch is retried whole up to {@code maxAttempts}
+ * times, then its rows are written one by one so a single bad row only fails itself.
+ *
+ * <p>Stopping refuses new updates and writes everything still pending before it returns. The phase puts that
+ * after the web server has finished its in-flight requests and before the connection pools are closed.
+ */
+public class WriteBehindBuffer<T> implements SmartLifecycle {
+
+    public enum AckMode { BUFFER, FLUSH }
+
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096; // below the web server's stop phases
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(WriteBehindBuffer.class);
+    private final String name;
+    private final boolean enabled;
+    private final AckMode ackMode;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final int capacity;
+    private final int maxAttempts;
+    private final Function<T, ?> idOf;
+    private final Function<List<T>, ? extends Set<?>> batchWriter;
+    private final OperationMetrics flushMetrics;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private Map<Object, Pending<T>> pending = new LinkedHashMap<>(); // guarded by lock
+    private boolean flushDue; // guarded by lock
+    private volatile boolean accepting;
+    private volatile Thread flusher;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder rowsMissing = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile int lastFlushRows;
+    private volatile long lastFlushMillis;
+
+    /**
+     * @param name          used for the flusher thread, logs and metrics
+     * @param enabled       false leaves the buffer stopped; {@link #submit} then rejects every update
+     * @param flushSize     pending ids that trigger a flush; also the largest batch written in one transaction
+     * @param flushInterval the longest an update waits in the buffer while fewer than flushSize ids are pending
+     * @param capacity      the most distinct ids held at once; updates to ids already pending are always taken
+     * @param maxAttempts   batch attempts before falling back to row-by-row writes
+     * @param idOf          the entity id; updates with equal ids coalesce
+     * @param batchWriter   writes one batch in one transaction and returns the ids of the rows it changed
+     */
+    public WriteBehindBuffer(String name, boolean enabled, AckMode ackMode, int flushSize, long flushInterval,
+                             TimeUnit unit, int capacity, int maxAttempts, Function<T, ?> idOf,
+                             Function<List<T>, ? extends Set<?>> batchWriter) {
+        if (flushSize <= 0) throw new IllegalArgumentException("Flush size must be greater than 0");
+        if (flushInterval <= 0) throw new IllegalArgumentException("Flush interval must be greater than 0");
+        if (capacity < flushSize) throw new IllegalArgumentException("Capacity cannot be smaller than the flush size");
+        if (maxAttempts <= 0) throw new IllegalArgumentException("Max attempts must be greater than 0");
+        this.name = name;
+        this.enabled = enabled;
+        this.ackMode = ackMode;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = unit.toNanos(flushInterval);
+        this.capacity = capacity;
+        this.maxAttempts = maxAttempts;
+        this.idOf = idOf;
+        this.batchWriter = batchWriter;
+        this.flushMetrics = OperationMetrics.forOperation("WriteBehindBuffer", name + ".flush");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues one update, replacing any pending update for the same id.
+     *
+     * @return completes with true when the update is acknowledged: at once under {@code BUFFER}, after its
+     *         batch commits under {@code FLUSH}. Under {@code FLUSH} it completes with false if no row has the
+     *         id, and exceptionally if the row could not be written
+     * @throws IllegalArgumentException   if the entity id is null
+     * @throws RejectedExecutionException if the buffer is stopped or full
+     */
+    public CompletableFuture<Boolean> submit(T entity) {
+        Object id = entity == null ? null : idOf.apply(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("Entity and its id cannot be null for a write-behind update");
+        }
+        CompletableFuture<Boolean> ack = ackMode == AckMode.FLUSH ? new CompletableFuture<>() : null;
+
+        lock.lock();
+        try {
+            if (!accepting) {
+                rejected.increment();
+                throw new RejectedExecutionException("Write-behind buffer [" + name + "] is not accepting updates");
+            }
+            Pending<T> entry = pending.get(id);
+            if (entry != null) {
+                entry.value = entity;
+                entry.attempts = 0;
+                coalesced.increment();
+            } else {
+                if (pending.size() >= capacity) {
+                    rejected.increment();
+                    requestFlush();
+                    throw new RejectedExecutionException("Write-behind buffer [" + name + "] is full with " + capacity + " pending ids");
+                }
+                entry = new Pending<>(id, entity);
+                pending.put(id, entry);
+                if (pending.size() >= flushSize) {
+                    requestFlush();
+                }
+            }
+            if (ack != null) {
+                entry.waiters.add(ack);
+            }
+            submitted.increment();
+        } finally {
+            lock.unlock();
+        }
+        return ack != null ? ack : CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || flusher != null) {
+            return;
+        }
+        accepting = true;
+        Thread thread = new Thread(this::flushLoop, name + "-write-behind");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+        logger.log(LoggerUtil.LogLevel.INFO, "Write-behind buffer started", null, null,
+                Map.of("buffer", name, "ackMode", ackMode.name(), "flushSize", String.valueOf(flushSize),
+                        "flushIntervalMs", String.valueOf(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos))));
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = flusher;
+        if (thread == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            accepting = false;
+            requestFlush();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        flusher = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        logger.log(LoggerUtil.LogLevel.INFO, "Write-behind buffer drained and stopped", null, null,
+                Map.of("buffer", name, "rowsWritten", String.valueOf(rowsWritten.sum()), "dropped", String.valueOf(dropped.sum())));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // Caller holds the lock
+    private void requestFlush() {
+        flushDue = true;
+        flushRequested.signal();
+    }
+
+    private void flushLoop() {
+        for (;;) {
+            Map<Object, Pending<T>> batch = takeBatch();
+            if (batch == null) {
+                return;
+            }
+            List<Pending<T>> entries = new ArrayList<>(batch.values());
+            for (int from = 0; from < entries.size(); from += flushSize) {
+                writeBatch(entries.subList(from, Math.min(from + flushSize, entries.size())));
+            }
+        }
+    }
+
+    // Waits for a size trigger, the interval or stop; null once stopped with nothing left to write
+    private Map<Object, Pending<T>> takeBatch() {
+        lock.lock();
+        try {
+            long remainingNanos = flushIntervalNanos;
+            while (accepting && !flushDue && remainingNanos > 0) {
+                try {
+                    remainingNanos = flushRequested.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    break; // Flush early; only stop() ends the loop
+                }
+            }
+            flushDue = false;
+            if (pending.isEmpty()) {
+                return accepting ? Map.of() : null;
+            }
+            Map<Object, Pending<T>> batch = pending;
+            pending = new LinkedHashMap<>();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeBatch(List<Pending<T>> batch) {
+        List<T> values = new ArrayList<>(batch.size());
+        for (Pending<T> entry : batch) {
+            values.add(entry.value);
+        }
+
+        long startNanos = flushMetrics.start();
+        try {
+            Set<?> written = batchWriter.apply(values);
+            int updated = written.size();
+            long durationMs = flushMetrics.recordSuccess(startNanos, updated);
+            flushes.increment();
+            rowsWritten.add(updated);
+            rowsMissing.add(Math.max(0, batch.size() - updated));
+            lastFlushRows = batch.size();
+            lastFlushMillis = durationMs;
+            for (Pending<T> entry : batch) {
+                entry.complete(written.contains(entry.id));
+            }
+        } catch (RuntimeException e) {
+            flushMetrics.recordFailure(startNanos);
+            failedFlushes.increment();
+            logger.log(LoggerUtil.LogLevel.WARN, "Write-behind flush failed", e, null,
+                    Map.of("buffer", name, "batchSize", String.valueOf(batch.size())));
+
+            boolean retryable = !isInvalidInput(e);
+            for (Pending<T> entry : batch) {
+                entry.attempts++;
+                if (retryable && entry.attempts < maxAttempts) {
+                    requeue(entry);
+                } else {
+                    writeAlone(entry);
+                }
+            }
+        }
+    }
+
+    // Invalid input fails every attempt the same way, so its rows are isolated straight away. The repository
+    // proxy translates IllegalArgumentException into a DataAccessException, hence the cause walk.
+    private static boolean isInvalidInput(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeAlone(Pending<T> entry) {
+        long startNanos = flushMetrics.start();
+        try {
+            boolean written = batchWriter.apply(List.of(entry.value)).contains(entry.id);
+            flushMetrics.recordSuccess(startNanos, written ? 1 : 0);
+            rowsWritten.add(written ? 1 : 0);
+            rowsMissing.add(written ? 0 : 1);
+            entry.complete(written);
+        } catch (RuntimeException e) {
+            flushMetrics.recordFailure(startNanos);
+            dropped.increment();
+            logger.log(LoggerUtil.LogLevel.ERROR, "Write-behind update dropped after " + entry.attempts + " attempts", e, null,
+                    Map.of("buffer", name, "entityId", String.valueOf(entry.id)));
+            entry.fail(e);
+        }
+    }
+
+    // A newer pending update for the same id supersedes this one and takes over its waiters
+    private void requeue(Pending<T> entry) {
+        retried.increment();
+        lock.lock();
+        try {
+            Pending<T> newer = pending.get(entry.id);
+            if (newer == null) {
+                pending.put(entry.id, entry);
+            } else {
+                newer.waiters.addAll(entry.waiters);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public WriteBehindStats snapshot() {
+        int depth;
+        lock.lock();
+        try {
+            depth = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        return new WriteBehindStats(name, enabled, isRunning(), ackMode.name(), flushSize,
+                TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos), capacity, depth, submitted.sum(), coalesced.sum(),
+                rejected.sum(), flushes.sum(), rowsWritten.sum(), rowsMissing.sum(), failedFlushes.sum(), retried.sum(),
+                dropped.sum(), lastFlushRows, lastFlushMillis);
+    }
+
+    private static final class Pending<T> {
+        private final Object id;
+        private final List<CompletableFuture<Boolean>> waiters = new ArrayList<>(1);
+        private T value;
+        private int attempts;
+
+        private Pending(Object id, T value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        private void complete(boolean written) {
+            for (CompletableFuture<Boolean> waiter : waiters) {
+                waiter.complete(written);
+            }
+        }
+
+        private void fail(Throwable cause) {
+            for (CompletableFuture<Boolean> waiter : waiters) {
+                waiter.completeExceptionally(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.DEMO_INTEGRATION.Controller;
+
+import com.example.DEMO_INTEGRATION.BAL.Spill.VoterWriteSpill;
+import com.example.DEMO_INTEGRATION.BAL.WriteBehind.WriteBehindBuffer;
+import com.example.DEMO_INTEGRATION.DAL.Routing.ReadWriteRoutingDataSource;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.CacheStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.DataSourceRoutingStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.ExecutorStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.OperationStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.PinningStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.RegionCacheStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.SpillJournalStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.StructuredLogStats;
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.WriteBehindStats;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.GenericCacheUtil;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.SecondLevelCacheStatsProvider;
+import com.example.DEMO_INTEGRATION.Utils.Executor.MonitoredExecutor;
+import com.example.DEMO_INTEGRATION.Utils.Executor.VirtualThreadPinningMonitor;
+import com.example.DEMO_INTEGRATION.Utils.Logger.StructuredLogPipeline;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.PrometheusTextFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/system")
+public class SystemMetricsController {
+
+    private final List<MonitoredExecutor> executors;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final List<GenericCacheUtil<?, ?>> caches;
+    private final SecondLevelCacheStatsProvider secondLevelCacheStats;
+    private final StructuredLogPipeline structuredLogPipeline;
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final List<WriteBehindBuffer<?>> writeBehindBuffers;
+    private final VoterWriteSpill voterWriteSpill;
+
+    @Autowired
+    public SystemMetricsController(List<MonitoredExecutor> executors, VirtualThreadPinningMonitor pinningMonitor,
+                                   List<GenericCacheUtil<?, ?>> caches, SecondLevelCacheStatsProvider secondLevelCacheStats,
+                                   StructuredLogPipeline structuredLogPipeline, ReadWriteRoutingDataSource routingDataSource,
+                                   List<WriteBehindBuffer<?>> writeBehindBuffers, VoterWriteSpill voterWriteSpill) {
+        this.executors = executors;
+        this.pinningMonitor = pinningMonitor;
+        this.caches = caches;
+        this.secondLevelCacheStats = secondLevelCacheStats;
+        this.structuredLogPipeline = structuredLogPipeline;
+        this.routingDataSource = routingDataSource;
+        this.writeBehindBuffers = writeBehindBuffers;
+        this.voterWriteSpill = voterWriteSpill;
+    }
+
+    // Endpoint: /api/v1/system/executors
+    @GetMapping("/executors")
+    public ResponseEntity<List<ExecutorStats>> getExecutorStats() {
+        List<ExecutorStats> stats = new ArrayList<>(executors.size());
+        for (MonitoredExecutor executor : executors) {
+            stats.add(executor.snapshot());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    // Endpoint: /api/v1/system/virtual-threads/pinning
+    @GetMapping("/virtual-threads/pinning")
+    public ResponseEntity<PinningStats> getPinningStats() {
+        return ResponseEntity.ok(pinningMonitor.snapshot());
+    }
+
+    // Endpoint: /api/v1/system/caches
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStats>> getCacheStats() {
+        List<CacheStats> stats = new ArrayList<>(caches.size());
+        for (GenericCacheUtil<?, ?> cache : caches) {
+            stats.add(cache.snapshot());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    // Endpoint: /api/v1/system/second-level-cache
+    @GetMapping("/second-level-cache")
+    public ResponseEntity<List<RegionCacheStats>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheStats.snapshot());
+    }
+
+    // Endpoint: /api/v1/system/structured-log
+    @GetMapping("/structured-log")
+    public ResponseEntity<StructuredLogStats> getStructuredLogStats() {
+        return ResponseEntity.ok(structuredLogPipeline.snapshot());
+    }
+
+    // Endpoint: /api/v1/system/datasource-routing
+    @GetMapping("/datasource-routing")
+    public ResponseEntity<DataSourceRoutingStats> getDataSourceRoutingStats() {
+        return ResponseEntity.ok(routingDataSource.snapshot());
+    }
+
+    // Endpoint: /api/v1/system/write-behind
+    @GetMapping("/write-behind")
+    public ResponseEntity<List<WriteBehindStats>> getWriteBehindStats() {
+        List<WriteBehindStats> stats = new ArrayList<>(writeBehindBuffers.size());
+        for (WriteBehindBuffer<?> buffer : writeBehindBuffers) {
+            stats.add(buffer.snapshot());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    // Endpoint: /api/v1/system/spill-journal
+    @GetMapping("/spill-journal")
+    public ResponseEntity<SpillJournalStats> getSpillJournalStats() {
+        return ResponseEntity.ok(voterWriteSpill.snapshot());
+    }
+
+    // Endpoint: /api/v1/system/operations
+    @GetMapping("/operations")
+    public ResponseEntity<List<OperationStats>> getOperationStats() {
+        List<OperationStats> stats = new ArrayList<>();
+        for (OperationMetrics metrics : OperationMetrics.all()) {
+            stats.add(metrics.snapshot());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    // Endpoint: /api/v1/system/metrics (Prometheus scrape target)
+    @GetMapping("/metrics")
+    public ResponseEntity<String> getPrometheusMetrics() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, PrometheusTextFormat.CONTENT_TYPE)
+                .body(PrometheusTextFormat.format(OperationMetrics.all()));
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.DEMO_INTEGRATION.Controller;
+
+import com.example.DEMO_INTEGRATION.BAL.Interfaces.IVoters4Service;
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.ResponseSnapshotCache;
+import com.example.DEMO_INTEGRATION.Utils.ErrorResponse.ErrorResponseUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil.LogLevel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@link Voters4Controller} endpoints whose work runs on the service executor, used on platform threads:
+ * each handler returns a future at once, so Tomcat's thread is free while the query runs.
+ * {@link Voters4BlockingController} replaces this class when {@code spring.threads.virtual.enabled=true}.
+ */
+@RestController
+@RequestMapping("/api/v1/voters4")
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+public class Voters4AsyncController {
+
+    private static final LogContext GET_ALL_VOTERS_LOG_CONTEXT = LogContext.of("operation", "getAllVoters");
+
+    private final IVoters4Service voters4Service;
+    private final ResponseSnapshotCache<List<Voters4>> allVotersSnapshot;
+    private final LoggerUtil logger;
+
+    @Autowired
+    public Voters4AsyncController(IVoters4Service voters4Service, ResponseSnapshotCache<List<Voters4>> allVotersSnapshot) {
+        this.voters4Service = voters4Service;
+        this.allVotersSnapshot = allVotersSnapshot;
+        this.logger = LoggerUtil.getLogger(getClass());
+    }
+
+    // Endpoint: /api/v1/voters4/get-all-voters
+    @GetMapping("/get-all-voters")
+    public CompletableFuture<ResponseEntity<?>> getAllVoters(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            // Read the version before the rows: the body is then at least as new as its tag
+            ETag etag = ETag.create(voters4Service.getVotersVersionTag());
+            if (Voters4Controller.matchesAny(ifNoneMatch, etag)) {
+                logger.log(LogLevel.DEBUG, GET_ALL_VOTERS_LOG_CONTEXT, "Controller: getAllVoters not modified");
+                return CompletableFuture.completedFuture(
+                        ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.formattedTag()).cacheControl(CacheControl.noCache()).build());
+            }
+
+            // Served from the pre-serialized snapshot for this version; only a stale snapshot reaches the service
+            boolean gzip = Voters4Controller.acceptsGzip(acceptEncoding);
+            return allVotersSnapshot.get(etag.tag())
+                    .<ResponseEntity<?>>thenApply(snapshot -> {
+                        logger.log(LogLevel.INFO, GET_ALL_VOTERS_LOG_CONTEXT, "Controller: getAllVoters successful, resultCount={}",
+                                snapshot.getItemCount());
+                        return Voters4Controller.snapshotResponse(snapshot, etag, gzip);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, GET_ALL_VOTERS_LOG_CONTEXT, ex, "Controller: getAllVoters failed");
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, GET_ALL_VOTERS_LOG_CONTEXT, ex, "Controller: getAllVoters failed (sync)");
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/get-voters-page?sortBy=id&size=50&pageToken=...
+    // Keyset pagination: pass nextPageToken from the previous response to continue after its last row.
+    // sortBy is id, name or age (the keyset-indexed attributes); anything else is a 400.
+    @GetMapping("/get-voters-page")
+    public CompletableFuture<ResponseEntity<?>> getVotersPage(
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "50") int size) {
+        Map<String, String> context = Map.of(
+                "operation", "getVotersPage",
+                "sortBy", sortBy != null ? sortBy : "id",
+                "size", String.valueOf(size)
+        );
+
+        try {
+            return voters4Service.getVotersPageAsync(sortBy, pageToken, size)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: getVotersPage successful", null,
+                                Map.of("operation", "getVotersPage", "resultCount", String.valueOf(result.getSize())));
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: getVotersPage failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: getVotersPage failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/search?filter=age:gte:18&filter=name:like:A%&filter=id:in:1|2|3&limit=100
+    // Filters are ANDed and evaluated in SQL. Read from the raw parameter map so commas in values are not split.
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<?>> searchVoters(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(defaultValue = "100") int limit) {
+        List<String> expressions = params.getOrDefault("filter", List.of());
+        Map<String, String> context = Map.of(
+                "operation", "searchVoters",
+                "filters", String.valueOf(expressions)
+        );
+
+        try {
+            List<FilterCriterion> filters = Voters4Controller.parseFilters(expressions);
+
+            return voters4Service.searchVotersAsync(filters, limit)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: searchVoters successful", null,
+                                Map.of("operation", "searchVoters", "resultCount", String.valueOf(result.size())));
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: searchVoters failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: searchVoters failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/add-voters?async=false
+    // async=true answers 202 with a job id at once; the rows are inserted in chunks in the background and
+    // must come without an id (400 otherwise).
+    @PostMapping("/add-voters")
+    public CompletableFuture<ResponseEntity<?>> addVoters(@RequestBody List<Voters4> votersList,
+                                                          @RequestParam(defaultValue = "false") boolean async) {
+        Map<String, String> context = Map.of(
+                "operation", "addVoters",
+                "inputCount", String.valueOf(votersList.size())
+        );
+
+        try {
+            if (async) {
+                IngestionJobStatus status = voters4Service.submitVoterIngestion(votersList);
+                logger.log(LogLevel.INFO, "Controller: addVoters job accepted", null, context);
+                return CompletableFuture.completedFuture(ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/voters4/ingestion-jobs/" + status.getJobId()))
+                        .body(status));
+            }
+            return voters4Service.addVotersAsync(votersList)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: addVoters successful", null, context);
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: addVoters failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: addVoters failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/update-voter
+    @PutMapping("/update-voter")
+    public CompletableFuture<ResponseEntity<?>> updateVoter(@RequestBody Voters4 voter) {
+        Map<String, String> context = Map.of(
+                "operation", "updateVoter",
+                "voterId", voter.getId() != null ? voter.getId().toString() : "null"
+        );
+
+        try {
+            CompletableFuture<Boolean> update = voters4Service.isWriteBehindEnabled()
+                    ? voters4Service.bufferVoterUpdate(voter)
+                    : voters4Service.updateVoterAsync(voter);
+            return update
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: updateVoter successful", null, context);
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: updateVoter failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: updateVoter failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/delete-voter/{voterId}
+    @DeleteMapping("/delete-voter/{voterId}")
+    public CompletableFuture<ResponseEntity<?>> deleteVoter(@PathVariable Integer voterId) {
+        Map<String, String> context = Map.of(
+                "operation", "deleteVoter",
+                "voterId", voterId != null ? voterId.toString() : "null"
+        );
+
+        try {
+            return voters4Service.deleteVoterAsync(voterId)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: deleteVoter successful", null, context);
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: deleteVoter failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: deleteVoter failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/update-voters
+    @PutMapping("/update-voters")
+    public CompletableFuture<ResponseEntity<?>> updateVoters(@RequestBody List<Voters4> voters) {
+        Map<String, String> context = Map.of(
+                "operation", "updateVoters",
+                "inputCount", String.valueOf(voters != null ? voters.size() : 0)
+        );
+
+        try {
+            return voters4Service.updateVotersAsync(voters)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: updateVoters successful", null, context);
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: updateVoters failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: updateVoters failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/upsert-voters  (inserts new keys, updates existing ones; keyed by id, new voters come without one)
+    @PutMapping("/upsert-voters")
+    public CompletableFuture<ResponseEntity<?>> upsertVoters(@RequestBody List<Voters4> voters) {
+        Map<String, String> context = Map.of(
+                "operation", "upsertVoters",
+                "inputCount", String.valueOf(voters != null ? voters.size() : 0)
+        );
+
+        try {
+            return voters4Service.upsertVotersAsync(voters)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: upsertVoters successful", null, context);
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: upsertVoters failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: upsertVoters failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/delete-voters  (body: JSON array of voter ids)
+    @DeleteMapping("/delete-voters")
+    public CompletableFuture<ResponseEntity<?>> deleteVoters(@RequestBody List<Integer> voterIds) {
+        Map<String, String> context = Map.of(
+                "operation", "deleteVoters",
+                "inputCount", String.valueOf(voterIds != null ? voterIds.size() : 0)
+        );
+
+        try {
+            return voters4Service.deleteVotersAsync(voterIds)
+                    .<ResponseEntity<?>>thenApply(result -> {
+                        logger.log(LogLevel.INFO, "Controller: deleteVoters successful", null, context);
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(ex -> {
+                        logger.log(LogLevel.ERROR, "Controller: deleteVoters failed", ex, null, context);
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        return ErrorResponseUtil.handleException((Exception) cause, logger);
+                    });
+
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: deleteVoters failed (sync)", ex, null, context);
+            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+        }
+    }
+}
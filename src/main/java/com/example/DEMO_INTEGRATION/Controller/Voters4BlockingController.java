@@ -0,0 +1,250 @@
+package com.example.DEMO_INTEGRATION.Controller;
+
+import com.example.DEMO_INTEGRATION.BAL.Interfaces.IVoters4Service;
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkWriteResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.ResponseSnapshotCache;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.SerializedSnapshot;
+import com.example.DEMO_INTEGRATION.Utils.ErrorResponse.ErrorResponseUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil.LogLevel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The {@link Voters4AsyncController} endpoints as plain blocking code, used when
+ * {@code spring.threads.virtual.enabled=true}: Tomcat already runs each request on its own virtual thread,
+ * so the service is called directly and a blocked JDBC call parks that thread instead of holding a carrier.
+ * Nothing is handed to the service executor and no future is chained.
+ */
+@RestController
+@RequestMapping("/api/v1/voters4")
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class Voters4BlockingController {
+
+    private static final LogContext GET_ALL_VOTERS_LOG_CONTEXT = LogContext.of("operation", "getAllVoters");
+
+    private final IVoters4Service voters4Service;
+    private final ResponseSnapshotCache<List<Voters4>> allVotersSnapshot;
+    private final LoggerUtil logger;
+
+    @Autowired
+    public Voters4BlockingController(IVoters4Service voters4Service, ResponseSnapshotCache<List<Voters4>> allVotersSnapshot) {
+        this.voters4Service = voters4Service;
+        this.allVotersSnapshot = allVotersSnapshot;
+        this.logger = LoggerUtil.getLogger(getClass());
+    }
+
+    // Endpoint: /api/v1/voters4/get-all-voters
+    @GetMapping("/get-all-voters")
+    public ResponseEntity<?> getAllVoters(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            // Read the version before the rows: the body is then at least as new as its tag
+            ETag etag = ETag.create(voters4Service.getVotersVersionTag());
+            if (Voters4Controller.matchesAny(ifNoneMatch, etag)) {
+                logger.log(LogLevel.DEBUG, GET_ALL_VOTERS_LOG_CONTEXT, "Controller: getAllVoters not modified");
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.formattedTag()).cacheControl(CacheControl.noCache()).build();
+            }
+
+            // A stale snapshot is still loaded once for all waiting requests; this thread just parks until it is ready
+            SerializedSnapshot snapshot = allVotersSnapshot.get(etag.tag()).join();
+            logger.log(LogLevel.INFO, GET_ALL_VOTERS_LOG_CONTEXT, "Controller: getAllVoters successful, resultCount={}",
+                    snapshot.getItemCount());
+            return Voters4Controller.snapshotResponse(snapshot, etag, Voters4Controller.acceptsGzip(acceptEncoding));
+        } catch (CompletionException ex) {
+            logger.log(LogLevel.ERROR, GET_ALL_VOTERS_LOG_CONTEXT, ex, "Controller: getAllVoters failed");
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            return ErrorResponseUtil.handleException((Exception) cause, logger);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, GET_ALL_VOTERS_LOG_CONTEXT, ex, "Controller: getAllVoters failed");
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/get-voters-page?sortBy=id&size=50&pageToken=...
+    @GetMapping("/get-voters-page")
+    public ResponseEntity<?> getVotersPage(
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "50") int size) {
+        Map<String, String> context = Map.of(
+                "operation", "getVotersPage",
+                "sortBy", sortBy != null ? sortBy : "id",
+                "size", String.valueOf(size)
+        );
+
+        try {
+            KeysetPage<Voters4> result = voters4Service.getVotersPage(sortBy, pageToken, size);
+            logger.log(LogLevel.INFO, "Controller: getVotersPage successful", null,
+                    Map.of("operation", "getVotersPage", "resultCount", String.valueOf(result.getSize())));
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: getVotersPage failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/search?filter=age:gte:18&filter=name:like:A%&filter=id:in:1|2|3&limit=100
+    @GetMapping("/search")
+    public ResponseEntity<?> searchVoters(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(defaultValue = "100") int limit) {
+        List<String> expressions = params.getOrDefault("filter", List.of());
+        Map<String, String> context = Map.of(
+                "operation", "searchVoters",
+                "filters", String.valueOf(expressions)
+        );
+
+        try {
+            List<Voters4> result = voters4Service.searchVoters(Voters4Controller.parseFilters(expressions), limit);
+            logger.log(LogLevel.INFO, "Controller: searchVoters successful", null,
+                    Map.of("operation", "searchVoters", "resultCount", String.valueOf(result.size())));
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: searchVoters failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/add-voters?async=false
+    // async=true still answers 202 with a job id; the ingestion executor writes the rows either way.
+    @PostMapping("/add-voters")
+    public ResponseEntity<?> addVoters(@RequestBody List<Voters4> votersList,
+                                       @RequestParam(defaultValue = "false") boolean async) {
+        Map<String, String> context = Map.of(
+                "operation", "addVoters",
+                "inputCount", String.valueOf(votersList.size())
+        );
+
+        try {
+            if (async) {
+                IngestionJobStatus status = voters4Service.submitVoterIngestion(votersList);
+                logger.log(LogLevel.INFO, "Controller: addVoters job accepted", null, context);
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/voters4/ingestion-jobs/" + status.getJobId()))
+                        .body(status);
+            }
+            boolean result = voters4Service.addVoters(votersList);
+            logger.log(LogLevel.INFO, "Controller: addVoters successful", null, context);
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: addVoters failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/update-voter
+    // With write-behind on, waits for the buffer's acknowledgement as the async endpoint does
+    @PutMapping("/update-voter")
+    public ResponseEntity<?> updateVoter(@RequestBody Voters4 voter) {
+        Map<String, String> context = Map.of(
+                "operation", "updateVoter",
+                "voterId", voter.getId() != null ? voter.getId().toString() : "null"
+        );
+
+        try {
+            boolean result = voters4Service.isWriteBehindEnabled()
+                    ? voters4Service.bufferVoterUpdate(voter).join()
+                    : voters4Service.updateVoter(voter);
+            logger.log(LogLevel.INFO, "Controller: updateVoter successful", null, context);
+            return ResponseEntity.ok(result);
+        } catch (CompletionException ex) {
+            logger.log(LogLevel.ERROR, "Controller: updateVoter failed", ex, null, context);
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            return ErrorResponseUtil.handleException((Exception) cause, logger);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: updateVoter failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/delete-voter/{voterId}
+    @DeleteMapping("/delete-voter/{voterId}")
+    public ResponseEntity<?> deleteVoter(@PathVariable Integer voterId) {
+        Map<String, String> context = Map.of(
+                "operation", "deleteVoter",
+                "voterId", voterId != null ? voterId.toString() : "null"
+        );
+
+        try {
+            boolean result = voters4Service.deleteVoter(voterId);
+            logger.log(LogLevel.INFO, "Controller: deleteVoter successful", null, context);
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: deleteVoter failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/update-voters
+    @PutMapping("/update-voters")
+    public ResponseEntity<?> updateVoters(@RequestBody List<Voters4> voters) {
+        Map<String, String> context = Map.of(
+                "operation", "updateVoters",
+                "inputCount", String.valueOf(voters != null ? voters.size() : 0)
+        );
+
+        try {
+            BulkWriteResult result = voters4Service.updateVoters(voters);
+            logger.log(LogLevel.INFO, "Controller: updateVoters successful", null, context);
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: updateVoters failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/upsert-voters  (inserts new keys, updates existing ones; keyed by id, new voters come without one)
+    @PutMapping("/upsert-voters")
+    public ResponseEntity<?> upsertVoters(@RequestBody List<Voters4> voters) {
+        Map<String, String> context = Map.of(
+                "operation", "upsertVoters",
+                "inputCount", String.valueOf(voters != null ? voters.size() : 0)
+        );
+
+        try {
+            UpsertResult result = voters4Service.upsertVoters(voters);
+            logger.log(LogLevel.INFO, "Controller: upsertVoters successful", null, context);
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: upsertVoters failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+
+    // Endpoint: /api/v1/voters4/delete-voters  (body: JSON array of voter ids)
+    @DeleteMapping("/delete-voters")
+    public ResponseEntity<?> deleteVoters(@RequestBody List<Integer> voterIds) {
+        Map<String, String> context = Map.of(
+                "operation", "deleteVoters",
+                "inputCount", String.valueOf(voterIds != null ? voterIds.size() : 0)
+        );
+
+        try {
+            BulkWriteResult result = voters4Service.deleteVoters(voterIds);
+            logger.log(LogLevel.INFO, "Controller: deleteVoters successful", null, context);
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, "Controller: deleteVoters failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+}
@@ -1,131 +1,209 @@
 package com.example.DEMO_INTEGRATION.Controller;
 
 import com.example.DEMO_INTEGRATION.BAL.Interfaces.IVoters4Service;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
 import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.SerializedSnapshot;
 import com.example.DEMO_INTEGRATION.Utils.ErrorResponse.ErrorResponseUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil.LogLevel;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataAccessException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
 
+/**
+ * The {@code /api/v1/voters4} endpoints that answer on the request thread in either threading mode. The rest
+ * are served by {@link Voters4AsyncController} on platform threads, or by {@link Voters4BlockingController}
+ * when {@code spring.threads.virtual.enabled=true}.
+ */
 @RestController
 @RequestMapping("/api/v1/voters4")
 public class Voters4Controller {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    // Hot read paths log through the fast LoggerUtil API with one shared MDC context each
+    private static final LogContext GET_VOTER_LOG_CONTEXT = LogContext.of("operation", "getVoterById");
+
     private final IVoters4Service voters4Service;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
     private final LoggerUtil logger;
 
     @Autowired
-    public Voters4Controller(IVoters4Service voters4Service) {
+    public Voters4Controller(IVoters4Service voters4Service, ObjectMapper objectMapper) {
         this.voters4Service = voters4Service;
+        this.objectMapper = objectMapper;
+        // One JSON document per line; the servlet buffer decides when bytes hit the socket, not every row
+        this.ndjsonWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
         this.logger = LoggerUtil.getLogger(getClass());
     }
 
-    // Endpoint: /api/v1/voters4/get-all-voters
-    @GetMapping("/get-all-voters")
-    public CompletableFuture<ResponseEntity<?>> getAllVoters() {
-        Map<String, String> context = Map.of("operation", "getAllVoters");
-
+    // Endpoint: /api/v1/voters4/get-voter/{voterId}
+    // Served from the voter cache when possible; answered synchronously, a hit never touches the executors.
+    @GetMapping("/get-voter/{voterId}")
+    public ResponseEntity<?> getVoterById(@PathVariable Integer voterId) {
         try {
-            return voters4Service.getAllVoters()
-                    .<ResponseEntity<?>>thenApply(result -> {
-                        logger.log(LogLevel.INFO, "Controller: getAllVoters successful", null,
-                                Map.of("operation", "getAllVoters", "resultCount", String.valueOf(result.size())));
-                        return ResponseEntity.ok(result);
-                    })
-                    .exceptionally(ex -> {
-                        logger.log(LogLevel.ERROR, "Controller: getAllVoters failed", ex, null, context);
-                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-                        return ErrorResponseUtil.handleException((Exception) cause, logger);
-                    });
+            Optional<Voters4> voter = voters4Service.getVoterById(voterId);
+            if (voter.isEmpty()) {
+                logger.log(LogLevel.INFO, GET_VOTER_LOG_CONTEXT, "Controller: getVoterById not found, voterId={}", voterId);
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(voter.get());
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, GET_VOTER_LOG_CONTEXT, ex, "Controller: getVoterById failed, voterId={}", voterId);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
 
+    // Endpoint: /api/v1/voters4/stream-all-voters
+    // Writes rows as NDJSON while they are read from a server-side cursor, so the table is never held in memory.
+    @GetMapping(value = "/stream-all-voters", produces = NDJSON_MEDIA_TYPE)
+    public void streamAllVoters(HttpServletResponse response) throws IOException {
+        Map<String, String> context = Map.of("operation", "streamAllVoters");
+
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        try (SequenceWriter writer = ndjsonWriter.writeValues(response.getOutputStream())) {
+            long count = voters4Service.streamAllVoters(voter -> {
+                try {
+                    writer.write(voter);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            logger.log(LogLevel.INFO, "Controller: streamAllVoters successful", null,
+                    Map.of("operation", "streamAllVoters", "resultCount", String.valueOf(count)));
         } catch (Exception ex) {
-            logger.log(LogLevel.ERROR, "Controller: getAllVoters failed (sync)", ex, null, context);
-            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+            logger.log(LogLevel.ERROR, "Controller: streamAllVoters failed", ex, null, context);
+            // Once rows have been flushed the status line is gone; the client sees a truncated stream instead
+            if (!response.isCommitted()) {
+                ResponseEntity<?> error = ErrorResponseUtil.handleException(ex, logger);
+                response.resetBuffer();
+                response.setStatus(error.getStatusCode().value());
+                response.setContentType("application/json");
+                objectMapper.writeValue(response.getOutputStream(), error.getBody());
+            }
         }
     }
 
-    // Endpoint: /api/v1/voters4/add-voters
-    @PostMapping("/add-voters")
-    public CompletableFuture<ResponseEntity<?>> addVoters(@RequestBody List<Voters4> votersList) {
+    // Endpoint: /api/v1/voters4/ingestion-jobs/{jobId}
+    @GetMapping("/ingestion-jobs/{jobId}")
+    public ResponseEntity<?> getIngestionJob(@PathVariable String jobId) {
         Map<String, String> context = Map.of(
-                "operation", "addVoters",
-                "inputCount", String.valueOf(votersList.size())
+                "operation", "getIngestionJob",
+                "jobId", jobId
         );
 
         try {
-            return voters4Service.addVoters(votersList)
-                    .<ResponseEntity<?>>thenApply(result -> {
-                        logger.log(LogLevel.INFO, "Controller: addVoters successful", null, context);
-                        return ResponseEntity.ok(result);
-                    })
-                    .exceptionally(ex -> {
-                        logger.log(LogLevel.ERROR, "Controller: addVoters failed", ex, null, context);
-                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-                        return ErrorResponseUtil.handleException((Exception) cause, logger);
-                    });
-
+            Optional<IngestionJobStatus> status = voters4Service.getIngestionJob(jobId);
+            if (status.isEmpty()) {
+                logger.log(LogLevel.INFO, "Controller: getIngestionJob not found", null, context);
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(status.get());
         } catch (Exception ex) {
-            logger.log(LogLevel.ERROR, "Controller: addVoters failed (sync)", ex, null, context);
-            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+            logger.log(LogLevel.ERROR, "Controller: getIngestionJob failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
         }
     }
 
-    // Endpoint: /api/v1/voters4/update-voter
-    @PutMapping("/update-voter")
-    public CompletableFuture<ResponseEntity<?>> updateVoter(@RequestBody Voters4 voter) {
+    // Endpoint: /api/v1/voters4/bulk-ingest?format=csv&header=true
+    // Streams the raw request body (CSV or NDJSON) into PostgreSQL COPY; the body is never buffered whole.
+    @PostMapping("/bulk-ingest")
+    public ResponseEntity<?> bulkIngestVoters(HttpServletRequest request,
+                                              @RequestParam(defaultValue = "csv") String format,
+                                              @RequestParam(defaultValue = "true") boolean header) {
         Map<String, String> context = Map.of(
-                "operation", "updateVoter",
-                "voterId", voter.getId() != null ? voter.getId().toString() : "null"
+                "operation", "bulkIngestVoters",
+                "format", format
         );
 
         try {
-            return voters4Service.updateVoter(voter)
-                    .<ResponseEntity<?>>thenApply(result -> {
-                        logger.log(LogLevel.INFO, "Controller: updateVoter successful", null, context);
-                        return ResponseEntity.ok(result);
-                    })
-                    .exceptionally(ex -> {
-                        logger.log(LogLevel.ERROR, "Controller: updateVoter failed", ex, null, context);
-                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-                        return ErrorResponseUtil.handleException((Exception) cause, logger);
-                    });
-
+            BulkIngestFormat ingestFormat = BulkIngestFormat.fromString(format);
+            BulkIngestResult result = voters4Service.bulkIngestVoters(request.getInputStream(), ingestFormat, header);
+            logger.log(LogLevel.INFO, "Controller: bulkIngestVoters successful", null,
+                    Map.of("operation", "bulkIngestVoters",
+                            "loaded", String.valueOf(result.getLoaded()),
+                            "rejected", String.valueOf(result.getRejected())));
+            return ResponseEntity.ok(result);
         } catch (Exception ex) {
-            logger.log(LogLevel.ERROR, "Controller: updateVoter failed (sync)", ex, null, context);
-            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+            logger.log(LogLevel.ERROR, "Controller: bulkIngestVoters failed", ex, null, context);
+            return ErrorResponseUtil.handleException(ex, logger);
         }
     }
 
-    // Endpoint: /api/v1/voters4/delete-voter/{voterId}
-    @DeleteMapping("/delete-voter/{voterId}")
-    public CompletableFuture<ResponseEntity<?>> deleteVoter(@PathVariable Integer voterId) {
-        Map<String, String> context = Map.of(
-                "operation", "deleteVoter",
-                "voterId", voterId != null ? voterId.toString() : "null"
-        );
+    // Search filters are read from the raw parameter map, so commas in values are not split
+    static List<FilterCriterion> parseFilters(List<String> expressions) {
+        List<FilterCriterion> filters = new ArrayList<>(expressions.size());
+        for (String expression : expressions) {
+            filters.add(FilterCriterion.parse(expression));
+        }
+        return filters;
+    }
 
-        try {
-            return voters4Service.deleteVoter(voterId)
-                    .<ResponseEntity<?>>thenApply(result -> {
-                        logger.log(LogLevel.INFO, "Controller: deleteVoter successful", null, context);
-                        return ResponseEntity.ok(result);
-                    })
-                    .exceptionally(ex -> {
-                        logger.log(LogLevel.ERROR, "Controller: deleteVoter failed", ex, null, context);
-                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-                        return ErrorResponseUtil.handleException((Exception) cause, logger);
-                    });
+    // The stored bytes go out through ByteArrayHttpMessageConverter as is, without another Jackson pass
+    static ResponseEntity<byte[]> snapshotResponse(SerializedSnapshot snapshot, ETag etag, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag.formattedTag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip && snapshot.getGzip() != null) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(snapshot.getGzip().length)
+                    .body(snapshot.getGzip());
+        }
+        return builder.contentLength(snapshot.getJson().length).body(snapshot.getJson());
+    }
 
-        } catch (Exception ex) {
-            logger.log(LogLevel.ERROR, "Controller: deleteVoter failed (sync)", ex, null, context);
-            return CompletableFuture.completedFuture(ErrorResponseUtil.handleException(ex, logger));
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match uses weak comparison; "*" matches any current representation
+    static boolean matchesAny(String ifNoneMatch, ETag current) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
         }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.example.DEMO_INTEGRATION.Controller;
+
+import com.example.DEMO_INTEGRATION.BAL.Interfaces.IVoters4Service;
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.Utils.ErrorResponse.ErrorResponseUtil;
+import com.example.DEMO_INTEGRATION.Utils.Http.KeysetNdjsonStream;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil.LogLevel;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Read-only v2 surface for Voters4. Where v1 streams from a cursor on a request thread that holds its JDBC
+ * connection until the client has read the last byte, {@code /voters} streams with non-blocking servlet output:
+ * rows are read a keyset page at a time, only as fast as the client takes them, and nothing is held between
+ * pages. Concurrent readers are then bounded by memory (two pages each) rather than by threads or connections.
+ */
+@RestController
+@RequestMapping("/api/v2/voters4")
+public class Voters4V2Controller {
+
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final OperationMetrics STREAM_VOTERS_METRICS = OperationMetrics.forOperation("Voters4V2Controller", "streamVoters");
+    private static final LogContext GET_VOTER_LOG_CONTEXT = LogContext.of("operation", "getVoterByIdV2");
+
+    private final IVoters4Service voters4Service;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final int defaultPageSize;
+    private final long streamTimeoutMillis;
+    private final LoggerUtil logger;
+
+    public Voters4V2Controller(IVoters4Service voters4Service, ObjectMapper objectMapper,
+                               @Value("${app.voters4.v2.page-size:500}") int defaultPageSize,
+                               @Value("${app.voters4.v2.stream-timeout-ms:600000}") long streamTimeoutMillis) {
+        this.voters4Service = voters4Service;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.defaultPageSize = defaultPageSize;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.logger = LoggerUtil.getLogger(getClass());
+    }
+
+    // Endpoint: /api/v2/voters4/voters?sortBy=age&pageSize=500&pageToken=...
+    // NDJSON in keyset order; pageToken (from v1 get-voters-page) resumes after a known row.
+    @GetMapping(value = "/voters", produces = NDJSON_MEDIA_TYPE)
+    public void streamVoters(HttpServletRequest request, HttpServletResponse response,
+                             @RequestParam(required = false) String sortBy,
+                             @RequestParam(required = false) String pageToken,
+                             @RequestParam(required = false) Integer pageSize) throws IOException {
+        int size = pageSize != null ? pageSize : defaultPageSize;
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding("UTF-8");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(streamTimeoutMillis);
+        // Each page is one read-only transaction on the service executor; the request thread returns right away
+        new KeysetNdjsonStream<Voters4>("voters4", asyncContext, ndjsonWriter, objectMapper,
+                token -> voters4Service.getVotersPageAsync(sortBy, token, size), pageToken, STREAM_VOTERS_METRICS)
+                .start();
+    }
+
+    // Endpoint: /api/v2/voters4/voters/{voterId}
+    // Same cache-backed lookup as v1; answered on the request thread, a hit never touches the database.
+    @GetMapping("/voters/{voterId}")
+    public ResponseEntity<?> getVoterById(@PathVariable Integer voterId) {
+        try {
+            Optional<Voters4> voter = voters4Service.getVoterById(voterId);
+            if (voter.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(voter.get());
+        } catch (Exception ex) {
+            logger.log(LogLevel.ERROR, GET_VOTER_LOG_CONTEXT, ex, "Controller: getVoterById failed, voterId={}", voterId);
+            return ErrorResponseUtil.handleException(ex, logger);
+        }
+    }
+}
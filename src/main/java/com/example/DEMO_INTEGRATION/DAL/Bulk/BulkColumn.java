@@ -0,0 +1,76 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Describes one table column for the set-based bulk paths (COPY ingest, bulk update/delete),
+ * which bypass Hibernate and therefore need the SQL column name and type spelled out.
+ *
+ * @param <T> the entity type
+ */
+public class BulkColumn<T> {
+    private final String attribute;
+    private final String column;
+    private final String sqlType;
+    private final Class<?> javaType;
+    private final boolean required;
+    private final int maxLength;
+    private final Function<T, Object> getter;
+    private final BiConsumer<T, Object> setter;
+
+    /**
+     * @param attribute the entity attribute name, also used as the CSV header / JSON field name
+     * @param column    the quoted SQL column name, e.g. {@code "\"Name\""}
+     * @param sqlType   the Postgres type used for casts, e.g. {@code varchar}
+     * @param javaType  the Java type of the attribute
+     * @param required  whether the column is NOT NULL
+     * @param maxLength the maximum text length, or 0 for no limit
+     * @param getter    reads the attribute from an entity
+     * @param setter    writes an already converted value into an entity
+     */
+    @SuppressWarnings("unchecked")
+    public <V> BulkColumn(String attribute, String column, String sqlType, Class<V> javaType, boolean required,
+                          int maxLength, Function<T, V> getter, BiConsumer<T, V> setter) {
+        this.attribute = attribute;
+        this.column = column;
+        this.sqlType = sqlType;
+        this.javaType = javaType;
+        this.required = required;
+        this.maxLength = maxLength;
+        this.getter = (Function<T, Object>) getter;
+        this.setter = (BiConsumer<T, Object>) setter;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String getSqlType() {
+        return sqlType;
+    }
+
+    public Class<?> getJavaType() {
+        return javaType;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public Object get(T entity) {
+        return getter.apply(entity);
+    }
+
+    public void set(T entity, Object value) {
+        setter.accept(entity, value);
+    }
+}
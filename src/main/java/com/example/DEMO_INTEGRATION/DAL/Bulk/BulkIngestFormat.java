@@ -0,0 +1,27 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+/**
+ * Input formats accepted by the COPY-based bulk ingest path.
+ */
+public enum BulkIngestFormat {
+    /** RFC 4180 comma-separated values, one row per record (quoted fields may span lines), optional header row. */
+    CSV,
+    /** Newline-delimited JSON, one entity object per line. */
+    NDJSON;
+
+    /**
+     * Resolves a format from its case-insensitive name.
+     *
+     * @param value the format name, e.g. "csv"
+     * @return the matching format
+     * @throws IllegalArgumentException if the format is unknown
+     */
+    public static BulkIngestFormat fromString(String value) {
+        for (BulkIngestFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported bulk ingest format: " + value);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the statements of the set-based bulk paths in BaseRepository from a {@link BulkTableMapping}.
+ * Every value is a bind parameter with an explicit cast, since a VALUES list has no column types of its own.
+ */
+public final class BulkSql {
+
+    private BulkSql() {
+    }
+
+    /**
+     * {@code UPDATE t SET "A" = v."A", ... FROM (VALUES (?::type, ...), ...) AS v("ID", "A", ...) WHERE t."ID" = v."ID"}.
+     * Binds, per row, the id followed by the non-key columns in mapping order.
+     *
+     * @param rowCount the number of rows in the VALUES list
+     */
+    public static <T> String updateFromValues(BulkTableMapping<T> mapping, int rowCount) {
+        if (rowCount <= 0) throw new IllegalArgumentException("Row count must be greater than 0");
+        List<BulkColumn<T>> columns = mapping.getColumns();
+        BulkColumn<T> idColumn = mapping.getIdColumn();
+        StringBuilder sql = new StringBuilder("UPDATE ").append(mapping.getTableName()).append(" AS t SET ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(columns.get(i).getColumn()).append(" = v.").append(columns.get(i).getColumn());
+        }
+        sql.append(" FROM (VALUES ");
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) sql.append(", ");
+            sql.append("(?::").append(idColumn.getSqlType());
+            for (BulkColumn<T> column : columns) {
+                sql.append(", ?::").append(column.getSqlType());
+            }
+            sql.append(')');
+        }
+        sql.append(") AS v(").append(idColumn.getColumn()).append(", ").append(mapping.columnList()).append(')')
+                .append(" WHERE t.").append(idColumn.getColumn()).append(" = v.").append(idColumn.getColumn());
+        return sql.toString();
+    }
+
+    /**
+     * {@link #updateFromValues} followed by {@code RETURNING t."ID"}, so the caller learns which ids matched a row.
+     */
+    public static <T> String updateFromValuesReturningIds(BulkTableMapping<T> mapping, int rowCount) {
+        return updateFromValues(mapping, rowCount) + " RETURNING t." + mapping.getIdColumn().getColumn();
+    }
+
+    /**
+     * {@code INSERT INTO t ("ID", "A", ...) VALUES (?::type, ...), ...}. Binds, per row, the id followed by the
+     * non-key columns in mapping order; the ids are reserved by the caller, never left to the column default.
+     *
+     * @param rowCount the number of rows in the VALUES list
+     */
+    public static <T> String insertValues(BulkTableMapping<T> mapping, int rowCount) {
+        List<BulkColumn<T>> columns = new ArrayList<>(mapping.getColumns().size() + 1);
+        columns.add(mapping.getIdColumn());
+        columns.addAll(mapping.getColumns());
+        return appendValues(new StringBuilder("INSERT INTO ").append(mapping.getTableName()).append(" ("),
+                columns, rowCount).toString();
+    }
+
+    /**
+     * {@code INSERT INTO t AS t ("A", ...) VALUES (?::type, ...), ... ON CONFLICT ("K") DO UPDATE SET "A" = EXCLUDED."A", ...
+     * WHERE ROW(t."A", ...) IS DISTINCT FROM ROW(EXCLUDED."A", ...) RETURNING (t.xmax = 0), t."ID"}.
+     * One row comes back per inserted or changed row; xmax is 0 only on a freshly inserted row version, which tells
+     * inserts from updates in the same pass. When every non-key column is part of the key the conflict is
+     * {@code DO NOTHING}. Binds, per row, the insert columns in order.
+     *
+     * @param insertColumns the columns written, in bind order
+     * @param keyColumns    the conflict target; must carry a unique constraint or index
+     * @param rowCount      the number of rows in the VALUES list
+     */
+    public static <T> String upsertValues(BulkTableMapping<T> mapping, List<BulkColumn<T>> insertColumns,
+                                          List<BulkColumn<T>> keyColumns, int rowCount) {
+        StringBuilder sql = appendValues(new StringBuilder("INSERT INTO ").append(mapping.getTableName()).append(" AS t ("),
+                insertColumns, rowCount);
+        sql.append(" ON CONFLICT (");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(keyColumns.get(i).getColumn());
+        }
+        sql.append(')');
+        String returning = " RETURNING (t.xmax = 0), t." + mapping.getIdColumn().getColumn();
+
+        List<BulkColumn<T>> updateColumns = new ArrayList<>(mapping.getColumns());
+        updateColumns.removeAll(keyColumns);
+        if (updateColumns.isEmpty()) {
+            return sql.append(" DO NOTHING").append(returning).toString();
+        }
+        StringBuilder current = new StringBuilder();
+        StringBuilder incoming = new StringBuilder();
+        sql.append(" DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            String column = updateColumns.get(i).getColumn();
+            if (i > 0) {
+                sql.append(", ");
+                current.append(", ");
+                incoming.append(", ");
+            }
+            sql.append(column).append(" = EXCLUDED.").append(column);
+            current.append("t.").append(column);
+            incoming.append("EXCLUDED.").append(column);
+        }
+        return sql.append(" WHERE ROW(").append(current).append(") IS DISTINCT FROM ROW(").append(incoming).append(')')
+                .append(returning).toString();
+    }
+
+    /**
+     * {@link #updateFromValues} limited to rows whose values differ, followed by {@code RETURNING t."ID"}:
+     * {@code ... WHERE t."ID" = v."ID" AND ROW(t."A", ...) IS DISTINCT FROM ROW(v."A", ...) RETURNING t."ID"}.
+     * Rows that are already current are not rewritten and do not come back.
+     */
+    public static <T> String updateChangedFromValuesReturningIds(BulkTableMapping<T> mapping, int rowCount) {
+        StringBuilder current = new StringBuilder();
+        StringBuilder incoming = new StringBuilder();
+        for (BulkColumn<T> column : mapping.getColumns()) {
+            if (current.length() > 0) {
+                current.append(", ");
+                incoming.append(", ");
+            }
+            current.append("t.").append(column.getColumn());
+            incoming.append("v.").append(column.getColumn());
+        }
+        return updateFromValues(mapping, rowCount) + " AND ROW(" + current + ") IS DISTINCT FROM ROW(" + incoming + ")"
+                + " RETURNING t." + mapping.getIdColumn().getColumn();
+    }
+
+    /**
+     * {@code SELECT "ID" FROM t WHERE "ID" = ANY(?)}: which of the ids in one array parameter have a row.
+     */
+    public static <T> String selectExistingIds(BulkTableMapping<T> mapping) {
+        return "SELECT " + mapping.getIdColumn().getColumn() + " FROM " + mapping.getTableName() + " WHERE "
+                + mapping.getIdColumn().getColumn() + " = ANY(?)";
+    }
+
+    /**
+     * {@code DELETE FROM t WHERE "ID" = ANY(?)}: one array parameter holds all ids, so the statement text is the
+     * same whatever their number.
+     */
+    public static <T> String deleteByIds(BulkTableMapping<T> mapping) {
+        return "DELETE FROM " + mapping.getTableName() + " WHERE " + mapping.getIdColumn().getColumn() + " = ANY(?)";
+    }
+
+    // Appends the column list and the VALUES rows to an "INSERT INTO t (" prefix
+    private static <T> StringBuilder appendValues(StringBuilder sql, List<BulkColumn<T>> columns, int rowCount) {
+        if (rowCount <= 0) throw new IllegalArgumentException("Row count must be greater than 0");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(columns.get(i).getColumn());
+        }
+        sql.append(") VALUES ");
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) sql.append(", ");
+            sql.append('(');
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append("?::").append(columns.get(i).getSqlType());
+            }
+            sql.append(')');
+        }
+        return sql;
+    }
+}
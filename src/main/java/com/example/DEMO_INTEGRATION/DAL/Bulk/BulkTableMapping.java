@@ -0,0 +1,88 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Table-level description of an entity for the set-based bulk paths in BaseRepository.
+ * Repositories that want COPY ingest or bulk update/delete override {@code bulkTableMapping()} and return one of these.
+ *
+ * @param <T> the entity type
+ */
+public class BulkTableMapping<T> {
+    private final String tableName;
+    private final BulkColumn<T> idColumn;
+    private final String idSequence;
+    private final int idBlockSize;
+    private final List<BulkColumn<T>> columns;
+    private final Supplier<T> factory;
+
+    /**
+     * A mapping without an id sequence: supports bulk update and delete, but not the paths that insert rows.
+     *
+     * @param tableName the schema-qualified, quoted table name, e.g. {@code public."Voters4"}
+     * @param idColumn  the primary key column
+     * @param columns   the non-key columns, in CSV order
+     * @param factory   creates an empty entity for parsed rows
+     */
+    public BulkTableMapping(String tableName, BulkColumn<T> idColumn, List<BulkColumn<T>> columns, Supplier<T> factory) {
+        this(tableName, idColumn, null, 0, columns, factory);
+    }
+
+    /**
+     * @param tableName   the schema-qualified, quoted table name, e.g. {@code public."Voters4"}
+     * @param idColumn    the primary key column
+     * @param idSequence  the schema-qualified, quoted sequence new rows take their ids from
+     * @param idBlockSize the ids each sequence value stands for: the entity's allocationSize and the sequence increment
+     * @param columns     the non-key columns, in CSV order
+     * @param factory     creates an empty entity for parsed rows
+     */
+    public BulkTableMapping(String tableName, BulkColumn<T> idColumn, String idSequence, int idBlockSize,
+                            List<BulkColumn<T>> columns, Supplier<T> factory) {
+        this.tableName = tableName;
+        this.idColumn = idColumn;
+        this.idSequence = idSequence;
+        this.idBlockSize = idBlockSize;
+        this.columns = List.copyOf(columns);
+        this.factory = factory;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public BulkColumn<T> getIdColumn() {
+        return idColumn;
+    }
+
+    public List<BulkColumn<T>> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return a fresh id allocator for one bulk insert
+     * @throws UnsupportedOperationException if the mapping has no id sequence
+     */
+    public SequenceIdBlocks newIdBlocks() {
+        if (idSequence == null) {
+            throw new UnsupportedOperationException("No id sequence is configured for " + tableName);
+        }
+        return new SequenceIdBlocks(idSequence, idBlockSize);
+    }
+
+    public T newInstance() {
+        return factory.get();
+    }
+
+    /**
+     * @return the comma-separated, quoted names of the non-key columns
+     */
+    public String columnList() {
+        StringBuilder sb = new StringBuilder();
+        for (BulkColumn<T> column : columns) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(column.getColumn());
+        }
+        return sb.toString();
+    }
+}
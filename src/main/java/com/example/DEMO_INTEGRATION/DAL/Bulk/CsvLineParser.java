@@ -0,0 +1,80 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 record parser for bulk ingest: comma separated, fields optionally wrapped in double quotes,
+ * embedded quotes doubled. Quoted fields may contain line breaks; {@link CsvRecordReader} reads such records
+ * whole. An unquoted empty field is read as null, a quoted empty field ("") as an empty string.
+ */
+public final class CsvLineParser {
+
+    private CsvLineParser() {
+    }
+
+    /**
+     * Splits one CSV record into fields.
+     *
+     * @param line the record without its terminator
+     * @return the fields, null for empty unquoted fields
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            field.setLength(0);
+            boolean quoted = false;
+            if (i < length && line.charAt(i) == '"') {
+                quoted = true;
+                i++;
+                while (true) {
+                    if (i >= length) throw new IllegalArgumentException("Unterminated quoted field");
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (i < length && line.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted field at position " + i);
+                }
+            } else {
+                while (i < length && line.charAt(i) != ',') {
+                    field.append(line.charAt(i++));
+                }
+            }
+            fields.add(!quoted && field.length() == 0 ? null : field.toString());
+            if (i >= length) return fields;
+            i++; // skip the comma
+        }
+    }
+
+    /**
+     * Appends a value in the CSV dialect Postgres COPY expects: null as an empty field,
+     * text always quoted so that an empty string stays distinguishable from null.
+     */
+    public static void appendValue(StringBuilder sb, Object value) {
+        if (value == null) return;
+        if (value instanceof CharSequence text) {
+            sb.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') sb.append('"');
+                sb.append(c);
+            }
+            sb.append('"');
+        } else {
+            sb.append(value);
+        }
+    }
+}
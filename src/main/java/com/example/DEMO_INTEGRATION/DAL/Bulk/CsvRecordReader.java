@@ -0,0 +1,79 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads CSV records for bulk ingest. A record is usually one line, but RFC 4180 lets a quoted field contain
+ * line breaks, so lines are joined until every quote is closed. A line break inside a field is kept as
+ * {@code \n}, whatever the source used. The caller owns and closes the underlying reader.
+ */
+public final class CsvRecordReader {
+
+    /**
+     * Longest record accepted; beyond it a quote was almost certainly left open and the rest of the input
+     * would otherwise be buffered as one field.
+     */
+    public static final int DEFAULT_MAX_RECORD_CHARS = 1 << 20;
+
+    private final BufferedReader reader;
+    private final int maxRecordChars;
+    private long lineNumber;
+    private long recordLineNumber;
+
+    public CsvRecordReader(BufferedReader reader) {
+        this(reader, DEFAULT_MAX_RECORD_CHARS);
+    }
+
+    public CsvRecordReader(BufferedReader reader, int maxRecordChars) {
+        if (reader == null) throw new IllegalArgumentException("Reader cannot be null");
+        if (maxRecordChars <= 0) throw new IllegalArgumentException("Max record length must be greater than 0");
+        this.reader = reader;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record without its terminator, or null at the end of the input. A record whose quote is
+     * still open at the end of the input is returned as is, and {@link CsvLineParser#parse} rejects it.
+     * @throws IllegalArgumentException if a record exceeds the maximum length
+     */
+    public String next() throws IOException {
+        String line = reader.readLine();
+        if (line == null) return null;
+        recordLineNumber = ++lineNumber;
+        if (!hasOddQuotes(line)) return line;
+
+        StringBuilder record = new StringBuilder(line);
+        boolean open = true;
+        while (open) {
+            String next = reader.readLine();
+            if (next == null) break;
+            lineNumber++;
+            record.append('\n').append(next);
+            if (record.length() > maxRecordChars) {
+                throw new IllegalArgumentException("CSV record starting at line " + recordLineNumber + " exceeds "
+                        + maxRecordChars + " characters; a quoted field is probably not terminated");
+            }
+            if (hasOddQuotes(next)) open = false;
+        }
+        return record.toString();
+    }
+
+    /**
+     * @return the line the last record returned by {@link #next()} started on, 1-based
+     */
+    public long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    // An escaped quote ("") adds two, so only an odd count opens or closes a quoted field
+    private static boolean hasOddQuotes(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') quotes++;
+        }
+        return (quotes & 1) == 1;
+    }
+}
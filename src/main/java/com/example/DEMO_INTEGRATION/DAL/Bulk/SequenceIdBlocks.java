@@ -0,0 +1,88 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+
+/**
+ * Hands out ids for rows written outside JPA from a pooled sequence, in the blocks Hibernate's pooled optimizer
+ * uses: a sequence value v owns the ids (v - blockSize, v]. One nextval thus covers blockSize rows, where a
+ * per-row column default would use up a whole block for every row. The sequence must step by blockSize.
+ * Not thread-safe; one instance serves one bulk operation.
+ */
+public final class SequenceIdBlocks {
+
+    private static final String NEXT_VALUES_SQL = "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+    private final String sequence;
+    private final int blockSize;
+    private final ArrayDeque<long[]> blocks = new ArrayDeque<>(); // {next id, last id}
+    private final ArrayDeque<Long> givenBack = new ArrayDeque<>();
+    private long available;
+
+    /**
+     * @param sequence  the schema-qualified, quoted sequence name, e.g. {@code public."Voters4_ID_seq"}
+     * @param blockSize the sequence increment, equal to the entity's allocationSize
+     */
+    public SequenceIdBlocks(String sequence, int blockSize) {
+        if (blockSize <= 0) throw new IllegalArgumentException("Block size must be greater than 0");
+        this.sequence = sequence;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Makes at least {@code count} ids available, fetching all missing blocks in one round trip.
+     * Must not run while a COPY is in progress on the connection.
+     */
+    public void reserve(Connection connection, int count) throws SQLException {
+        while (available < count) {
+            long blockCount = (count - available + blockSize - 1) / blockSize;
+            try (PreparedStatement statement = connection.prepareStatement(NEXT_VALUES_SQL)) {
+                statement.setString(1, sequence);
+                statement.setLong(2, blockCount);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        addBlock(resultSet.getLong(1));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the next reserved id, ids given back first
+     * @throws IllegalStateException if no reserved id is left
+     */
+    public long next() {
+        Long id = givenBack.poll();
+        if (id == null) {
+            long[] block = blocks.peek();
+            if (block == null) throw new IllegalStateException("No reserved ids left");
+            id = block[0]++;
+            if (block[0] > block[1]) blocks.poll();
+        }
+        available--;
+        return id;
+    }
+
+    /**
+     * Returns an id from {@link #next()} that was not written, e.g. proposed for a row that matched an existing key.
+     */
+    public void giveBack(long id) {
+        givenBack.push(id);
+        available++;
+    }
+
+    public long available() {
+        return available;
+    }
+
+    // A fresh sequence starts at 1, so the first block cannot reach below 1
+    void addBlock(long value) {
+        long first = Math.max(1, value - blockSize + 1);
+        blocks.add(new long[]{first, value});
+        available += value - first + 1;
+    }
+}
@@ -4,14 +4,34 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "\"Voters4\"", schema = "public")  // Use exact name with quotes
+@Table(name = "\"Voters4\"", schema = "public",  // Use exact name with quotes
+        indexes = {
+                // (column, ID) pairs serve equality/range filters and keyset pages sorted by that column
+                @Index(name = "IX_Voters4_Name_ID", columnList = "\"Name\", \"ID\""),
+                @Index(name = "IX_Voters4_Age_ID", columnList = "\"Age\", \"ID\"")
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "voters4") // Region sized in SecondLevelCacheConfig
 @Data
 public class Voters4 {
 
+    // The id sequence and its increment, shared with the bulk paths that reserve ids outside JPA
+    public static final String ID_SEQUENCE = "public.\"Voters4_ID_seq\"";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY ids disable JDBC batching; a pooled sequence hands out 50 ids per round trip instead.
+    // The sequence increment must equal allocationSize (see db/voters4-pooled-sequence.sql).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voters4IdGenerator")
+    @SequenceGenerator(name = "voters4IdGenerator", sequenceName = "\"Voters4_ID_seq\"", schema = "public",
+            allocationSize = ID_ALLOCATION_SIZE)
+    // Only for rows inserted by hand: each one uses up a whole block; the bulk paths reserve blocks instead
+    @ColumnDefault("nextval('public.\"Voters4_ID_seq\"')")
     @Column(name = "\"ID\"")
     private Integer id;
 
@@ -1,9 +1,17 @@
 package com.example.DEMO_INTEGRATION.DAL.Interfaces;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -71,6 +79,24 @@ public interface IBaseRepository<T, ID> {
      */
     CompletableFuture<Boolean> batchAddAllAsync(List<T> entities, int batchSize);
 
+    /**
+     * Streams rows from the source straight into the entity's table with PostgreSQL {@code COPY FROM STDIN}.
+     * Rows are parsed and validated one at a time; invalid rows are skipped and reported, valid ones are
+     * sent in batches of one COPY each, so memory use does not depend on the input size. Ids are reserved from
+     * the id sequence a block at a time before each batch. Requires the repository to provide a bulk table
+     * mapping with an id sequence.
+     *
+     * @param source    the input, UTF-8 encoded
+     * @param format    the input format
+     * @param csvHeader whether the first CSV line names the columns (ignored for NDJSON)
+     * @return the loaded and rejected row counts
+     * @throws IllegalArgumentException if the source or format is null, or the CSV header is invalid
+     * @throws UnsupportedOperationException if the entity has no bulk table mapping or id sequence
+     * @throws org.springframework.dao.DataIntegrityViolationException if the COPY fails; nothing is loaded
+     */
+    @Transactional(rollbackOn = Exception.class)
+    BulkIngestResult bulkIngest(InputStream source, BulkIngestFormat format, boolean csvHeader);
+
     /**
      * Updates an existing entity in the database.
      *
@@ -82,6 +108,71 @@ public interface IBaseRepository<T, ID> {
     @Transactional(rollbackOn = Exception.class)
     boolean update(T entity);
 
+    /**
+     * Updates many existing entities with set-based {@code UPDATE ... FROM (VALUES ...)} statements,
+     * one per chunk of rows, without loading them first. Rows whose id does not exist are ignored.
+     * Requires the repository to provide a bulk table mapping.
+     *
+     * @param entities the entities to update; every id and required column must be set
+     * @return the number of rows updated
+     * @throws IllegalArgumentException if the list is empty or an entity is incomplete
+     * @throws UnsupportedOperationException if the entity has no bulk table mapping
+     * @throws org.springframework.dao.DataAccessResourceFailureException if the update fails
+     */
+    @Transactional(rollbackOn = Exception.class)
+    int bulkUpdate(List<T> entities);
+
+    /**
+     * Same as {@link #bulkUpdate}, but reports which rows were updated, so a caller that batched independent
+     * updates can tell each of them whether its row still existed.
+     *
+     * @param entities the entities to update; every id and required column must be set
+     * @return the ids of the rows updated; ids missing from the table are absent
+     * @throws IllegalArgumentException if the list is empty or an entity is incomplete
+     * @throws UnsupportedOperationException if the entity has no bulk table mapping
+     * @throws org.springframework.dao.DataAccessResourceFailureException if the update fails
+     */
+    @Transactional(rollbackOn = Exception.class)
+    Set<ID> bulkUpdateReturningIds(List<T> entities);
+
+    /**
+     * Inserts or updates many entities in multi-row statements, one per chunk, without reading them first.
+     * By a natural key, each chunk is one {@code INSERT ... ON CONFLICT (key) DO UPDATE}; the key columns must
+     * carry a unique constraint or index, and the entities' ids are ignored. By {@code ["id"]}, entities with an
+     * id are updated with {@code UPDATE ... FROM (VALUES ...)} and an id that matches no row is rejected;
+     * entities without an id are inserted. Ids of new rows are always reserved from the id sequence a block at
+     * a time; an id chosen by the caller is never written. Re-sending the same rows is idempotent: rows whose
+     * values are already current are left untouched. When the key rows repeat within the input, the last one
+     * wins. Requires the repository to provide a bulk table mapping with an id sequence.
+     *
+     * @param entities      the entities to upsert; every key and required column must be set
+     * @param keyAttributes the entity attributes forming the conflict key, e.g. {@code ["id"]}
+     * @param chunkSize     the maximum rows per statement; lowered when the statement would exceed the driver's
+     *                      bind parameter limit
+     * @return the inserted, updated and unchanged row counts
+     * @throws IllegalArgumentException if the list is empty, an entity is incomplete, a key attribute is unknown,
+     *                                  the id is combined with other key attributes, an id to update does not
+     *                                  exist or the chunk size is not positive; nothing is written
+     * @throws UnsupportedOperationException if the entity has no bulk table mapping or id sequence
+     * @throws org.springframework.dao.DataAccessResourceFailureException if the upsert fails; nothing is written
+     */
+    @Transactional(rollbackOn = Exception.class)
+    UpsertResult bulkUpsert(List<T> entities, List<String> keyAttributes, int chunkSize);
+
+    /**
+     * Deletes all entities with the given ids in a single {@code DELETE ... WHERE id = ANY(?)} statement,
+     * without loading them first. Ids that do not exist are ignored.
+     * Requires the repository to provide a bulk table mapping.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows deleted
+     * @throws IllegalArgumentException if the list is null, empty or contains null
+     * @throws UnsupportedOperationException if the entity has no bulk table mapping
+     * @throws org.springframework.dao.DataAccessResourceFailureException if the deletion fails
+     */
+    @Transactional(rollbackOn = Exception.class)
+    int bulkDeleteByIds(List<ID> ids);
+
     /**
      * Asynchronously updates an existing entity in the database.
      *
@@ -127,6 +218,23 @@ public interface IBaseRepository<T, ID> {
      */
     CompletableFuture<Page<T>> fetchPaginatedAsync(Pageable pageable);
 
+    /**
+     * Retrieves one page of entities using keyset (seek) pagination.
+     * Rows are ordered by the sort attribute and then by the primary key, and each page continues strictly after
+     * the last row of the previous one, so every page costs the same as the first regardless of depth.
+     * Only the attributes the repository declares may be sorted by, each one non-null and indexed together with
+     * the primary key.
+     *
+     * @param sortAttribute     the entity attribute to order by, or null to order by the primary key
+     * @param continuationToken the token returned with the previous page, or null for the first page
+     * @param pageSize          the maximum number of entities to return
+     * @return the page of entities with the token for the next page
+     * @throws IllegalArgumentException if the sort attribute is not declared, or the token or page size is invalid
+     * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     */
+    @Transactional
+    KeysetPage<T> fetchKeyset(String sortAttribute, String continuationToken, int pageSize);
+
     /**
      * Retrieves a single entity matching the given specification.
      *
@@ -165,6 +273,17 @@ public interface IBaseRepository<T, ID> {
      */
     CompletableFuture<List<T>> fetchByConditionAsync(Specification<T> spec);
 
+    /**
+     * Retrieves an entity by its primary key.
+     *
+     * @param id the primary key
+     * @return an Optional containing the entity, or empty if none exists
+     * @throws IllegalArgumentException if the id is null
+     * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     */
+    @Transactional
+    Optional<T> fetchById(ID id);
+
     /**
      * Retrieves all entities of the specified type.
      *
@@ -181,25 +300,69 @@ public interface IBaseRepository<T, ID> {
      */
     CompletableFuture<List<T>> fetchAllAsync();
 
+    /**
+     * Streams all entities through a server-side cursor instead of materializing them in a list.
+     * Each entity is detached from the persistence context once the consumer returns, so memory
+     * stays bounded by the fetch size rather than the table size.
+     *
+     * @param fetchSize the number of rows fetched from the database per round trip
+     * @param consumer  the callback invoked for every entity, in read order
+     * @return the number of entities streamed
+     * @throws IllegalArgumentException if fetchSize is not positive or the consumer is null
+     * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     */
+    @Transactional
+    long streamAll(int fetchSize, Consumer<T> consumer);
+
+    /**
+     * Retrieves entities matching all of the given filters. The filters are translated into SQL,
+     * so only matching rows are read and memory scales with the result size.
+     *
+     * @param filters the filter criteria combined with AND, may be empty to match all entities
+     * @param limit   the maximum number of entities to return
+     * @return a list of matching entities ordered by primary key
+     * @throws IllegalArgumentException if a filter is invalid or the limit is not positive
+     * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     */
+    @Transactional
+    List<T> fetchByFilters(List<FilterCriterion> filters, int limit);
+
+    /**
+     * Retrieves the first entity, by primary key, matching all of the given filters. Only one row is read.
+     *
+     * @param filters the filter criteria combined with AND
+     * @return an Optional containing the first matching entity, or empty if none found
+     * @throws IllegalArgumentException if a filter is invalid
+     * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     */
+    @Transactional
+    Optional<T> fetchFirstByFilters(List<FilterCriterion> filters);
+
     /**
      * Retrieves all entities matching the given condition using in-memory filtering.
+     * The condition cannot be translated into SQL, so every row is still read; prefer {@link #fetchByFilters}.
      *
      * @param condition the predicate to filter entities
      * @return a list of entities matching the condition
      * @throws IllegalArgumentException if the condition is null
      * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     * @deprecated use {@link #fetchByFilters(List, int)} or {@link #fetchByCondition(Specification)}
      */
+    @Deprecated
     @Transactional
     List<T> getAllByCondition(Predicate<T> condition);
 
     /**
      * Retrieves a single entity matching the given condition using in-memory filtering.
+     * Rows are scanned until the first match; prefer {@link #fetchFirstByFilters}.
      *
      * @param condition the predicate to filter entities
      * @return an Optional containing the first matching entity, or empty if none found
      * @throws IllegalArgumentException if the condition is null
      * @throws org.springframework.dao.DataRetrievalFailureException if the query fails
+     * @deprecated use {@link #fetchFirstByFilters(List)} or {@link #fetchSingle(Specification)}
      */
+    @Deprecated
     @Transactional
     Optional<T> getSingle(Predicate<T> condition);
 
@@ -224,4 +387,23 @@ public interface IBaseRepository<T, ID> {
      */
     @Transactional
     <R> List<R> executeDynamicNativeQuery(String sql, List<Object> params, Class<R> dtoClass);
+
+    /**
+     * Executes a dynamic native SQL query and hands each row to the consumer as a DTO while it is read,
+     * through a server-side cursor. Neither the raw rows nor the DTOs are collected, so memory stays
+     * bounded by the fetch size however many rows the query returns. The cursor lives in the surrounding
+     * transaction and is closed before this method returns.
+     *
+     * @param sql       the native SQL query
+     * @param params    the query parameters
+     * @param dtoClass  the DTO class to map results to
+     * @param fetchSize the number of rows fetched from the database per round trip
+     * @param consumer  the callback invoked for every DTO, in read order
+     * @param <R>       the DTO type
+     * @return the number of rows streamed
+     * @throws IllegalArgumentException if the SQL is empty, fetchSize is not positive or the consumer is null
+     * @throws org.springframework.dao.DataRetrievalFailureException if the query, mapping or consumer fails
+     */
+    @Transactional
+    <R> long streamDynamicNativeQuery(String sql, List<Object> params, Class<R> dtoClass, int fetchSize, Consumer<R> consumer);
 }
\ No newline at end of file
@@ -1,12 +1,37 @@
 package com.example.DEMO_INTEGRATION.DAL.Interfaces;
 
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
 import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IVoters4Repository {
     List<Voters4> getAllVoters();
+    String getVotersVersionTag();
+    Optional<Voters4> getVoterById(Integer voterId);
+    long streamAllVoters(int fetchSize, Consumer<Voters4> consumer);
+    KeysetPage<Voters4> getVotersPage(String sortBy, String pageToken, int size);
+    List<Voters4> searchVoters(List<FilterCriterion> filters, int limit);
     boolean addVoters(List<Voters4> votersList);
+    int addVotersChunk(List<Voters4> voters);
+    int addVotersOnce(Map<UUID, List<Voters4>> votersByKey);
+    void releaseWriteKeys(Collection<UUID> keys);
+    BulkIngestResult bulkIngestVoters(InputStream source, BulkIngestFormat format, boolean csvHeader);
     boolean updateVoter(Voters4 voter);
     boolean deleteVoter(Integer voterId);
+    int updateVoters(List<Voters4> voters);
+    Set<Integer> updateVotersReturningIds(List<Voters4> voters);
+    UpsertResult upsertVoters(List<Voters4> voters, List<String> keyAttributes, int chunkSize);
+    int deleteVoters(List<Integer> voterIds);
 }
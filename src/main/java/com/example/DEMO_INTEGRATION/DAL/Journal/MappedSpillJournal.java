@@ -0,0 +1,574 @@
+package com.example.DEMO_INTEGRATION.DAL.Journal;
+
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of opaque records in fixed-size, memory-mapped segment files. Records are framed as
+ * {@code [int length of type and payload][int crc32c][byte type][payload]} and positions are global byte offsets
+ * ({@code segmentId * segmentSize + offset}), so the order of positions is the order of appends.
+ *
+ * <p>Appends only copy into the mapping; one sync thread forces the written range to disk and wakes every
+ * appender the force covered (group fsync), so concurrent appenders share one fsync instead of paying one
+ * each. A reader consumes durable records from a cursor that is checkpointed to a small file after each
+ * commit; segments behind the checkpoint are deleted, and the directory never holds more than
+ * {@code maxSegments} segments, beyond which appends are rejected.
+ *
+ * <p>Opening an existing directory recovers it: records from the checkpoint on are validated, and the tail
+ * after the first torn or corrupt record of the last segment is zeroed so appends continue after the last
+ * intact record.
+ */
+public final class MappedSpillJournal implements AutoCloseable {
+
+    /** A record read from the journal, and the position just past it to commit once it has been applied. */
+    public static final class Record {
+        private final byte type;
+        private final byte[] payload;
+        private final long nextPosition;
+
+        private Record(byte type, byte[] payload, long nextPosition) {
+            this.type = type;
+            this.payload = payload;
+            this.nextPosition = nextPosition;
+        }
+
+        public byte getType() { return type; }
+        public byte[] getPayload() { return payload; }
+        public long getNextPosition() { return nextPosition; }
+    }
+
+    private static final int HEADER_BYTES = 9;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final long SYNC_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SYNC_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(MappedSpillJournal.class);
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>(); // guarded by lock
+    private long writePosition; // guarded by lock
+    private long durablePosition; // guarded by lock
+    private long readPosition; // guarded by lock; the checkpoint
+    private long pendingRecords; // guarded by lock
+    private boolean closed; // guarded by lock
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder appendedBytes = new LongAdder();
+    private final LongAdder fsyncs = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final long recoveredRecords;
+    private final long corruptRecords;
+
+    private final Thread syncer;
+
+    /**
+     * Opens (and recovers) the journal in the directory, creating it if needed.
+     *
+     * @param segmentSize bytes per segment file; a record must fit in one segment
+     * @param maxSegments segment files allowed at once; bounds disk usage to {@code segmentSize * maxSegments}
+     * @throws UncheckedIOException if the directory or its files cannot be read or written
+     */
+    public MappedSpillJournal(Path directory, int segmentSize, int maxSegments) {
+        if (segmentSize <= HEADER_BYTES) throw new IllegalArgumentException("Segment size must be greater than " + HEADER_BYTES);
+        if (maxSegments < 2) throw new IllegalArgumentException("Max segments must be at least 2");
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        try {
+            Files.createDirectories(directory);
+            long[] recovered = recover();
+            this.recoveredRecords = recovered[0];
+            this.corruptRecords = recovered[1];
+        } catch (IOException e) {
+            closeSegments();
+            throw new UncheckedIOException("Cannot open spill journal in " + directory, e);
+        }
+        this.syncer = new Thread(this::syncLoop, "spill-journal-sync");
+        this.syncer.setDaemon(true);
+        this.syncer.start();
+    }
+
+    /**
+     * Appends one record and waits until it is on disk.
+     *
+     * @throws RejectedExecutionException if the journal is full or closed
+     * @throws IllegalArgumentException   if the record cannot fit in a segment
+     */
+    public void append(byte type, byte[] payload) {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentSize) {
+            throw new IllegalArgumentException("Record of " + recordBytes + " bytes does not fit in a " + segmentSize + " byte segment");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+
+        long end;
+        lock.lock();
+        try {
+            if (closed) {
+                rejected.increment();
+                throw new RejectedExecutionException("Spill journal is closed");
+            }
+            long segmentId = segmentOf(writePosition);
+            int offset = offsetOf(writePosition);
+            if (offset + recordBytes > segmentSize) {
+                segmentId++;
+                offset = 0;
+            }
+            // A record that ended exactly at a segment boundary leaves the position in a segment not yet opened
+            if (!segments.containsKey(segmentId)) {
+                if (segments.size() >= maxSegments) {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Spill journal is full: " + maxSegments + " segments of " + segmentSize + " bytes");
+                }
+                openSegment(segmentId, true);
+                writePosition = segmentId * segmentSize;
+            }
+            MappedByteBuffer buffer = segments.get(segmentId).buffer;
+            buffer.putInt(offset + 4, (int) crc.getValue());
+            buffer.put(offset + 8, type);
+            buffer.put(offset + HEADER_BYTES, payload);
+            buffer.putInt(offset, payload.length + 1); // Length last: a zero length still marks the end
+            writePosition += recordBytes;
+            end = writePosition;
+            pendingRecords++;
+            written.signal();
+
+            while (durablePosition < end && !closed) {
+                synced.awaitUninterruptibly();
+            }
+            if (durablePosition < end) {
+                throw new RejectedExecutionException("Spill journal closed before the record was synced");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot extend spill journal", e);
+        } finally {
+            lock.unlock();
+        }
+        appended.increment();
+        appendedBytes.add(recordBytes);
+    }
+
+    /**
+     * Reads durable records from the checkpoint on without consuming them; {@link #commit} moves the checkpoint.
+     *
+     * @return up to maxRecords records in append order; empty when the reader has caught up
+     */
+    public List<Record> read(int maxRecords) {
+        List<Record> records = new ArrayList<>();
+        lock.lock();
+        try {
+            long position = readPosition;
+            while (records.size() < maxRecords && position < durablePosition) {
+                Segment segment = segments.get(segmentOf(position));
+                int offset = offsetOf(position);
+                int length = segment == null || offset + HEADER_BYTES > segmentSize ? 0 : segment.buffer.getInt(offset);
+                if (length == 0) {
+                    position = (segmentOf(position) + 1) * segmentSize; // End of this segment's records
+                    continue;
+                }
+                byte[] payload = new byte[length - 1];
+                segment.buffer.get(offset + HEADER_BYTES, payload);
+                position += HEADER_BYTES + payload.length;
+                records.add(new Record(segment.buffer.get(offset + 8), payload, position));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return records;
+    }
+
+    /**
+     * Marks everything before the position as applied: persists it as the checkpoint and deletes segments
+     * that lie wholly before it.
+     *
+     * @param position a {@link Record#getNextPosition()} of a record returned by {@link #read}
+     * @param records  how many records the commit covers
+     */
+    public void commit(long position, int records) {
+        lock.lock();
+        try {
+            if (position <= readPosition) {
+                return;
+            }
+            writeCheckpoint(position);
+            readPosition = position;
+            pendingRecords = Math.max(0, pendingRecords - records);
+            long firstKept = Math.min(segmentOf(position), segmentOf(writePosition));
+            while (!segments.isEmpty() && segments.firstKey() < firstKept) {
+                Segment segment = segments.pollFirstEntry().getValue();
+                segment.close();
+                Files.deleteIfExists(segmentPath(segment.id));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot commit spill journal checkpoint", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return records appended but not yet committed, including those recovered at startup
+     */
+    public long pendingRecords() {
+        lock.lock();
+        try {
+            return pendingRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return pendingRecords == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long diskBytes() { return (long) segmentCount() * segmentSize; }
+    public long maxDiskBytes() { return (long) maxSegments * segmentSize; }
+    public long getAppended() { return appended.sum(); }
+    public long getAppendedBytes() { return appendedBytes.sum(); }
+    public long getFsyncs() { return fsyncs.sum(); }
+    public long getRejected() { return rejected.sum(); }
+    public long getRecoveredRecords() { return recoveredRecords; }
+    public long getCorruptRecords() { return corruptRecords; }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            written.signal();
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        while (syncer.isAlive()) {
+            try {
+                syncer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        lock.lock();
+        try {
+            if (forceRange(durablePosition, writePosition)) { // Appends that raced close still reach disk
+                durablePosition = writePosition;
+            }
+            synced.signalAll();
+            closeSegments();
+        } finally {
+            lock.unlock();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void syncLoop() {
+        for (;;) {
+            long from;
+            long to;
+            lock.lock();
+            try {
+                while (durablePosition == writePosition && !closed) {
+                    written.awaitNanos(SYNC_IDLE_NANOS);
+                }
+                if (closed) {
+                    return;
+                }
+                from = durablePosition;
+                to = writePosition;
+            } catch (InterruptedException e) {
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            // Appends keep going while the range is forced; they land in the next round
+            boolean ok = forceRange(from, to);
+            lock.lock();
+            try {
+                if (ok) {
+                    durablePosition = to;
+                    fsyncs.increment();
+                    synced.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!ok) {
+                LockSupport.parkNanos(SYNC_RETRY_NANOS);
+            }
+        }
+    }
+
+    private boolean forceRange(long from, long to) {
+        try {
+            for (long segmentId = segmentOf(from); segmentId <= segmentOf(Math.max(from, to - 1)) && from < to; segmentId++) {
+                Segment segment;
+                lock.lock();
+                try {
+                    segment = segments.get(segmentId);
+                } finally {
+                    lock.unlock();
+                }
+                if (segment == null) {
+                    continue;
+                }
+                int start = segmentId == segmentOf(from) ? offsetOf(from) : 0;
+                int end = segmentId == segmentOf(to) ? offsetOf(to) : segmentSize;
+                if (end > start) {
+                    segment.buffer.force(start, end - start);
+                }
+            }
+            return true;
+        } catch (UncheckedIOException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Spill journal fsync failed", e, null, Map.of("directory", directory.toString()));
+            return false;
+        }
+    }
+
+    // Returns {records pending after the checkpoint, corrupt records skipped}
+    private long[] recover() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                ids.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        ids.sort(null);
+
+        long checkpoint = readCheckpoint();
+        for (Long id : ids) {
+            if (id < segmentOf(checkpoint)) {
+                Files.deleteIfExists(segmentPath(id)); // Fully applied before the last shutdown or crash
+            } else {
+                openSegment(id, false);
+            }
+        }
+        if (segments.isEmpty()) {
+            long first = ids.isEmpty() ? segmentOf(checkpoint) : Math.max(segmentOf(checkpoint), ids.get(ids.size() - 1) + 1);
+            openSegment(first, true);
+            writePosition = durablePosition = readPosition = Math.max(checkpoint, first * segmentSize);
+            return new long[] {0, 0};
+        }
+        readPosition = Math.max(checkpoint, segments.firstKey() * segmentSize);
+
+        long pending = 0;
+        long corrupt = 0;
+        long position = readPosition;
+        for (Segment segment : segments.values()) {
+            int offset = segment.id == segmentOf(readPosition) ? offsetOf(readPosition) : 0;
+            for (;;) {
+                int valid = validRecordLength(segment.buffer, offset);
+                if (valid <= 0) {
+                    if (valid < 0) {
+                        corrupt++;
+                        zeroFrom(segment, offset); // Torn tail; nothing after it was acknowledged
+                    }
+                    break;
+                }
+                offset += valid;
+                pending++;
+            }
+            position = segment.id * segmentSize + offset;
+        }
+        writePosition = durablePosition = position;
+        pendingRecords = pending;
+        if (pending > 0 || corrupt > 0) {
+            logger.log(LoggerUtil.LogLevel.WARN, "Spill journal recovered records to replay", null, null,
+                    Map.of("directory", directory.toString(), "pendingRecords", String.valueOf(pending),
+                            "corruptRecords", String.valueOf(corrupt)));
+        }
+        return new long[] {pending, corrupt};
+    }
+
+    // Bytes of the intact record at the offset; 0 at the end of the records, -1 for a torn or corrupt record
+    private int validRecordLength(MappedByteBuffer buffer, int offset) {
+        if (offset + HEADER_BYTES > segmentSize) {
+            return 0;
+        }
+        int length = buffer.getInt(offset);
+        if (length == 0) {
+            return 0;
+        }
+        if (length < 0 || offset + HEADER_BYTES + length - 1 > segmentSize) {
+            return -1;
+        }
+        byte[] payload = new byte[length - 1];
+        buffer.get(offset + HEADER_BYTES, payload);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.get(offset + 8));
+        crc.update(payload);
+        return (int) crc.getValue() == buffer.getInt(offset + 4) ? HEADER_BYTES + payload.length : -1;
+    }
+
+    private void zeroFrom(Segment segment, int offset) {
+        ByteBuffer zeros = ByteBuffer.allocate(Math.min(64 * 1024, segmentSize));
+        for (int at = offset; at < segmentSize; at += zeros.capacity()) {
+            int length = Math.min(zeros.capacity(), segmentSize - at);
+            segment.buffer.put(at, zeros.array(), 0, length);
+        }
+        segment.buffer.force();
+    }
+
+    private void openSegment(long id, boolean create) throws IOException {
+        Path path = segmentPath(id);
+        FileChannel channel = create
+                ? FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() != segmentSize) {
+                if (!create && channel.size() > segmentSize) {
+                    throw new IOException("Segment " + path + " is larger than the configured segment size");
+                }
+                channel.truncate(segmentSize);
+                channel.write(ByteBuffer.allocate(1), segmentSize - 1); // Allocate the file to its full size
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            segments.put(id, new Segment(id, channel, buffer));
+            if (create) {
+                channel.force(true);
+                forceDirectory();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (bytes.remaining() != 12) {
+            throw new IOException("Spill journal checkpoint " + path + " is damaged");
+        }
+        long position = bytes.getLong();
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.array(), 0, 8);
+        if ((int) crc.getValue() != bytes.getInt()) {
+            throw new IOException("Spill journal checkpoint " + path + " is damaged");
+        }
+        return position;
+    }
+
+    private void writeCheckpoint(long position) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(12).putLong(position);
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.array(), 0, 8);
+        bytes.putInt((int) crc.getValue()).flip();
+
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // New and renamed files only survive a crash once their directory entry is synced; not supported everywhere
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // best effort
+        }
+    }
+
+    private void closeSegments() {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private long segmentOf(long position) {
+        return position / segmentSize;
+    }
+
+    private int offsetOf(long position) {
+        return (int) (position % segmentSize);
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long id, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        // The mapping stays valid after the channel closes and is released when the buffer is collected
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // nothing left to release
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Converts raw string values (query parameters, continuation tokens) into the Java type of an entity attribute,
+ * so they can be bound as typed criteria parameters instead of being compared as text.
+ */
+public final class AttributeValueConverter {
+
+    private AttributeValueConverter() {
+    }
+
+    /**
+     * Converts a raw string value to the given attribute type.
+     *
+     * @param raw        the raw value, may be null
+     * @param targetType the Java type of the attribute
+     * @return the converted value, or null if raw is null
+     * @throws IllegalArgumentException if the value cannot be converted or the type is not supported
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Object convert(String raw, Class<?> targetType) {
+        if (raw == null) return null;
+        try {
+            if (targetType == String.class) return raw;
+            if (targetType == Integer.class || targetType == int.class) return Integer.valueOf(raw.trim());
+            if (targetType == Long.class || targetType == long.class) return Long.valueOf(raw.trim());
+            if (targetType == Short.class || targetType == short.class) return Short.valueOf(raw.trim());
+            if (targetType == Double.class || targetType == double.class) return Double.valueOf(raw.trim());
+            if (targetType == Float.class || targetType == float.class) return Float.valueOf(raw.trim());
+            if (targetType == BigDecimal.class) return new BigDecimal(raw.trim());
+            if (targetType == BigInteger.class) return new BigInteger(raw.trim());
+            if (targetType == Boolean.class || targetType == boolean.class) return parseBoolean(raw.trim());
+            if (targetType == UUID.class) return UUID.fromString(raw.trim());
+            if (targetType == LocalDate.class) return LocalDate.parse(raw.trim());
+            if (targetType == LocalDateTime.class) return LocalDateTime.parse(raw.trim());
+            if (targetType == OffsetDateTime.class) return OffsetDateTime.parse(raw.trim());
+            if (targetType == Instant.class) return Instant.parse(raw.trim());
+            if (targetType.isEnum()) return Enum.valueOf((Class<? extends Enum>) targetType, raw.trim());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cannot convert value: " + raw + " to type: " + targetType.getSimpleName(), e);
+        }
+        throw new IllegalArgumentException("Unsupported attribute type: " + targetType.getSimpleName());
+    }
+
+    private static Boolean parseBoolean(String raw) {
+        if ("true".equalsIgnoreCase(raw)) return Boolean.TRUE;
+        if ("false".equalsIgnoreCase(raw)) return Boolean.FALSE;
+        throw new IllegalArgumentException("Cannot convert value: " + raw + " to type: Boolean");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single typed filter on an entity attribute, e.g. {@code age >= 18}.
+ * Values are kept as raw strings and converted to the attribute's Java type when the predicate is built.
+ */
+public class FilterCriterion {
+
+    private static final String IN_VALUE_SEPARATOR = "\\|";
+
+    private final String attribute;
+    private final FilterOperator operator;
+    private final List<String> values;
+
+    public FilterCriterion(String attribute, FilterOperator operator, List<String> values) {
+        if (attribute == null || attribute.isBlank()) {
+            throw new IllegalArgumentException("Filter attribute cannot be null or empty");
+        }
+        if (operator == null) {
+            throw new IllegalArgumentException("Filter operator cannot be null");
+        }
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("Filter on " + attribute + " requires at least one value");
+        }
+        if (operator != FilterOperator.IN && values.size() != 1) {
+            throw new IllegalArgumentException("Operator " + operator + " accepts exactly one value");
+        }
+        this.attribute = attribute.trim();
+        this.operator = operator;
+        this.values = List.copyOf(values);
+    }
+
+    /**
+     * Parses a filter expression of the form {@code attribute:operator:value}.
+     * IN values are separated by '|', e.g. {@code id:in:1|2|3}. The value itself may contain ':'.
+     *
+     * @param expression the filter expression
+     * @return the parsed criterion
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static FilterCriterion parse(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("Filter expression cannot be null");
+        }
+        String[] parts = expression.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Filter must be in the form attribute:operator:value, got: " + expression);
+        }
+        FilterOperator operator = FilterOperator.fromString(parts[1].trim());
+        List<String> values = operator == FilterOperator.IN
+                ? Arrays.asList(parts[2].split(IN_VALUE_SEPARATOR))
+                : List.of(parts[2]);
+        return new FilterCriterion(parts[0], operator, values);
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return attribute + ":" + operator.name().toLowerCase() + ":" + String.join("|", values);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+/**
+ * Comparison operators supported by {@link FilterCriterion}.
+ * Each operator is translated into a JPA Criteria predicate, so filtering runs in SQL and can use indexes.
+ */
+public enum FilterOperator {
+    EQ, NE, GT, GTE, LT, LTE, IN, LIKE;
+
+    /**
+     * Resolves an operator from its case-insensitive name.
+     *
+     * @param value the operator name, e.g. "gte"
+     * @return the matching operator
+     * @throws IllegalArgumentException if the operator is unknown
+     */
+    public static FilterOperator fromString(String value) {
+        for (FilterOperator operator : values()) {
+            if (operator.name().equalsIgnoreCase(value)) {
+                return operator;
+            }
+        }
+        throw new IllegalArgumentException("Unknown filter operator: " + value);
+    }
+}
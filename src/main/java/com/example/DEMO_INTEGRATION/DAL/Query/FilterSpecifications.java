@@ -0,0 +1,91 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates {@link FilterCriterion} lists into JPA {@link Specification}s.
+ * All criteria are combined with AND; values are bound as typed parameters of the attribute's Java type.
+ */
+public final class FilterSpecifications {
+
+    private FilterSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching entities that satisfy every criterion.
+     *
+     * @param criteria the filter criteria, may be empty to match all entities
+     * @param <T>      the entity type
+     * @return the combined specification
+     * @throws IllegalArgumentException when the predicate is built, if an attribute is unknown or an operator
+     *                                  does not apply to its type
+     */
+    public static <T> Specification<T> toSpecification(List<FilterCriterion> criteria) {
+        List<FilterCriterion> filters = criteria != null ? List.copyOf(criteria) : List.of();
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(filters.size());
+            for (FilterCriterion criterion : filters) {
+                predicates.add(toPredicate(root, cb, criterion));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Predicate toPredicate(Root<T> root, CriteriaBuilder cb, FilterCriterion criterion) {
+        Attribute<? super T, ?> attribute;
+        try {
+            attribute = root.getModel().getAttribute(criterion.getAttribute());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown filter attribute: " + criterion.getAttribute());
+        }
+        if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+            throw new IllegalArgumentException("Attribute cannot be filtered: " + criterion.getAttribute());
+        }
+
+        Class<?> javaType = attribute.getJavaType();
+        Path path = root.get(criterion.getAttribute());
+        List<String> rawValues = criterion.getValues();
+
+        switch (criterion.getOperator()) {
+            case EQ:
+                return cb.equal(path, AttributeValueConverter.convert(rawValues.get(0), javaType));
+            case NE:
+                return cb.notEqual(path, AttributeValueConverter.convert(rawValues.get(0), javaType));
+            case IN: {
+                List<Object> values = new ArrayList<>(rawValues.size());
+                for (String raw : rawValues) {
+                    values.add(AttributeValueConverter.convert(raw, javaType));
+                }
+                return path.in(values);
+            }
+            case LIKE:
+                if (javaType != String.class) {
+                    throw new IllegalArgumentException("LIKE is only supported on text attributes: " + criterion.getAttribute());
+                }
+                return cb.like(path, rawValues.get(0));
+            default:
+                break;
+        }
+
+        if (!Comparable.class.isAssignableFrom(javaType) && !javaType.isPrimitive()) {
+            throw new IllegalArgumentException("Range filters are not supported on attribute: " + criterion.getAttribute());
+        }
+        Comparable value = (Comparable) AttributeValueConverter.convert(rawValues.get(0), javaType);
+        return switch (criterion.getOperator()) {
+            case GT -> cb.greaterThan(path, value);
+            case GTE -> cb.greaterThanOrEqualTo(path, value);
+            case LT -> cb.lessThan(path, value);
+            case LTE -> cb.lessThanOrEqualTo(path, value);
+            default -> throw new IllegalArgumentException("Unsupported filter operator: " + criterion.getOperator());
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ * Holds the sort attribute plus the sort value and id of the last row returned, encoded as URL-safe Base64 JSON.
+ * Values are kept as strings and converted back with {@link AttributeValueConverter} using the attribute's type.
+ */
+public final class KeysetToken {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String sortBy;
+    private final String lastSortValue;
+    private final String lastId;
+
+    public KeysetToken(String sortBy, String lastSortValue, String lastId) {
+        this.sortBy = sortBy;
+        this.lastSortValue = lastSortValue;
+        this.lastId = lastId;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getLastSortValue() {
+        return lastSortValue;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+
+    public String encode() {
+        Map<String, String> payload = new LinkedHashMap<>();
+        payload.put("s", sortBy);
+        payload.put("v", lastSortValue);
+        payload.put("i", lastId);
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(payload);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode continuation token", e);
+        }
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the encoded token
+     * @return the decoded token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetToken decode(String token) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            Map<?, ?> payload = OBJECT_MAPPER.readValue(json, Map.class);
+            Object sortBy = payload.get("s");
+            Object lastId = payload.get("i");
+            if (!(sortBy instanceof String) || !(lastId instanceof String)) {
+                throw new IllegalArgumentException("Continuation token is incomplete");
+            }
+            Object lastSortValue = payload.get("v");
+            return new KeysetToken((String) sortBy, lastSortValue != null ? lastSortValue.toString() : null, (String) lastId);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid continuation token", e);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Maps native query rows ({@code Object[]} per row) onto a DTO through the DTO constructor whose parameter
+ * count matches the row width, converting each column to the declared parameter type.
+ *
+ * <p>The first call for a (DTO class, row width) builds one method handle that converts every column and calls
+ * the constructor, and binds it as a constant in a hidden class so the JIT inlines it like hand-written mapping
+ * code. Later calls with the same shape reuse that mapper; no reflection or regex runs per row.
+ */
+public final class NativeRowMapper {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ConcurrentMap<Shape, CompiledMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+    private static final byte[] CONSTANT_MAPPER_BYTES = loadConstantMapperBytes();
+
+    private static final MethodHandle TO_INTEGER = findConverter("toInteger", Object.class);
+    private static final MethodHandle TO_LONG = findConverter("toLong", Object.class);
+    private static final MethodHandle TO_STRING = findConverter("toStringValue", Object.class);
+    private static final MethodHandle CHECK_INSTANCE = findConverter("checkInstance", Class.class, Class.class, Object.class);
+
+    private NativeRowMapper() {
+    }
+
+    /**
+     * @param rows     raw rows as returned by a native query
+     * @param dtoClass the DTO type; needs a constructor taking one argument per column
+     * @return one DTO per row, in row order; empty without looking for a constructor if there are no rows
+     * @throws RuntimeException         if no constructor matches the row width or instantiation fails
+     * @throws IllegalArgumentException if a column cannot be converted to its parameter type
+     */
+    public static <R> List<R> mapRows(List<Object[]> rows, Class<R> dtoClass) {
+        List<R> resultList = new ArrayList<>(rows.size());
+        if (rows.isEmpty()) {
+            return resultList;
+        }
+
+        Function<Object[], R> mapper = rowMapper(dtoClass, rows.get(0).length);
+        for (Object[] row : rows) {
+            resultList.add(mapper.apply(row));
+        }
+        return resultList;
+    }
+
+    /**
+     * The cached mapper for one row shape, for callers that map rows one at a time as they are read.
+     *
+     * @param dtoClass the DTO type; needs a constructor taking one argument per column
+     * @param width    the number of columns in every row
+     * @return a thread-safe function mapping one row of that width to a DTO
+     * @throws RuntimeException if no constructor matches the width
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Function<Object[], R> rowMapper(Class<R> dtoClass, int width) {
+        return (Function<Object[], R>) MAPPERS.computeIfAbsent(new Shape(dtoClass, width), NativeRowMapper::compile);
+    }
+
+    /**
+     * Converts one column value to a constructor parameter type: assignable values pass through, numbers and
+     * digit-only strings convert to Integer/Long, anything converts to String.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    public static Object convertToType(Object value, Class<?> targetType) {
+        if (targetType == Integer.class || targetType == int.class) return toInteger(value);
+        if (targetType == Long.class || targetType == long.class) return toLong(value);
+        if (targetType == String.class) return toStringValue(value);
+        return checkInstance(MethodType.methodType(targetType).wrap().returnType(), targetType, value);
+    }
+
+    private static CompiledMapper<?> compile(Shape shape) {
+        Constructor<?> targetConstructor = null;
+        for (Constructor<?> ctor : shape.dtoClass.getDeclaredConstructors()) {
+            if (ctor.getParameterCount() == shape.width) {
+                targetConstructor = ctor;
+                break;
+            }
+        }
+        if (targetConstructor == null) {
+            throw new RuntimeException("No matching constructor found in DTO: " + shape.dtoClass.getSimpleName());
+        }
+
+        MethodHandle constructor;
+        try {
+            constructor = LOOKUP.unreflectConstructor(targetConstructor);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to instantiate DTO: " + shape.dtoClass.getSimpleName(), e);
+        }
+
+        // (Object, ..., Object) -> DTO with each column converted, then (Object[]) -> Object
+        Class<?>[] paramTypes = targetConstructor.getParameterTypes();
+        MethodHandle[] converters = new MethodHandle[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            converters[i] = converterFor(paramTypes[i]);
+        }
+        MethodHandle rowHandle = MethodHandles.filterArguments(constructor, 0, converters)
+                .asType(MethodType.genericMethodType(shape.width))
+                .asSpreader(Object[].class, shape.width);
+
+        return new CompiledMapper<>(shape.dtoClass, shape.width, bindAsConstant(rowHandle));
+    }
+
+    // (Object) -> parameter type; asType adds the cast, and the unboxing for primitive parameters
+    private static MethodHandle converterFor(Class<?> targetType) {
+        MethodHandle converter;
+        if (targetType == Integer.class || targetType == int.class) {
+            converter = TO_INTEGER;
+        } else if (targetType == Long.class || targetType == long.class) {
+            converter = TO_LONG;
+        } else if (targetType == String.class) {
+            converter = TO_STRING;
+        } else {
+            converter = MethodHandles.insertArguments(CHECK_INSTANCE, 0, MethodType.methodType(targetType).wrap().returnType(), targetType);
+        }
+        return converter.asType(MethodType.methodType(targetType, Object.class));
+    }
+
+    // A handle held in a field is opaque to the JIT; as a static final of its own class it is a constant and
+    // inlines into the caller. Falls back to the plain handle if the template class bytes cannot be read.
+    private static RowFunction bindAsConstant(MethodHandle rowHandle) {
+        if (CONSTANT_MAPPER_BYTES != null) {
+            try {
+                Class<?> mapperClass = LOOKUP.defineHiddenClassWithClassData(CONSTANT_MAPPER_BYTES, rowHandle, true,
+                        MethodHandles.Lookup.ClassOption.NESTMATE).lookupClass();
+                return (RowFunction) mapperClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall through to the plain handle
+            }
+        }
+        return rowHandle::invokeExact;
+    }
+
+    private static byte[] loadConstantMapperBytes() {
+        String resource = ConstantRowFunction.class.getName().substring(NativeRowMapper.class.getPackageName().length() + 1) + ".class";
+        try (InputStream in = NativeRowMapper.class.getResourceAsStream(resource)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findConverter(String name, Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.findStatic(NativeRowMapper.class, name, MethodType.methodType(Object.class, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static Object toInteger(Object value) {
+        if (value == null || value instanceof Integer) return value;
+        if (value instanceof Number num) return num.intValue();
+        if (value instanceof String s && isDigits(s)) return Integer.parseInt(s);
+        throw cannotConvert(value, Integer.class);
+    }
+
+    private static Object toLong(Object value) {
+        if (value == null || value instanceof Long) return value;
+        if (value instanceof Number num) return num.longValue();
+        if (value instanceof String s && isDigits(s)) return Long.parseLong(s);
+        throw cannotConvert(value, Long.class);
+    }
+
+    private static Object toStringValue(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static Object checkInstance(Class<?> boxedType, Class<?> targetType, Object value) {
+        if (value == null || boxedType.isInstance(value)) return value;
+        throw cannotConvert(value, targetType);
+    }
+
+    // Same strings as the regex \d+ (ASCII digits, at least one), without matching a pattern per value
+    private static boolean isDigits(String s) {
+        if (s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    private static IllegalArgumentException cannotConvert(Object value, Class<?> targetType) {
+        return new IllegalArgumentException("Cannot convert value: " + value + " to type: " + targetType.getSimpleName());
+    }
+
+    private interface RowFunction {
+        Object apply(Object[] row) throws Throwable;
+    }
+
+    // Template for bindAsConstant, never loaded as itself: each hidden copy reads its own handle from class data
+    private static final class ConstantRowFunction implements RowFunction {
+        private static final MethodHandle ROW_HANDLE;
+
+        static {
+            try {
+                ROW_HANDLE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+            } catch (IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        @Override
+        public Object apply(Object[] row) throws Throwable {
+            return ROW_HANDLE.invokeExact(row);
+        }
+    }
+
+    private static final class Shape {
+        private final Class<?> dtoClass;
+        private final int width;
+
+        private Shape(Class<?> dtoClass, int width) {
+            this.dtoClass = dtoClass;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Shape other && other.dtoClass == dtoClass && other.width == width;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dtoClass, width);
+        }
+    }
+
+    private static final class CompiledMapper<R> implements Function<Object[], R> {
+        private final Class<R> dtoClass;
+        private final int width;
+        private final RowFunction function;
+
+        private CompiledMapper(Class<R> dtoClass, int width, RowFunction function) {
+            this.dtoClass = dtoClass;
+            this.width = width;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(Object[] row) {
+            if (row.length != width) {
+                throw new IllegalArgumentException("Row has " + row.length + " columns, expected " + width);
+            }
+            try {
+                return dtoClass.cast(function.apply(row));
+            } catch (IllegalArgumentException | Error e) {
+                throw e; // Column conversion failures surface as-is, as before
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to instantiate DTO: " + dtoClass.getSimpleName(), e);
+            }
+        }
+    }
+}
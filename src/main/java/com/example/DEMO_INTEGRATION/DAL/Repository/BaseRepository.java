@@ -1,38 +1,96 @@
 package com.example.DEMO_INTEGRATION.DAL.Repository;
 
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkColumn;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkSql;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkTableMapping;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.CsvLineParser;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.CsvRecordReader;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.SequenceIdBlocks;
 import com.example.DEMO_INTEGRATION.DAL.Interfaces.IBaseRepository;
+import com.example.DEMO_INTEGRATION.DAL.Query.AttributeValueConverter;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterSpecifications;
+import com.example.DEMO_INTEGRATION.DAL.Query.KeysetToken;
+import com.example.DEMO_INTEGRATION.DAL.Query.NativeRowMapper;
+import com.example.DEMO_INTEGRATION.DAL.Routing.ReadOnlyTransactional;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkRowError;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import com.example.DEMO_INTEGRATION.config.ExecutorConfig;
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil.LogLevel;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.transaction.Transactional;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Abstract base repository providing optimized CRUD operations for entities.
  * Extends SimpleJpaRepository and integrates batch processing, async operations, and professional error handling with logging.
+ * Async variants run on the bounded repository executor; the work itself runs inline on that thread,
+ * so each call costs one thread hop and never blocks common ForkJoinPool threads on JDBC.
  *
  * @param <T>  the entity type
  * @param <ID> the type of the entity's ID
@@ -42,10 +100,35 @@ import java.util.stream.Collectors;
 public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJpaRepository<T, ID>
         implements IBaseRepository<T, ID> {
 
-    private static final int BATCH_SIZE = 50; // Batch size for addAll to reduce database hits
+    private static final int BATCH_SIZE = 50; // Batch size for addAll to reduce database hits, matches hibernate.jdbc.batch_size
+    private static final int MAX_PAGE_SIZE = 1000; // Upper bound for a single keyset page
+    private static final int COPY_BUFFER_CHARS = 64 * 1024; // Rows buffered before each write to the COPY stream
+    private static final int COPY_BATCH_ROWS = 10_000; // Rows per COPY statement, each preceded by one id reservation
+    private static final int MAX_REPORTED_ERRORS = 100; // Rejected rows listed individually in a bulk result
+    private static final int BULK_UPDATE_CHUNK_SIZE = 1000; // Rows per UPDATE ... FROM (VALUES ...) statement
+    private static final int MAX_BIND_PARAMETERS = 32767; // pgjdbc sends the parameter count as a signed 16-bit value
+    private static final ObjectMapper BULK_OBJECT_MAPPER = new ObjectMapper();
 
     private final LoggerUtil logger;
+    private final LogContext fetchByIdLogContext;
+    private final OperationMetrics addAllMetrics;
+    private final OperationMetrics batchAddAllMetrics;
+    private final OperationMetrics bulkIngestMetrics;
+    private final OperationMetrics bulkUpdateMetrics;
+    private final OperationMetrics bulkUpsertMetrics;
+    private final OperationMetrics bulkDeleteByIdsMetrics;
+    private final OperationMetrics fetchPaginatedMetrics;
+    private final OperationMetrics fetchKeysetMetrics;
+    private final OperationMetrics fetchSingleMetrics;
+    private final OperationMetrics fetchByConditionMetrics;
+    private final OperationMetrics fetchAllMetrics;
+    private final OperationMetrics streamAllMetrics;
+    private final OperationMetrics streamNativeQueryMetrics;
+    private final OperationMetrics fetchByFiltersMetrics;
+    private final OperationMetrics fetchFirstByFiltersMetrics;
+    private final OperationMetrics fetchByIdMetrics;
     private final Class<T> entityType;
+    private final JpaEntityInformation<T, ?> entityInformation;
     protected final EntityManager entityManager;
 
     /**
@@ -61,40 +144,39 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
             throw new IllegalArgumentException("EntityInformation and EntityManager cannot be null");
         }
         this.entityType = entityInformation.getJavaType();
+        this.entityInformation = entityInformation;
         this.entityManager = entityManager;
         this.logger = LoggerUtil.getLogger(getClass());
-    }
-
-    private Object convertToType(Object value, Class<?> targetType) {
-        if (value == null) return null;
-
-        if (targetType.isAssignableFrom(value.getClass())) {
-            return value;
-        }
-
-        if (targetType == Integer.class || targetType == int.class) {
-            if (value instanceof Number num) return num.intValue();
-            if (value instanceof String s && s.matches("\\d+")) return Integer.parseInt(s);
-        } else if (targetType == Long.class || targetType == long.class) {
-            if (value instanceof Number num) return num.longValue();
-            if (value instanceof String s && s.matches("\\d+")) return Long.parseLong(s);
-        } else if (targetType == String.class) {
-            return value.toString();
-        }
-
-        throw new IllegalArgumentException("Cannot convert value: " + value + " to type: " + targetType.getSimpleName());
+        this.fetchByIdLogContext = LogContext.of("entityType", entityType.getSimpleName(), "operation", "fetchById");
+        String component = getClass().getSimpleName();
+        this.addAllMetrics = OperationMetrics.forOperation(component, "addAll");
+        this.batchAddAllMetrics = OperationMetrics.forOperation(component, "batchAddAll");
+        this.bulkIngestMetrics = OperationMetrics.forOperation(component, "bulkIngest");
+        this.bulkUpdateMetrics = OperationMetrics.forOperation(component, "bulkUpdate");
+        this.bulkUpsertMetrics = OperationMetrics.forOperation(component, "bulkUpsert");
+        this.bulkDeleteByIdsMetrics = OperationMetrics.forOperation(component, "bulkDeleteByIds");
+        this.fetchPaginatedMetrics = OperationMetrics.forOperation(component, "fetchPaginated");
+        this.fetchKeysetMetrics = OperationMetrics.forOperation(component, "fetchKeyset");
+        this.fetchSingleMetrics = OperationMetrics.forOperation(component, "fetchSingle");
+        this.fetchByConditionMetrics = OperationMetrics.forOperation(component, "fetchByCondition");
+        this.fetchAllMetrics = OperationMetrics.forOperation(component, "fetchAll");
+        this.streamAllMetrics = OperationMetrics.forOperation(component, "streamAll");
+        this.streamNativeQueryMetrics = OperationMetrics.forOperation(component, "streamNativeQuery");
+        this.fetchByFiltersMetrics = OperationMetrics.forOperation(component, "fetchByFilters");
+        this.fetchFirstByFiltersMetrics = OperationMetrics.forOperation(component, "fetchFirstByFilters");
+        this.fetchByIdMetrics = OperationMetrics.forOperation(component, "fetchById");
     }
 
     @Override
-
+    @Transactional(rollbackOn = Exception.class)
     public boolean add(T entity) {
         validateNotNull(entity, "Entity");
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Persisting single entity", null, null);
             save(entity);
             logger.log(LogLevel.INFO, "Successfully persisted entity", null,
-                    Map.of("durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                    Map.of("durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
             return true;
         } catch (Exception e) {
             logger.log(LogLevel.ERROR, "Error persisting entity", e,null, null);
@@ -102,41 +184,56 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
         }
     }
 
-    @Async
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
     @Transactional(rollbackOn = Exception.class)
     public CompletableFuture<Boolean> addAsync(T entity) {
-        return CompletableFuture.supplyAsync(() -> add(entity));
+        return CompletableFuture.completedFuture(add(entity));
     }
 
     @Override
-
+    @Transactional(rollbackOn = Exception.class)
     public boolean addAll(List<T> entities) {
         validateNotEmpty(entities, "Entities list");
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = addAllMetrics.start();
         try {
             logger.log(LogLevel.DEBUG, "Persisting " + entities.size() + " entities", null, null);
-            saveAll(entities);
+            // Same new/existing semantics as saveAll(), but flushed every BATCH_SIZE rows so Hibernate
+            // sends one JDBC batch per flush and the persistence context never grows past one batch
+            for (int i = 0; i < entities.size(); i++) {
+                T entity = entities.get(i);
+                if (entityInformation.isNew(entity)) {
+                    entityManager.persist(entity);
+                } else {
+                    entityManager.merge(entity);
+                }
+                if ((i + 1) % BATCH_SIZE == 0 || i == entities.size() - 1) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            long durationMs = addAllMetrics.recordSuccess(startNanos, entities.size());
             logger.log(LogLevel.INFO, "Successfully persisted all entities", null,
                     Map.of("count", String.valueOf(entities.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                            "durationMs", String.valueOf(durationMs)));
             return true;
         } catch (Exception e) {
+            addAllMetrics.recordFailure(startNanos);
             logger.log(LogLevel.ERROR, "Error persisting entities", e,null, null);
             throw new DataIntegrityViolationException("Bulk persist failed", e);
         }
     }
 
-    @Async
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
     @Transactional(rollbackOn = Exception.class)
     public CompletableFuture<Boolean> addAllAsync(List<T> entities) {
         validateNotEmpty(entities, "Entities list");
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Persisting " + entities.size() + " entities", null, null);
             saveAll(entities);
             logger.log(LogLevel.INFO, "Successfully persisted all entities", null,
                     Map.of("count", String.valueOf(entities.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
             return CompletableFuture.completedFuture(true);
         } catch (Exception e) {
             logger.log(LogLevel.ERROR, "Error persisting entities", e, null, null);
@@ -149,7 +246,7 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
         validateNotEmpty(entities, "Entities list");
         if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be greater than 0");
 
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = batchAddAllMetrics.start();
         try {
             logger.log(LogLevel.DEBUG, "Starting batch persist for " + entities.size() + " entities with batch size " + batchSize, null, null);
             for (int i = 0; i < entities.size(); i++) {
@@ -160,33 +257,73 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
                     logger.log(LogLevel.DEBUG, "Persisted batch up to index: " + i, null, null);
                 }
             }
+            long durationMs = batchAddAllMetrics.recordSuccess(startNanos, entities.size());
             logger.log(LogLevel.INFO, "Successfully persisted all entities in batches", null,
                     Map.of("batchSize", String.valueOf(batchSize),
                             "totalEntities", String.valueOf(entities.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                            "durationMs", String.valueOf(durationMs)));
             return true;
         } catch (Exception e) {
+            batchAddAllMetrics.recordFailure(startNanos);
             logger.log(LogLevel.ERROR, "Batch persist failed", e,null, null);
             throw new DataIntegrityViolationException("Batch persist failed", e);
         }
     }
 
-    @Async
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
     @Transactional(rollbackOn = Exception.class)
     public CompletableFuture<Boolean> batchAddAllAsync(List<T> entities, int batchSize) {
-        return CompletableFuture.supplyAsync(() -> batchAddAll(entities, batchSize));
+        return CompletableFuture.completedFuture(batchAddAll(entities, batchSize));
     }
 
     @Override
+    @Transactional(rollbackOn = Exception.class)
+    public BulkIngestResult bulkIngest(InputStream source, BulkIngestFormat format, boolean csvHeader) {
+        validateNotNull(source, "Source");
+        validateNotNull(format, "Format");
+        BulkTableMapping<T> mapping = requireBulkTableMapping();
+        SequenceIdBlocks ids = mapping.newIdBlocks();
+        // Ids are written explicitly, reserved a block at a time; the column default would use up a block per row
+        String copySql = "COPY " + mapping.getTableName() + " (" + mapping.getIdColumn().getColumn() + ", "
+                + mapping.columnList() + ") FROM STDIN WITH (FORMAT csv)";
+        Map<String, String> context = Map.of("entityType", entityType.getSimpleName(), "format", format.name());
 
+        long startNanos = bulkIngestMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Starting COPY ingest for type: " + entityType.getSimpleName(), null, context);
+            entityManager.flush();
+            BulkIngestResult result = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                    copyRows(connection, copySql, ids, mapping, source, format, csvHeader, startNanos));
+            runNowAndAfterCompletion(this::evictSecondLevelCache); // New rows make cached query results stale
+            bulkIngestMetrics.recordSuccess(startNanos, result.getLoaded());
+            logger.log(LogLevel.INFO, "Successfully completed COPY ingest for type: " + entityType.getSimpleName(), null,
+                    Map.of("entityType", entityType.getSimpleName(),
+                            "format", format.name(),
+                            "loaded", String.valueOf(result.getLoaded()),
+                            "rejected", String.valueOf(result.getRejected()),
+                            "durationMs", String.valueOf(result.getDurationMs())));
+            return result;
+        } catch (IllegalArgumentException e) {
+            bulkIngestMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Invalid COPY ingest input for type: " + entityType.getSimpleName(), e, null, context);
+            throw e;
+        } catch (Exception e) {
+            bulkIngestMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "COPY ingest failed for type: " + entityType.getSimpleName(), e, null, context);
+            throw new DataIntegrityViolationException("Bulk ingest failed", e);
+        }
+    }
+
+    @Override
+    @Transactional(rollbackOn = Exception.class)
     public boolean update(T entity) {
         validateNotNull(entity, "Entity");
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Updating entity using save()", null, null);
             save(entity);
             logger.log(LogLevel.INFO, "Successfully updated entity", null,
-                    Map.of("durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                    Map.of("durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
             return true;
         } catch (Exception e) {
             logger.log(LogLevel.ERROR, "Update failed using save()", e, null,null);
@@ -194,22 +331,294 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
         }
     }
 
-    @Async
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
     @Transactional(rollbackOn = Exception.class)
     public CompletableFuture<Boolean> updateAsync(T entity) {
-        return CompletableFuture.supplyAsync(() -> update(entity));
+        return CompletableFuture.completedFuture(update(entity));
+    }
+
+    @Override
+    @Transactional(rollbackOn = Exception.class)
+    public int bulkUpdate(List<T> entities) {
+        return bulkUpdateReturningIds(entities).size();
     }
 
     @Override
+    @Transactional(rollbackOn = Exception.class)
+    @SuppressWarnings("unchecked") // The id column's Java type is the repository's ID type
+    public Set<ID> bulkUpdateReturningIds(List<T> entities) {
+        validateNotEmpty(entities, "Entities list");
+        BulkTableMapping<T> mapping = requireBulkTableMapping();
+        for (T entity : entities) {
+            validateNotNull(entity, "Entity");
+            if (mapping.getIdColumn().get(entity) == null) {
+                throw new IllegalArgumentException("Entity id cannot be null for bulk update");
+            }
+            for (BulkColumn<T> column : mapping.getColumns()) {
+                if (column.isRequired() && column.get(entity) == null) {
+                    throw new IllegalArgumentException(column.getAttribute() + " is required for bulk update");
+                }
+            }
+        }
+
+        long startNanos = bulkUpdateMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Bulk updating " + entities.size() + " entities", null, null);
+            entityManager.flush();
+            Set<ID> updatedIds = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                Class<?> idType = mapping.getIdColumn().getJavaType();
+                Set<ID> ids = new LinkedHashSet<>();
+                for (int from = 0; from < entities.size(); from += BULK_UPDATE_CHUNK_SIZE) {
+                    List<T> chunk = entities.subList(from, Math.min(from + BULK_UPDATE_CHUNK_SIZE, entities.size()));
+                    try (PreparedStatement statement = connection.prepareStatement(BulkSql.updateFromValuesReturningIds(mapping, chunk.size()))) {
+                        int index = 1;
+                        for (T entity : chunk) {
+                            statement.setObject(index++, mapping.getIdColumn().get(entity));
+                            for (BulkColumn<T> column : mapping.getColumns()) {
+                                statement.setObject(index++, column.get(entity));
+                            }
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                ids.add((ID) resultSet.getObject(1, idType));
+                            }
+                        }
+                    }
+                }
+                return ids;
+            });
+            int updated = updatedIds.size();
+            // The rows changed behind Hibernate's back; drop any managed and cached copies
+            entityManager.clear();
+            runNowAndAfterCompletion(this::evictSecondLevelCache);
+            long durationMs = bulkUpdateMetrics.recordSuccess(startNanos, updated);
+            logger.log(LogLevel.INFO, "Successfully bulk updated entities", null,
+                    Map.of("requested", String.valueOf(entities.size()),
+                            "updated", String.valueOf(updated),
+                            "durationMs", String.valueOf(durationMs)));
+            return updatedIds;
+        } catch (Exception e) {
+            bulkUpdateMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Bulk update failed", e, null, null);
+            throw new DataAccessResourceFailureException("Bulk update failed", e);
+        }
+    }
+
+    @Override
+    @Transactional(rollbackOn = Exception.class)
+    public UpsertResult bulkUpsert(List<T> entities, List<String> keyAttributes, int chunkSize) {
+        validateNotEmpty(entities, "Entities list");
+        validateNotEmpty(keyAttributes, "Key attributes");
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be greater than 0");
+        BulkTableMapping<T> mapping = requireBulkTableMapping();
+        BulkColumn<T> idColumn = mapping.getIdColumn();
+        List<BulkColumn<T>> keyColumns = resolveKeyColumns(mapping, keyAttributes);
+        boolean keyedById = keyColumns.contains(idColumn);
+        if (keyedById && keyColumns.size() > 1) {
+            throw new IllegalArgumentException("The id cannot be combined with other upsert key attributes");
+        }
+        // New rows always get ids reserved from the sequence; an id the caller chose is never written
+        List<BulkColumn<T>> insertColumns = new ArrayList<>();
+        insertColumns.add(idColumn);
+        insertColumns.addAll(mapping.getColumns());
+        SequenceIdBlocks ids = mapping.newIdBlocks();
+
+        // One statement cannot touch the same row twice, so repeated keys are collapsed up front; last one wins.
+        // Keyed by id, these rows are updates, and a row without an id is new.
+        Map<List<Object>, T> rows = new LinkedHashMap<>();
+        List<T> newRows = new ArrayList<>();
+        for (T entity : entities) {
+            validateNotNull(entity, "Entity");
+            for (BulkColumn<T> column : mapping.getColumns()) {
+                if (column.isRequired() && column.get(entity) == null) {
+                    throw new IllegalArgumentException(column.getAttribute() + " is required for bulk upsert");
+                }
+            }
+            if (keyedById && idColumn.get(entity) == null) {
+                newRows.add(entity);
+                continue;
+            }
+            List<Object> key = new ArrayList<>(keyColumns.size());
+            for (BulkColumn<T> column : keyColumns) {
+                Object value = column.get(entity);
+                if (value == null) {
+                    throw new IllegalArgumentException(column.getAttribute() + " is required as an upsert key");
+                }
+                key.add(value);
+            }
+            rows.remove(key);
+            rows.put(key, entity);
+        }
+        List<T> unique = new ArrayList<>(rows.values());
+        int rowsPerStatement = Math.max(1, Math.min(chunkSize, MAX_BIND_PARAMETERS / insertColumns.size()));
+        int written = unique.size() + newRows.size();
+
+        long startNanos = bulkUpsertMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Bulk upserting " + written + " entities", null, null);
+            entityManager.flush();
+            int[] counts = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                int[] matched = keyedById
+                        ? updateById(connection, mapping, unique, rowsPerStatement)
+                        : upsertByKey(connection, mapping, insertColumns, keyColumns, ids, unique, rowsPerStatement);
+                int inserted = matched[0];
+                int statements = matched[2];
+                for (int from = 0; from < newRows.size(); from += rowsPerStatement) {
+                    List<T> chunk = newRows.subList(from, Math.min(from + rowsPerStatement, newRows.size()));
+                    ids.reserve(connection, chunk.size());
+                    try (PreparedStatement statement = connection.prepareStatement(BulkSql.insertValues(mapping, chunk.size()))) {
+                        int index = 1;
+                        for (T entity : chunk) {
+                            statement.setLong(index++, ids.next());
+                            for (BulkColumn<T> column : mapping.getColumns()) {
+                                statement.setObject(index++, column.get(entity));
+                            }
+                        }
+                        inserted += statement.executeUpdate();
+                    }
+                    statements++;
+                }
+                return new int[]{inserted, matched[1], statements};
+            });
+            entityManager.clear();
+            runNowAndAfterCompletion(this::evictSecondLevelCache);
+            int unchanged = written - counts[0] - counts[1];
+            long durationMs = bulkUpsertMetrics.recordSuccess(startNanos, written);
+            logger.log(LogLevel.INFO, "Successfully bulk upserted entities", null,
+                    Map.of("requested", String.valueOf(entities.size()),
+                            "inserted", String.valueOf(counts[0]),
+                            "updated", String.valueOf(counts[1]),
+                            "unchanged", String.valueOf(unchanged),
+                            "durationMs", String.valueOf(durationMs)));
+            return new UpsertResult(entities.size(), entities.size() - written, counts[0], counts[1], unchanged,
+                    counts[2], durationMs);
+        } catch (IllegalArgumentException e) {
+            bulkUpsertMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.WARN, "Bulk upsert rejected: " + e.getMessage(), null, null);
+            throw e;
+        } catch (Exception e) {
+            bulkUpsertMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Bulk upsert failed", e, null, null);
+            throw new DataAccessResourceFailureException("Bulk upsert failed", e);
+        }
+    }
+
+    /**
+     * Updates rows by id with UPDATE ... FROM (VALUES ...), skipping rows whose values are already current.
+     * An id matching no row is rejected before anything is inserted.
+     *
+     * @return {inserted (always 0), updated, statements}
+     */
+    private int[] updateById(Connection connection, BulkTableMapping<T> mapping, List<T> rows, int rowsPerStatement)
+            throws SQLException {
+        BulkColumn<T> idColumn = mapping.getIdColumn();
+        Class<?> idType = idColumn.getJavaType();
+        Set<Object> changed = new HashSet<>();
+        int statements = 0;
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<T> chunk = rows.subList(from, Math.min(from + rowsPerStatement, rows.size()));
+            try (PreparedStatement statement = connection.prepareStatement(
+                    BulkSql.updateChangedFromValuesReturningIds(mapping, chunk.size()))) {
+                int index = 1;
+                for (T entity : chunk) {
+                    statement.setObject(index++, idColumn.get(entity));
+                    for (BulkColumn<T> column : mapping.getColumns()) {
+                        statement.setObject(index++, column.get(entity));
+                    }
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        changed.add(resultSet.getObject(1, idType));
+                    }
+                }
+            }
+            statements++;
+        }
 
+        // An id that came back unchanged either holds current values or matches no row
+        List<Object> notChanged = new ArrayList<>();
+        for (T entity : rows) {
+            Object id = idColumn.get(entity);
+            if (!changed.contains(id)) notChanged.add(id);
+        }
+        if (!notChanged.isEmpty()) {
+            Set<Object> existing = new HashSet<>();
+            Array idArray = connection.createArrayOf(idColumn.getSqlType(), notChanged.toArray());
+            try (PreparedStatement statement = connection.prepareStatement(BulkSql.selectExistingIds(mapping))) {
+                statement.setArray(1, idArray);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existing.add(resultSet.getObject(1, idType));
+                    }
+                }
+            } finally {
+                idArray.free();
+            }
+            statements++;
+            notChanged.removeAll(existing);
+            if (!notChanged.isEmpty()) {
+                throw new IllegalArgumentException("No rows exist with ids " + notChanged
+                        + "; leave the id out to insert a new row");
+            }
+        }
+        return new int[]{0, changed.size(), statements};
+    }
+
+    /**
+     * Inserts or updates rows by a natural key with INSERT ... ON CONFLICT. Every row is proposed with a reserved
+     * id; ids of rows that matched an existing key are not written and go back to the allocator.
+     *
+     * @return {inserted, updated, statements}
+     */
+    private int[] upsertByKey(Connection connection, BulkTableMapping<T> mapping, List<BulkColumn<T>> insertColumns,
+                              List<BulkColumn<T>> keyColumns, SequenceIdBlocks ids, List<T> rows, int rowsPerStatement)
+            throws SQLException {
+        int inserted = 0;
+        int updated = 0;
+        int statements = 0;
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<T> chunk = rows.subList(from, Math.min(from + rowsPerStatement, rows.size()));
+            ids.reserve(connection, chunk.size());
+            Set<Long> proposed = new LinkedHashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    BulkSql.upsertValues(mapping, insertColumns, keyColumns, chunk.size()))) {
+                int index = 1;
+                for (T entity : chunk) {
+                    long id = ids.next();
+                    proposed.add(id);
+                    statement.setLong(index++, id);
+                    for (BulkColumn<T> column : mapping.getColumns()) {
+                        statement.setObject(index++, column.get(entity));
+                    }
+                }
+                // One row back per inserted or changed row; unchanged rows are filtered by the DO UPDATE WHERE
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        if (resultSet.getBoolean(1)) {
+                            inserted++;
+                            proposed.remove(resultSet.getLong(2));
+                        } else {
+                            updated++;
+                        }
+                    }
+                }
+            }
+            proposed.forEach(ids::giveBack);
+            statements++;
+        }
+        return new int[]{inserted, updated, statements};
+    }
+
+    @Override
+    @Transactional(rollbackOn = Exception.class)
     public boolean deleteentity(T entity) {
         validateNotNull(entity, "Entity");
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Deleting entity using SimpleJpaRepository delete()", null, null);
             delete(entity);
             logger.log(LogLevel.INFO, "Successfully deleted entity", null,
-                    Map.of("durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                    Map.of("durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
             return true;
         } catch (Exception e) {
             logger.log(LogLevel.ERROR, "Delete failed using SimpleJpaRepository delete()",e,null,null);
@@ -217,114 +626,363 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
         }
     }
 
-    @Async
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
     @Transactional(rollbackOn = Exception.class)
     public CompletableFuture<Boolean> deleteAsync(T entity) {
-        return CompletableFuture.supplyAsync(() -> deleteentity(entity));
+        return CompletableFuture.completedFuture(deleteentity(entity));
     }
 
-    @Transactional
+    @Override
+    @Transactional(rollbackOn = Exception.class)
+    public int bulkDeleteByIds(List<ID> ids) {
+        validateNotEmpty(ids, "Ids list");
+        if (ids.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Ids list cannot contain null");
+        BulkTableMapping<T> mapping = requireBulkTableMapping();
+        String sql = BulkSql.deleteByIds(mapping);
+
+        long startNanos = bulkDeleteByIdsMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Bulk deleting " + ids.size() + " entities", null, null);
+            entityManager.flush();
+            int deleted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                Array idArray = connection.createArrayOf(mapping.getIdColumn().getSqlType(), ids.toArray());
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setArray(1, idArray);
+                    return statement.executeUpdate();
+                } finally {
+                    idArray.free();
+                }
+            });
+            entityManager.clear();
+            runNowAndAfterCompletion(this::evictSecondLevelCache);
+            long durationMs = bulkDeleteByIdsMetrics.recordSuccess(startNanos, deleted);
+            logger.log(LogLevel.INFO, "Successfully bulk deleted entities", null,
+                    Map.of("requested", String.valueOf(ids.size()),
+                            "deleted", String.valueOf(deleted),
+                            "durationMs", String.valueOf(durationMs)));
+            return deleted;
+        } catch (Exception e) {
+            bulkDeleteByIdsMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Bulk delete failed", e, null, null);
+            throw new DataAccessResourceFailureException("Bulk delete failed", e);
+        }
+    }
+
+    @ReadOnlyTransactional
     public Page<T> fetchPaginated(Pageable pageable) {
+        long startNanos = fetchPaginatedMetrics.start();
         try {
             logger.log(LogLevel.DEBUG, "Fetching paginated records", null, null);
             Page<T> results = findAll(pageable);
+            fetchPaginatedMetrics.recordSuccess(startNanos, results.getNumberOfElements());
             logger.log(LogLevel.INFO, "Successfully fetched paginated records", null,
                     Map.of("page", String.valueOf(pageable.getPageNumber()),
                             "size", String.valueOf(pageable.getPageSize())));
             return results;
         } catch (Exception e) {
+            fetchPaginatedMetrics.recordFailure(startNanos);
             logger.log(LogLevel.ERROR, "Failed to fetch paginated records",e,null,null);
             throw new DataRetrievalFailureException("Failed to fetch paginated records", e);
         }
     }
 
-    @Async
-    @Transactional
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
+    @ReadOnlyTransactional
     public CompletableFuture<Page<T>> fetchPaginatedAsync(Pageable pageable) {
-        return CompletableFuture.supplyAsync(() -> fetchPaginated(pageable));
+        return CompletableFuture.completedFuture(fetchPaginated(pageable));
     }
 
-    @Transactional
+    @Override
+    @ReadOnlyTransactional
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public KeysetPage<T> fetchKeyset(String sortAttribute, String continuationToken, int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String idAttribute = entityInformation.getRequiredIdAttribute().getName();
+        String sortBy = sortAttribute == null || sortAttribute.isBlank() ? idAttribute : sortAttribute.trim();
+        Set<String> allowedSorts = keysetSortAttributes();
+        if (!allowedSorts.contains(sortBy)) {
+            throw new IllegalArgumentException("Attribute cannot be used as a keyset sort key: " + sortBy
+                    + "; allowed: " + allowedSorts);
+        }
+        Class<?> sortType = resolveSortableAttributeType(sortBy);
+        Class<?> idType = resolveSortableAttributeType(idAttribute);
+
+        long startNanos = fetchKeysetMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Fetching keyset page for type: " + entityType.getSimpleName(), null,
+                    Map.of("sortBy", sortBy, "size", String.valueOf(pageSize)));
+
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<T> criteria = cb.createQuery(entityType);
+            Root<T> root = criteria.from(entityType);
+            Path<Comparable> idPath = root.get(idAttribute);
+            Path<Comparable> sortPath = root.get(sortBy);
+
+            if (continuationToken != null && !continuationToken.isBlank()) {
+                KeysetToken token = KeysetToken.decode(continuationToken);
+                if (!sortBy.equals(token.getSortBy())) {
+                    throw new IllegalArgumentException("Continuation token was issued for sort attribute: " + token.getSortBy());
+                }
+                Comparable lastId = (Comparable) AttributeValueConverter.convert(token.getLastId(), idType);
+                if (sortBy.equals(idAttribute)) {
+                    criteria.where(cb.greaterThan(idPath, lastId));
+                } else {
+                    // (sort, id) > (lastSort, lastId), spelled out so the planner can use a (sort, id) index
+                    Comparable lastSort = (Comparable) AttributeValueConverter.convert(token.getLastSortValue(), sortType);
+                    criteria.where(cb.or(
+                            cb.greaterThan(sortPath, lastSort),
+                            cb.and(cb.equal(sortPath, lastSort), cb.greaterThan(idPath, lastId))));
+                }
+            }
+            criteria.orderBy(sortBy.equals(idAttribute)
+                    ? List.of(cb.asc(idPath))
+                    : List.of(cb.asc(sortPath), cb.asc(idPath)));
+
+            // One extra row tells us whether another page exists without a COUNT query
+            List<T> rows = entityManager.createQuery(criteria)
+                    .setMaxResults(pageSize + 1)
+                    .getResultList();
+            boolean hasMore = rows.size() > pageSize;
+            List<T> content = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+            String nextToken = null;
+            if (hasMore) {
+                T last = content.get(content.size() - 1);
+                Object lastSortValue = new BeanWrapperImpl(last).getPropertyValue(sortBy);
+                nextToken = new KeysetToken(sortBy,
+                        lastSortValue != null ? lastSortValue.toString() : null,
+                        String.valueOf(entityInformation.getId(last))).encode();
+            }
+
+            long durationMs = fetchKeysetMetrics.recordSuccess(startNanos, content.size());
+            logger.log(LogLevel.INFO, "Successfully fetched keyset page for type: " + entityType.getSimpleName(), null,
+                    Map.of("sortBy", sortBy,
+                            "count", String.valueOf(content.size()),
+                            "hasMore", String.valueOf(hasMore),
+                            "durationMs", String.valueOf(durationMs)));
+            return new KeysetPage<>(content, sortBy, nextToken);
+        } catch (IllegalArgumentException e) {
+            fetchKeysetMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Invalid keyset pagination request", e, null, Map.of("sortBy", sortBy));
+            throw e;
+        } catch (Exception e) {
+            fetchKeysetMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Failed to fetch keyset page", e, null, Map.of("sortBy", sortBy));
+            throw new DataRetrievalFailureException("Failed to fetch keyset page", e);
+        }
+    }
+
+    @ReadOnlyTransactional
     public Optional<T> fetchSingle(Specification<T> spec) {
         validateNotNull(spec, "Specification");
+        long startNanos = fetchSingleMetrics.start();
         try {
             logger.log(LogLevel.DEBUG, "Fetching single entity by condition", null, null);
-            Optional<T> result = findOne(spec);
+            Optional<T> result = singleResult(cacheable(getQuery(spec, Sort.unsorted())).setMaxResults(2).getResultList());
+            fetchSingleMetrics.recordSuccess(startNanos, result.isPresent() ? 1 : 0);
             logger.log(LogLevel.INFO, "Successfully fetched single entity", null,
                     Map.of("found", String.valueOf(result.isPresent())));
             return result;
         } catch (Exception e) {
+            fetchSingleMetrics.recordFailure(startNanos);
             logger.log(LogLevel.ERROR, "Failed to fetch single entity", e,null,null);
             throw new DataRetrievalFailureException("Failed to fetch single entity", e);
         }
     }
 
-    @Async
-    @Transactional
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
+    @ReadOnlyTransactional
     public CompletableFuture<Optional<T>> fetchSingleAsync(Specification<T> spec) {
-        return CompletableFuture.supplyAsync(() -> fetchSingle(spec));
+        return CompletableFuture.completedFuture(fetchSingle(spec));
     }
 
-    @Transactional
+    @ReadOnlyTransactional
     public List<T> fetchByCondition(Specification<T> spec) {
         validateNotNull(spec, "Specification");
+        long startNanos = fetchByConditionMetrics.start();
         try {
             logger.log(LogLevel.DEBUG, "Fetching entities by condition", null, null);
-            List<T> results = findAll(spec);
+            List<T> results = cacheable(getQuery(spec, Sort.unsorted())).getResultList();
+            fetchByConditionMetrics.recordSuccess(startNanos, results.size());
             logger.log(LogLevel.INFO, "Successfully fetched entities by condition", null,
                     Map.of("count", String.valueOf(results.size())));
             return results;
         } catch (Exception e) {
+            fetchByConditionMetrics.recordFailure(startNanos);
             logger.log(LogLevel.ERROR, "Failed to fetch records by condition", e,null,null);
             throw new DataRetrievalFailureException("Failed to fetch by condition", e);
         }
     }
 
-    @Async
-    @Transactional
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
+    @ReadOnlyTransactional
     public CompletableFuture<List<T>> fetchByConditionAsync(Specification<T> spec) {
-        return CompletableFuture.supplyAsync(() -> fetchByCondition(spec));
+        return CompletableFuture.completedFuture(fetchByCondition(spec));
     }
 
     @Override
-    @Transactional
+    @ReadOnlyTransactional
+    public Optional<T> fetchById(ID id) {
+        validateNotNull(id, "ID");
+        long startNanos = fetchByIdMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, fetchByIdLogContext, "Fetching entity by id: {}", id);
+            Optional<T> result = findById(id);
+            fetchByIdMetrics.recordSuccess(startNanos, result.isPresent() ? 1 : 0);
+            return result;
+        } catch (Exception e) {
+            fetchByIdMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, fetchByIdLogContext, e, "Failed to fetch entity by id: {}", id);
+            throw new DataRetrievalFailureException("Failed to fetch entity by id", e);
+        }
+    }
+
+    @Override
+    @ReadOnlyTransactional
     public List<T> fetchAll() {
+        long startNanos = fetchAllMetrics.start();
         try {
             logger.log(LogLevel.DEBUG, "Fetching all records", null, null);
-            List<T> results = findAll();
+            List<T> results = cacheable(getQuery(null, Sort.unsorted())).getResultList();
+            fetchAllMetrics.recordSuccess(startNanos, results.size());
             logger.log(LogLevel.INFO, "Successfully fetched all records", null,Map.of("count", String.valueOf(results.size())));
             return results;
         } catch (Exception e) {
+            fetchAllMetrics.recordFailure(startNanos);
             logger.log(LogLevel.ERROR, "Failed to fetch all records",e,null,null);
             throw new DataRetrievalFailureException("Failed to fetch all records", e);
         }
     }
 
-    @Async
-    @Transactional
+    @Async(ExecutorConfig.REPOSITORY_EXECUTOR)
+    @ReadOnlyTransactional
     public CompletableFuture<List<T>> fetchAllAsync() {
-        return CompletableFuture.supplyAsync(() -> fetchAll());
+        return CompletableFuture.completedFuture(fetchAll());
     }
 
     @Override
-    @Transactional
+    @ReadOnlyTransactional
+    public long streamAll(int fetchSize, Consumer<T> consumer) {
+        if (fetchSize <= 0) throw new IllegalArgumentException("Fetch size must be greater than 0");
+        validateNotNull(consumer, "Consumer");
+
+        long startNanos = streamAllMetrics.start();
+        long count = 0;
+        // Inside a transaction the Postgres driver honours the fetch size and reads through a cursor
+        try (Stream<T> stream = getQuery(null, Sort.unsorted())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            logger.log(LogLevel.DEBUG, "Streaming all records with fetch size " + fetchSize, null, null);
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                T entity = iterator.next();
+                consumer.accept(entity);
+                entityManager.detach(entity);
+                count++;
+            }
+            long durationMs = streamAllMetrics.recordSuccess(startNanos, count);
+            logger.log(LogLevel.INFO, "Successfully streamed all records", null,
+                    Map.of("count", String.valueOf(count),
+                            "fetchSize", String.valueOf(fetchSize),
+                            "durationMs", String.valueOf(durationMs)));
+            return count;
+        } catch (Exception e) {
+            streamAllMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Failed to stream all records", e, null,
+                    Map.of("streamedCount", String.valueOf(count)));
+            throw new DataRetrievalFailureException("Failed to stream all records", e);
+        }
+    }
+
+    @Override
+    @ReadOnlyTransactional
+    public List<T> fetchByFilters(List<FilterCriterion> filters, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Map<String, String> context = Map.of("entityType", entityType.getSimpleName(),
+                "filters", String.valueOf(filters));
+        long startNanos = fetchByFiltersMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Fetching entities by filters for type: " + entityType.getSimpleName(), null, context);
+            List<T> results = getQuery(FilterSpecifications.toSpecification(filters), sortByIdentifier())
+                    .setMaxResults(limit)
+                    .getResultList();
+            long durationMs = fetchByFiltersMetrics.recordSuccess(startNanos, results.size());
+            logger.log(LogLevel.INFO, "Fetched " + results.size() + " entities by filters for type: " + entityType.getSimpleName(), null,
+                    Map.of("entityType", entityType.getSimpleName(),
+                            "entityCount", String.valueOf(results.size()),
+                            "durationMs", String.valueOf(durationMs)));
+            return results;
+        } catch (IllegalArgumentException e) {
+            fetchByFiltersMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Invalid filters for type: " + entityType.getSimpleName(), e, null, context);
+            throw e;
+        } catch (Exception e) {
+            fetchByFiltersMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Failed to fetch entities by filters for type: " + entityType.getSimpleName(), e, null, context);
+            throw new DataRetrievalFailureException("Unable to fetch entities by filters for type " + entityType.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    @ReadOnlyTransactional
+    public Optional<T> fetchFirstByFilters(List<FilterCriterion> filters) {
+        Map<String, String> context = Map.of("entityType", entityType.getSimpleName(),
+                "filters", String.valueOf(filters));
+        long startNanos = fetchFirstByFiltersMetrics.start();
+        try {
+            logger.log(LogLevel.DEBUG, "Fetching first entity by filters for type: " + entityType.getSimpleName(), null, context);
+            Optional<T> result = getQuery(FilterSpecifications.toSpecification(filters), sortByIdentifier())
+                    .setMaxResults(1)
+                    .getResultStream()
+                    .findFirst();
+            fetchFirstByFiltersMetrics.recordSuccess(startNanos, result.isPresent() ? 1 : 0);
+            logger.log(LogLevel.INFO, "Fetched first entity by filters for type: " + entityType.getSimpleName(), null,
+                    Map.of("entityType", entityType.getSimpleName(), "found", String.valueOf(result.isPresent())));
+            return result;
+        } catch (IllegalArgumentException e) {
+            fetchFirstByFiltersMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Invalid filters for type: " + entityType.getSimpleName(), e, null, context);
+            throw e;
+        } catch (Exception e) {
+            fetchFirstByFiltersMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Failed to fetch first entity by filters for type: " + entityType.getSimpleName(), e, null, context);
+            throw new DataRetrievalFailureException("Unable to fetch entity by filters for type " + entityType.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    @ReadOnlyTransactional
     public List<T> getAllByCondition(Predicate<T> condition) {
         if (condition == null) {
             logger.log(LogLevel.ERROR, "Attempted to fetch entities with null condition for type: " + entityType.getSimpleName(), null,
                     Map.of("entityType", entityType.getSimpleName()));
             throw new IllegalArgumentException("Condition cannot be null");
         }
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Fetching entities by condition for type: " + entityType.getSimpleName(), null,
                     Map.of("entityType", entityType.getSimpleName()));
-            List<T> result = fetchAll().stream()
-                    .filter(condition)
-                    .collect(Collectors.toList());
+            // The predicate runs in Java, so rows are still read; stream them and drop the ones that do not match
+            List<T> result = new ArrayList<>();
+            try (Stream<T> stream = scanAll()) {
+                stream.forEach(entity -> {
+                    if (condition.test(entity)) {
+                        result.add(entity);
+                    } else {
+                        entityManager.detach(entity);
+                    }
+                });
+            }
             logger.log(LogLevel.INFO, "Fetched " + result.size() + " entities by condition for type: " + entityType.getSimpleName(), null,
                     Map.of("entityType", entityType.getSimpleName(),
                             "entityCount", String.valueOf(result.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
             return result;
         } catch (Exception e) {
             logger.log(LogLevel.ERROR, "Failed to fetch entities by condition for type: " + entityType.getSimpleName(), e,null,
@@ -334,23 +992,26 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
     }
 
     @Override
-    @Transactional
+    @Deprecated
+    @ReadOnlyTransactional
     public Optional<T> getSingle(Predicate<T> condition) {
         if (condition == null) {
             logger.log(LogLevel.ERROR, "Attempted to fetch single entity with null condition for type: " + entityType.getSimpleName(), null,
                     Map.of("entityType", entityType.getSimpleName()));
             throw new IllegalArgumentException("Condition cannot be null");
         }
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Fetching single entity by condition for type: " + entityType.getSimpleName(), null,null,
                     Map.of("entityType", entityType.getSimpleName()));
-            Optional<T> result = fetchAll().stream()
-                    .filter(condition)
-                    .findFirst();
+            // Stops reading at the first match instead of loading the whole table
+            Optional<T> result;
+            try (Stream<T> stream = scanAll()) {
+                result = stream.filter(condition).findFirst();
+            }
             logger.log(LogLevel.INFO, "Fetched single entity for type: " + entityType.getSimpleName() + ": " + (result.isPresent() ? "found" : "not found"), null,null,
                     Map.of("entityType", entityType.getSimpleName(),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
             return result;
         } catch (Exception e) {
             logger.log(LogLevel.ERROR, "Failed to fetch single entity by condition for type: " + entityType.getSimpleName(), e,null,
@@ -362,14 +1023,14 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
     @Override
     @Transactional(rollbackOn = Exception.class)
     public void flush() {
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         try {
             logger.log(LogLevel.DEBUG, "Flushing EntityManager changes for type: " + entityType.getSimpleName(), null,
                     Map.of("entityType", entityType.getSimpleName()));
             entityManager.flush();
             logger.log(LogLevel.INFO, "Successfully flushed EntityManager changes for type: " + entityType.getSimpleName(), null,
                     Map.of("entityType", entityType.getSimpleName(),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))));
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))));
         } catch (PersistenceException e) {
             logger.log(LogLevel.ERROR, "Failed to flush EntityManager for type: " + entityType.getSimpleName(),e,null,
                     Map.of("entityType", entityType.getSimpleName()));
@@ -378,9 +1039,52 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
     }
 
     @SuppressWarnings("unchecked")
-    @Async
     @Transactional
     public <R> List<R> executeDynamicNativeQuery(String sql, List<Object> params, Class<R> dtoClass) {
+        List<Object[]> rows = createNativeQuery(sql, params).getResultList();
+        return NativeRowMapper.mapRows(rows, dtoClass);
+    }
+
+    @Override
+    @ReadOnlyTransactional
+    public <R> long streamDynamicNativeQuery(String sql, List<Object> params, Class<R> dtoClass, int fetchSize, Consumer<R> consumer) {
+        if (fetchSize <= 0) throw new IllegalArgumentException("Fetch size must be greater than 0");
+        validateNotNull(dtoClass, "DTO class");
+        validateNotNull(consumer, "Consumer");
+        Query query = createNativeQuery(sql, params);
+
+        long startNanos = streamNativeQueryMetrics.start();
+        long count = 0;
+        // Same cursor rules as streamAll; scalar rows are not managed, so there is nothing to detach
+        try (Stream<?> stream = query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).getResultStream()) {
+            logger.log(LogLevel.DEBUG, "Streaming native query into " + dtoClass.getSimpleName() + " with fetch size " + fetchSize, null, null);
+            Function<Object[], R> mapper = null;
+            Iterator<?> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Object next = iterator.next();
+                Object[] row = next instanceof Object[] columns ? columns : new Object[]{next}; // single-column results come unwrapped
+                if (mapper == null) {
+                    mapper = NativeRowMapper.rowMapper(dtoClass, row.length);
+                }
+                consumer.accept(mapper.apply(row));
+                count++;
+            }
+            long durationMs = streamNativeQueryMetrics.recordSuccess(startNanos, count);
+            logger.log(LogLevel.INFO, "Successfully streamed native query", null,
+                    Map.of("dtoType", dtoClass.getSimpleName(),
+                            "count", String.valueOf(count),
+                            "fetchSize", String.valueOf(fetchSize),
+                            "durationMs", String.valueOf(durationMs)));
+            return count;
+        } catch (Exception e) {
+            streamNativeQueryMetrics.recordFailure(startNanos);
+            logger.log(LogLevel.ERROR, "Failed to stream native query", e, null,
+                    Map.of("dtoType", dtoClass.getSimpleName(), "streamedCount", String.valueOf(count)));
+            throw new DataRetrievalFailureException("Failed to stream native query into " + dtoClass.getSimpleName(), e);
+        }
+    }
+
+    private Query createNativeQuery(String sql, List<Object> params) {
         if (sql == null || sql.trim().isEmpty()) {
             throw new IllegalArgumentException("SQL query cannot be null or empty");
         }
@@ -392,46 +1096,287 @@ public abstract class BaseRepository<T, ID extends Serializable> extends SimpleJ
                 query.setParameter(i + 1, params.get(i));
             }
         }
+        return query;
+    }
+
 
-        List<Object[]> rows = query.getResultList();
-        List<R> resultList = new ArrayList<>(rows.size());
 
-        Constructor<?>[] constructors = dtoClass.getDeclaredConstructors();
-        Constructor<?> targetConstructor = null;
+    private BulkIngestResult copyRows(Connection connection, String copySql, SequenceIdBlocks ids,
+                                      BulkTableMapping<T> mapping, InputStream source, BulkIngestFormat format,
+                                      boolean csvHeader, long startNanos) throws SQLException {
+        CopyManager copyApi = connection.unwrap(PGConnection.class).getCopyAPI();
+        List<BulkColumn<T>> csvColumns = csvHeader ? null : mapping.getColumns();
+        List<BulkRowError> errors = new ArrayList<>();
+        List<String> rows = new ArrayList<>(COPY_BATCH_ROWS);
+        StringBuilder row = new StringBuilder(256);
+        long loaded = 0;
+        long rejected = 0;
+        long lineNumber = 0;
 
-        for (Constructor<?> ctor : constructors) {
-            if (ctor.getParameterCount() == (rows.isEmpty() ? 0 : rows.get(0).length)) {
-                targetConstructor = ctor;
-                break;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8))) {
+            // CSV is read record by record, since a quoted field may span lines; NDJSON is always one line per row
+            CsvRecordReader csvReader = format == BulkIngestFormat.CSV ? new CsvRecordReader(reader) : null;
+            String line;
+            while ((line = csvReader != null ? csvReader.next() : reader.readLine()) != null) {
+                lineNumber = csvReader != null ? csvReader.getLineNumber() : lineNumber + 1;
+                if (line.isBlank()) continue;
+                if (format == BulkIngestFormat.CSV && csvColumns == null) {
+                    csvColumns = resolveCsvHeader(mapping, line);
+                    continue;
+                }
+                row.setLength(0);
+                try {
+                    T entity = format == BulkIngestFormat.CSV
+                            ? parseCsvRow(mapping, csvColumns, line)
+                            : BULK_OBJECT_MAPPER.readValue(line, entityType);
+                    appendCopyRow(row, mapping, entity);
+                    rows.add(row.toString());
+                } catch (Exception e) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new BulkRowError(lineNumber, e.getMessage()));
+                    }
+                }
+                if (rows.size() >= COPY_BATCH_ROWS) {
+                    loaded += copyBatch(connection, copyApi, copySql, ids, rows);
+                    rows.clear();
+                }
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read bulk ingest source", e);
         }
+        loaded += copyBatch(connection, copyApi, copySql, ids, rows);
+        return new BulkIngestResult(format.name(), loaded, rejected, errors,
+                OperationMetrics.elapsedMillis(startNanos));
+    }
+
+    // Ids are reserved before the COPY starts: no other statement can run on the connection until it ends
+    private long copyBatch(Connection connection, CopyManager copyApi, String copySql, SequenceIdBlocks ids,
+                           List<String> rows) throws SQLException {
+        if (rows.isEmpty()) return 0;
+        ids.reserve(connection, rows.size());
+        CopyIn copyIn = copyApi.copyIn(copySql);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+            for (String row : rows) {
+                buffer.append(ids.next()).append(',').append(row);
+                if (buffer.length() >= COPY_BUFFER_CHARS) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
 
-        if (targetConstructor == null) {
-            throw new RuntimeException("No matching constructor found in DTO: " + dtoClass.getSimpleName());
+    private List<BulkColumn<T>> resolveCsvHeader(BulkTableMapping<T> mapping, String headerLine) {
+        List<BulkColumn<T>> columns = new ArrayList<>();
+        for (String name : CsvLineParser.parse(headerLine)) {
+            BulkColumn<T> match = null;
+            for (BulkColumn<T> column : mapping.getColumns()) {
+                if (name != null && (column.getAttribute().equalsIgnoreCase(name.trim())
+                        || column.getColumn().replace("\"", "").equalsIgnoreCase(name.trim()))) {
+                    match = column;
+                    break;
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            columns.add(match);
         }
+        return columns;
+    }
 
-        for (Object[] row : rows) {
-            Object[] castedArgs = new Object[row.length];
+    private T parseCsvRow(BulkTableMapping<T> mapping, List<BulkColumn<T>> columns, String line) {
+        List<String> fields = CsvLineParser.parse(line);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + fields.size());
+        }
+        T entity = mapping.newInstance();
+        for (int i = 0; i < fields.size(); i++) {
+            BulkColumn<T> column = columns.get(i);
+            column.set(entity, AttributeValueConverter.convert(fields.get(i), column.getJavaType()));
+        }
+        return entity;
+    }
 
-            Class<?>[] paramTypes = targetConstructor.getParameterTypes();
-            for (int i = 0; i < row.length; i++) {
-                Object value = row[i];
-                Class<?> expectedType = paramTypes[i];
-                castedArgs[i] = convertToType(value, expectedType);
+    private void appendCopyRow(StringBuilder buffer, BulkTableMapping<T> mapping, T entity) {
+        List<BulkColumn<T>> columns = mapping.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            BulkColumn<T> column = columns.get(i);
+            Object value = column.get(entity);
+            if (value == null && column.isRequired()) {
+                throw new IllegalArgumentException(column.getAttribute() + " is required");
+            }
+            if (value instanceof String text && column.getMaxLength() > 0 && text.length() > column.getMaxLength()) {
+                throw new IllegalArgumentException(column.getAttribute() + " exceeds " + column.getMaxLength() + " characters");
             }
+            if (i > 0) buffer.append(',');
+            CsvLineParser.appendValue(buffer, value);
+        }
+        buffer.append('\n');
+    }
+
+    private void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() == 0) return;
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
 
-            try {
-                R dto = (R) targetConstructor.newInstance(castedArgs);
-                resultList.add(dto);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to instantiate DTO: " + dtoClass.getSimpleName(), e);
+    private List<BulkColumn<T>> resolveKeyColumns(BulkTableMapping<T> mapping, List<String> keyAttributes) {
+        List<BulkColumn<T>> keyColumns = new ArrayList<>(keyAttributes.size());
+        for (String attribute : keyAttributes) {
+            BulkColumn<T> match = null;
+            if (mapping.getIdColumn().getAttribute().equals(attribute)) {
+                match = mapping.getIdColumn();
+            } else {
+                for (BulkColumn<T> column : mapping.getColumns()) {
+                    if (column.getAttribute().equals(attribute)) {
+                        match = column;
+                        break;
+                    }
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("Unknown upsert key attribute: " + attribute);
             }
+            if (!keyColumns.contains(match)) {
+                keyColumns.add(match);
+            }
+        }
+        return keyColumns;
+    }
+
+    private BulkTableMapping<T> requireBulkTableMapping() {
+        BulkTableMapping<T> mapping = bulkTableMapping();
+        if (mapping == null) {
+            throw new UnsupportedOperationException("Bulk operations are not configured for " + entityType.getSimpleName());
+        }
+        return mapping;
+    }
+
+    /**
+     * Describes the entity's table for the set-based bulk operations. Repositories opt in by overriding this.
+     *
+     * @return the table mapping, or null if bulk operations are not supported for the entity
+     */
+    protected BulkTableMapping<T> bulkTableMapping() {
+        return null;
+    }
+
+    /**
+     * Names the attributes {@link #fetchKeyset} may sort by. Each must be indexed together with the primary key,
+     * or deep pages degrade into scans. Repositories with such indexes opt in by overriding this.
+     *
+     * @return the allowed sort attributes; by default only the primary key
+     */
+    protected Set<String> keysetSortAttributes() {
+        return Set.of(entityInformation.getRequiredIdAttribute().getName());
+    }
+
+    /**
+     * Runs the action now and, inside a transaction, once more after it completes. Cache invalidation goes
+     * through here: the second run drops anything another thread cached from rows read before the commit.
+     */
+    protected void runNowAndAfterCompletion(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
         }
+    }
 
-        return resultList;
+    /**
+     * Runs the action once the surrounding transaction commits, or now when there is none. Nothing runs on
+     * rollback, so version bumps made here never announce a change readers cannot see yet.
+     */
+    protected void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
+    /**
+     * Names the query cache region for {@link #fetchAll()}, {@link #fetchSingle(Specification)} and
+     * {@link #fetchByCondition(Specification)}. Repositories of cacheable entities opt in by overriding this.
+     *
+     * @return the region name, or null to always query the database
+     */
+    protected String queryCacheRegion() {
+        return null;
+    }
 
+    /**
+     * Drops this entity's second-level cache entries and cached query results. Used after writes that go
+     * straight to JDBC, which Hibernate's own cache invalidation never sees.
+     */
+    protected void evictSecondLevelCache() {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(entityType);
+        String region = queryCacheRegion();
+        if (region != null) {
+            cache.evictQueryRegion(region);
+        }
+        cache.evictDefaultQueryRegion();
+    }
+
+    private TypedQuery<T> cacheable(TypedQuery<T> query) {
+        String region = queryCacheRegion();
+        if (region == null) {
+            return query;
+        }
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, region);
+    }
+
+    // Same contract as SimpleJpaRepository#findOne: empty for no rows, an error for more than one
+    private Optional<T> singleResult(List<T> results) {
+        if (results.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, results.size());
+        }
+        return results.stream().findFirst();
+    }
+
+    private Stream<T> scanAll() {
+        return getQuery(null, Sort.unsorted())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, BATCH_SIZE)
+                .getResultStream();
+    }
+
+    private Sort sortByIdentifier() {
+        return Sort.by(entityInformation.getRequiredIdAttribute().getName());
+    }
+
+    private Class<?> resolveSortableAttributeType(String attributeName) {
+        SingularAttribute<? super T, ?> attribute;
+        try {
+            attribute = entityManager.getMetamodel().entity(entityType).getSingularAttribute(attributeName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown attribute: " + attributeName + " on " + entityType.getSimpleName());
+        }
+        if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                || !(Comparable.class.isAssignableFrom(attribute.getJavaType()) || attribute.getJavaType().isPrimitive())) {
+            throw new IllegalArgumentException("Attribute cannot be used as a sort key: " + attributeName);
+        }
+        return attribute.getJavaType();
+    }
 
     private void validateNotNull(Object obj, String name) {
         if (obj == null) throw new IllegalArgumentException(name + " cannot be null");
@@ -1,39 +1,129 @@
 package com.example.DEMO_INTEGRATION.DAL.Repository;
 
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkColumn;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkIngestFormat;
+import com.example.DEMO_INTEGRATION.DAL.Bulk.BulkTableMapping;
 import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
 import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import com.example.DEMO_INTEGRATION.DAL.Query.FilterCriterion;
+import com.example.DEMO_INTEGRATION.DAL.Routing.ReadOnlyTransactional;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.BulkIngestResult;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.UpsertResult;
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.GenericCacheUtil;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.VersionCounter;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import com.example.DEMO_INTEGRATION.config.SecondLevelCacheConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
+import org.hibernate.Session;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.io.InputStream;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Repository
 public class Voters4Repository extends BaseRepository<Voters4, Integer> implements IVoters4Repository {
 
+    // Column layout of "Voters4" for the set-based bulk paths that bypass Hibernate
+    private static final BulkTableMapping<Voters4> BULK_TABLE_MAPPING = new BulkTableMapping<>(
+            "public.\"Voters4\"",
+            new BulkColumn<>("id", "\"ID\"", "integer", Integer.class, true, 0, Voters4::getId, Voters4::setId),
+            Voters4.ID_SEQUENCE, Voters4.ID_ALLOCATION_SIZE,
+            List.of(
+                    new BulkColumn<>("name", "\"Name\"", "varchar", String.class, true, 100, Voters4::getName, Voters4::setName),
+                    new BulkColumn<>("age", "\"Age\"", "integer", Integer.class, true, 0, Voters4::getAge, Voters4::setAge),
+                    new BulkColumn<>("isAdult", "\"IsAdult\"", "boolean", Boolean.class, true, 0, Voters4::getIsAdult, Voters4::setIsAdult)
+            ),
+            Voters4::new);
+
+    // Idempotency keys of replayed inserts (see db/voters4-write-keys.sql); the claim returns only new keys
+    private static final String CLAIM_WRITE_KEYS_SQL =
+            "INSERT INTO public.\"Voters4WriteKeys\" (\"Key\") SELECT unnest(?::uuid[]) ON CONFLICT DO NOTHING RETURNING \"Key\"";
+    private static final String RELEASE_WRITE_KEYS_SQL =
+            "DELETE FROM public.\"Voters4WriteKeys\" WHERE \"Key\" = ANY(?::uuid[])";
+
+    // Keyset page sorts, each served by the primary key or an IX_Voters4_<Column>_ID index
+    private static final Set<String> KEYSET_SORT_ATTRIBUTES = Set.of("id", "name", "age");
+
+    // Rows per flush inside a chunk insert; matches hibernate.jdbc.batch_size
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    // Hot read path: one shared MDC context, per-call values go in the message
+    private static final LogContext GET_VOTER_LOG_CONTEXT = LogContext.of("entityType", "Voters4", "operation", "getVoterById");
+
     @PersistenceContext
     private EntityManager em;
 
     private final LoggerUtil logger;
+    private final GenericCacheUtil<Integer, Voters4> voterCache;
+    private final VersionCounter votersVersion;
 
     public Voters4Repository(JpaEntityInformation<Voters4, ?> entityInformation,
-                             EntityManager entityManager) {
+                             EntityManager entityManager,
+                             GenericCacheUtil<Integer, Voters4> voterCache,
+                             VersionCounter votersVersion) {
         super(entityInformation, entityManager);
         this.em = entityManager;
+        this.voterCache = voterCache;
+        this.votersVersion = votersVersion;
         this.logger = LoggerUtil.getLogger(getClass());
     }
+
+    // SUPPORTS overrides SimpleJpaRepository's class-level read-only transaction: reading the counter must not
+    // borrow a connection, which open-in-view would then hold for the whole async request
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public String getVotersVersionTag() {
+        return votersVersion.tag();
+    }
+
+    // SUPPORTS, not the inherited read-only transaction: a cache hit must not take a connection. Misses load
+    // through findById. The cache holds its own copy and callers get another, so nobody mutates a shared instance.
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Optional<Voters4> getVoterById(Integer voterId) {
+        if (voterId == null) {
+            logger.log(LoggerUtil.LogLevel.ERROR, GET_VOTER_LOG_CONTEXT, "Invalid parameter: voterId is null");
+            throw new IllegalArgumentException("Voter ID cannot be null");
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            Voters4 cached = voterCache.get(voterId, id -> super.fetchById(id).map(Voters4Repository::copyOf).orElse(null));
+
+            if (logger.isEnabled(LoggerUtil.LogLevel.DEBUG)) {
+                logger.log(LoggerUtil.LogLevel.DEBUG, GET_VOTER_LOG_CONTEXT, "Fetched Voters4 by ID: {} (found={}, durationMs={})",
+                        voterId, cached != null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+            return Optional.ofNullable(cached).map(Voters4Repository::copyOf);
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, GET_VOTER_LOG_CONTEXT, e, "Failed to fetch Voters4 with ID: {}", voterId);
+            throw new DataAccessException("Unable to fetch Voters4 with ID: " + voterId, e) {};
+        }
+    }
     @Override
-    @Transactional // Mark as read-only as it's a retrieval operation
+    @ReadOnlyTransactional // May be served by a replica
     public List<Voters4> getAllVoters() {
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         String entityTypeName = Voters4.class.getSimpleName();
         Map<String, String> context = Map.of("entityType", entityTypeName);
 
@@ -47,7 +137,7 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
                     Map.of(
                             "entityType", entityTypeName,
                             "entityCount", String.valueOf(result.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
                     ));
             return result;
         } catch (PersistenceException e) {
@@ -61,10 +151,96 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
         }
     }
 
+    @Override
+    @ReadOnlyTransactional // Keeps the connection and cursor open until the last row is consumed
+    public long streamAllVoters(int fetchSize, Consumer<Voters4> consumer) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting stream of all " + entityTypeName + " entities", null, context);
+
+            long count = super.streamAll(fetchSize, consumer);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully streamed " + count + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "entityCount", String.valueOf(count),
+                            "fetchSize", String.valueOf(fetchSize),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return count;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid parameter for streaming " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to stream all " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to stream all " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    @Override
+    @ReadOnlyTransactional
+    public KeysetPage<Voters4> getVotersPage(String sortBy, String pageToken, int size) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting keyset page fetch of " + entityTypeName + " entities", null, context);
+
+            KeysetPage<Voters4> page = super.fetchKeyset(sortBy, pageToken, size);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully fetched page of " + page.getSize() + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "entityCount", String.valueOf(page.getSize()),
+                            "sortBy", page.getSortBy(),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return page;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid page request for " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to fetch page of " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to fetch page of " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    @Override
+    @ReadOnlyTransactional
+    public List<Voters4> searchVoters(List<FilterCriterion> filters, int limit) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName, "filters", String.valueOf(filters));
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting search of " + entityTypeName + " entities", null, context);
+
+            List<Voters4> result = super.fetchByFilters(filters, limit);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully found " + result.size() + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "entityCount", String.valueOf(result.size()),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return result;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid search filters for " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to search " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to search " + entityTypeName + " entities", e) {};
+        }
+    }
+
     @Override
     @Transactional // This is a write operation
     public boolean addVoters(List<Voters4> votersList) {
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         String entityTypeName = Voters4.class.getSimpleName();
         Map<String, String> context = Map.of("entityType", entityTypeName);
 
@@ -78,12 +254,13 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
 
             // Call BaseRepository saveAll (assuming your BaseRepository has addAll() like your pattern)
             super.addAll(votersList);
+            votersChanged(idsOf(votersList)); // Entries with an id may have been merged over cached rows
 
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully saved " + votersList.size() + " " + entityTypeName + " entities", null,
                     Map.of(
                             "entityType", entityTypeName,
                             "entityCount", String.valueOf(votersList.size()),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
                     ));
 
             return true;
@@ -95,11 +272,160 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
             throw new DataAccessException("An unexpected error occurred while saving " + entityTypeName + " entities", e) {};
         }
     }
+    @Override
+    @Transactional // One chunk of an ingestion job: all of it or none
+    public int addVotersChunk(List<Voters4> voters) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        if (voters == null || voters.isEmpty()) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid parameter: voters is null/empty", null, context);
+            throw new IllegalArgumentException("Voters list cannot be null or empty");
+        }
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting chunk insert of " + voters.size() + " " + entityTypeName + " entities", null, context);
+
+            super.batchAddAll(voters, INSERT_BATCH_SIZE);
+            votersChanged(List.of()); // New rows only; nothing cached to invalidate
+
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Inserted chunk of " + voters.size() + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "entityCount", String.valueOf(voters.size()),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return voters.size();
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to insert chunk of " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to insert chunk of " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    @Override
+    @Transactional // A key is claimed in the transaction that inserts its voters, so each key applies once
+    public int addVotersOnce(Map<UUID, List<Voters4>> votersByKey) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        if (votersByKey == null || votersByKey.isEmpty() || votersByKey.containsKey(null)) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid parameter: votersByKey is null/empty or has a null key", null, context);
+            throw new IllegalArgumentException("Voters by key cannot be null or empty, or have a null key");
+        }
+
+        try {
+            Set<UUID> claimed = em.unwrap(Session.class).doReturningWork(connection -> {
+                Array keyArray = connection.createArrayOf("varchar", votersByKey.keySet().stream().map(UUID::toString).toArray());
+                try (PreparedStatement statement = connection.prepareStatement(CLAIM_WRITE_KEYS_SQL)) {
+                    statement.setArray(1, keyArray);
+                    Set<UUID> keys = new HashSet<>();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            keys.add(resultSet.getObject(1, UUID.class));
+                        }
+                    }
+                    return keys;
+                } finally {
+                    keyArray.free();
+                }
+            });
+            List<Voters4> voters = new ArrayList<>();
+            for (Map.Entry<UUID, List<Voters4>> entry : votersByKey.entrySet()) {
+                if (claimed.contains(entry.getKey())) {
+                    voters.addAll(entry.getValue());
+                }
+            }
+            if (!voters.isEmpty()) {
+                addVoters(voters);
+            }
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Applied " + claimed.size() + " of " + votersByKey.size() + " keyed " + entityTypeName + " inserts", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "skippedKeys", String.valueOf(votersByKey.size() - claimed.size()),
+                            "entityCount", String.valueOf(voters.size()),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return voters.size();
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to apply keyed " + entityTypeName + " inserts", e, null, context);
+            throw new DataAccessException("Unable to apply keyed " + entityTypeName + " inserts", e) {};
+        }
+    }
+
+    @Override
+    @Transactional // Forgets keys whose inserts can no longer be applied again
+    public void releaseWriteKeys(Collection<UUID> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        try {
+            em.unwrap(Session.class).doWork(connection -> {
+                Array keyArray = connection.createArrayOf("varchar", keys.stream().map(UUID::toString).toArray());
+                try (PreparedStatement statement = connection.prepareStatement(RELEASE_WRITE_KEYS_SQL)) {
+                    statement.setArray(1, keyArray);
+                    statement.executeUpdate();
+                } finally {
+                    keyArray.free();
+                }
+            });
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to release " + keys.size() + " write keys", e, null, Map.of("entityType", "Voters4"));
+            throw new DataAccessException("Unable to release write keys", e) {};
+        }
+    }
+
+    @Override
+    @Transactional // One COPY in one transaction: a failure part-way loads nothing
+    public BulkIngestResult bulkIngestVoters(InputStream source, BulkIngestFormat format, boolean csvHeader) {
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName, "format", String.valueOf(format));
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting bulk ingest of " + entityTypeName + " entities", null, context);
+
+            BulkIngestResult result = super.bulkIngest(source, format, csvHeader);
+            votersChanged(List.of()); // Only new ids, nothing cached to drop
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully bulk ingested " + result.getLoaded() + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "loaded", String.valueOf(result.getLoaded()),
+                            "rejected", String.valueOf(result.getRejected()),
+                            "durationMs", String.valueOf(result.getDurationMs())
+                    ));
+            return result;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid bulk ingest request for " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk ingest " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to bulk ingest " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    @Override
+    protected BulkTableMapping<Voters4> bulkTableMapping() {
+        return BULK_TABLE_MAPPING;
+    }
+
+    @Override
+    protected Set<String> keysetSortAttributes() {
+        return KEYSET_SORT_ATTRIBUTES;
+    }
+
+    @Override
+    protected String queryCacheRegion() {
+        return SecondLevelCacheConfig.VOTERS4_QUERY_REGION;
+    }
+
     // UpDate
     @Override
     @Transactional // This is a write operation
     public boolean updateVoter(Voters4 voter) {
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         String entityTypeName = Voters4.class.getSimpleName();
         Map<String, String> context = Map.of(
                 "entityType", entityTypeName,
@@ -115,12 +441,13 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
             logger.log(LoggerUtil.LogLevel.DEBUG, "Starting update for " + entityTypeName + " with ID: " + voter.getId(), null, context);
 
             super.update(voter); // Assuming BaseRepository has an update() method
+            votersChanged(List.of(voter.getId()));
 
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully updated " + entityTypeName + " with ID: " + voter.getId(), null,
                     Map.of(
                             "entityType", entityTypeName,
                             "entityId", voter.getId().toString(),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
                     ));
 
             return true;
@@ -137,7 +464,7 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
     @Override
     @Transactional // This is a write operation
     public boolean deleteVoter(Integer voterId) {
-        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
         String entityTypeName = Voters4.class.getSimpleName();
         Map<String, String> context = Map.of(
                 "entityType", entityTypeName,
@@ -152,13 +479,14 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
         try {
             logger.log(LoggerUtil.LogLevel.DEBUG, "Starting delete for " + entityTypeName + " with ID: " + voterId, null, context);
 
-            super.deleteById(voterId); // Assuming BaseRepository has deleteById()
+            super.bulkDeleteByIds(List.of(voterId)); // Single DELETE, no SELECT of the entity first
+            votersChanged(List.of(voterId));
 
             logger.log(LoggerUtil.LogLevel.INFO, "Successfully deleted " + entityTypeName + " with ID: " + voterId, null,
                     Map.of(
                             "entityType", entityTypeName,
                             "entityId", voterId.toString(),
-                            "durationMs", String.valueOf(startTime.until(LocalDateTime.now(), ChronoUnit.MILLIS))
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
                     ));
 
             return true;
@@ -171,4 +499,145 @@ public class Voters4Repository extends BaseRepository<Voters4, Integer> implemen
         }
     }
 
+    @Override
+    @Transactional // Set-based write: one UPDATE ... FROM (VALUES ...) per chunk
+    public int updateVoters(List<Voters4> voters) {
+        return updateVotersReturningIds(voters).size();
+    }
+
+    @Override
+    @Transactional // Set-based write: one UPDATE ... FROM (VALUES ...) RETURNING per chunk
+    public Set<Integer> updateVotersReturningIds(List<Voters4> voters) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        if (voters == null || voters.isEmpty()) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid parameter: voters is null/empty", null, context);
+            throw new IllegalArgumentException("Voters list cannot be null or empty");
+        }
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting bulk update of " + voters.size() + " " + entityTypeName + " entities", null, context);
+
+            Set<Integer> updated = super.bulkUpdateReturningIds(voters);
+            votersChanged(idsOf(voters));
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully updated " + updated.size() + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "requestedCount", String.valueOf(voters.size()),
+                            "entityCount", String.valueOf(updated.size()),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return updated;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid bulk update of " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk update " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to bulk update " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    @Override
+    @Transactional // Set-based write: one INSERT ... ON CONFLICT DO UPDATE per chunk
+    public UpsertResult upsertVoters(List<Voters4> voters, List<String> keyAttributes, int chunkSize) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        if (voters == null || voters.isEmpty()) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid parameter: voters is null/empty", null, context);
+            throw new IllegalArgumentException("Voters list cannot be null or empty");
+        }
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting bulk upsert of " + voters.size() + " " + entityTypeName + " entities", null, context);
+
+            UpsertResult result = super.bulkUpsert(voters, keyAttributes, chunkSize);
+            if (List.of("id").equals(keyAttributes)) {
+                votersChanged(idsOf(voters));
+            } else {
+                if (result.getUpdated() > 0) {
+                    // Rows were matched by a natural key, so the ids of the updated ones are unknown here
+                    runNowAndAfterCompletion(voterCache::clear);
+                }
+                votersChanged(List.of());
+            }
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully upserted " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "requestedCount", String.valueOf(voters.size()),
+                            "insertedCount", String.valueOf(result.getInserted()),
+                            "updatedCount", String.valueOf(result.getUpdated()),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return result;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid bulk upsert of " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk upsert " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to bulk upsert " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    @Override
+    @Transactional // Set-based write: one DELETE ... WHERE "ID" = ANY(?)
+    public int deleteVoters(List<Integer> voterIds) {
+        long startNanos = System.nanoTime();
+        String entityTypeName = Voters4.class.getSimpleName();
+        Map<String, String> context = Map.of("entityType", entityTypeName);
+
+        if (voterIds == null || voterIds.isEmpty()) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid parameter: voterIds is null/empty", null, context);
+            throw new IllegalArgumentException("Voter ID list cannot be null or empty");
+        }
+
+        try {
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Starting bulk delete of " + voterIds.size() + " " + entityTypeName + " entities", null, context);
+
+            int deleted = super.bulkDeleteByIds(voterIds);
+            votersChanged(voterIds);
+
+            logger.log(LoggerUtil.LogLevel.INFO, "Successfully deleted " + deleted + " " + entityTypeName + " entities", null,
+                    Map.of(
+                            "entityType", entityTypeName,
+                            "requestedCount", String.valueOf(voterIds.size()),
+                            "entityCount", String.valueOf(deleted),
+                            "durationMs", String.valueOf(OperationMetrics.elapsedMillis(startNanos))
+                    ));
+            return deleted;
+        } catch (IllegalArgumentException e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Invalid bulk delete of " + entityTypeName + " entities", e, null, context);
+            throw e;
+        } catch (Exception e) {
+            logger.log(LoggerUtil.LogLevel.ERROR, "Failed to bulk delete " + entityTypeName + " entities", e, null, context);
+            throw new DataAccessException("Unable to bulk delete " + entityTypeName + " entities", e) {};
+        }
+    }
+
+    // Drops the cached entries now and again after commit, and bumps the table version once the write is visible
+    private void votersChanged(List<Integer> voterIds) {
+        if (!voterIds.isEmpty()) {
+            runNowAndAfterCompletion(() -> voterCache.invalidateAll(voterIds));
+        }
+        runAfterCommit(votersVersion::increment);
+    }
+
+    private static List<Integer> idsOf(List<Voters4> voters) {
+        List<Integer> ids = new ArrayList<>(voters.size());
+        for (Voters4 voter : voters) {
+            if (voter != null && voter.getId() != null) {
+                ids.add(voter.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static Voters4 copyOf(Voters4 voter) {
+        return new Voters4(voter.getId(), voter.getName(), voter.getAge(), voter.getIsAdult());
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.DEMO_INTEGRATION.DAL.Routing;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A read-only Spring transaction. {@code jakarta.transaction.Transactional}, used for the write paths, has no
+ * read-only flag; this one marks a read so that {@link ReadWriteRoutingDataSource} may serve it from a replica
+ * and Hibernate skips dirty checking for the entities it loads. A write issued inside it fails on the database.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransactional {
+}
@@ -0,0 +1,174 @@
+package com.example.DEMO_INTEGRATION.DAL.Routing;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.DataSourceRoutingStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions ({@link ReadOnlyTransactional}) round-robin to the replica pools
+ * and everything else to the primary. Decides when the connection is first used, so it must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for a
+ * connection before the read-only flag of the new transaction is published.
+ *
+ * <p>Reads go to the primary as well
+ * <ul>
+ *   <li>for {@code readAfterWrite} after the last read-write transaction committed, so caches and snapshots
+ *       refilled right after a write do not capture a replica that has not replayed it yet. The time is taken
+ *       when the transaction commits, not when it starts, so a write that runs longer than {@code readAfterWrite}
+ *       still protects the reads that follow it;</li>
+ *   <li>when every replica failed to hand out a connection within the last {@code retryAfter}.</li>
+ * </ul>
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(ReadWriteRoutingDataSource.class);
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long readAfterWriteNanos;
+    private final long retryAfterNanos;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLongArray unavailableUntil; // System.nanoTime() before which a replica is skipped
+    private volatile long lastWriteNanos;
+    // Runs before the other commit callbacks, so version bumps and cache refills it triggers already see the write
+    private final TransactionSynchronization commitRecorder = new TransactionSynchronization() {
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+            lastWriteNanos = System.nanoTime();
+        }
+    };
+
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder readsOnPrimaryAfterWrite = new LongAdder();
+    private final LongAdder replicaFailures = new LongAdder();
+    private final LongAdder replicaFallbacks = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readAfterWrite, Duration retryAfter) {
+        if (primary == null || replicas == null) {
+            throw new IllegalArgumentException("Primary and replica data sources cannot be null");
+        }
+        if (readAfterWrite.isNegative() || retryAfter.isNegative()) {
+            throw new IllegalArgumentException("Read-after-write and retry-after durations cannot be negative");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readAfterWriteNanos = readAfterWrite.toNanos();
+        this.retryAfterNanos = retryAfter.toNanos();
+        long now = System.nanoTime();
+        this.unavailableUntil = new AtomicLongArray(this.replicas.size());
+        for (int i = 0; i < this.replicas.size(); i++) {
+            unavailableUntil.set(i, now);
+        }
+        this.lastWriteNanos = now - readAfterWriteNanos;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(commitRecorder);
+            }
+            return primaryConnection(username, password);
+        }
+
+        long now = System.nanoTime();
+        if (replicas.isEmpty()) {
+            return primaryConnection(username, password);
+        }
+        if (now - lastWriteNanos < readAfterWriteNanos) {
+            readsOnPrimaryAfterWrite.increment();
+            return primaryConnection(username, password);
+        }
+
+        int count = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            if (now - unavailableUntil.get(index) < 0) {
+                continue;
+            }
+            try {
+                Connection connection = connect(replicas.get(index), username, password);
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaFailures.increment();
+                unavailableUntil.set(index, now + retryAfterNanos);
+                logger.log(LoggerUtil.LogLevel.WARN, "Replica unavailable, skipping it for "
+                        + Duration.ofNanos(retryAfterNanos).toMillis() + " ms", e, null, Map.of("replica", String.valueOf(index + 1)));
+            }
+        }
+
+        replicaFallbacks.increment();
+        return primaryConnection(username, password);
+    }
+
+    private Connection primaryConnection(String username, String password) throws SQLException {
+        Connection connection = connect(primary, username, password);
+        primaryConnections.increment();
+        return connection;
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null && password == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    public DataSourceRoutingStats snapshot() {
+        long now = System.nanoTime();
+        int unavailable = 0;
+        for (int i = 0; i < unavailableUntil.length(); i++) {
+            if (now - unavailableUntil.get(i) < 0) unavailable++;
+        }
+        return new DataSourceRoutingStats(replicas.size(), unavailable, Duration.ofNanos(readAfterWriteNanos).toMillis(),
+                primaryConnections.sum(), replicaConnections.sum(), readsOnPrimaryAfterWrite.sum(), replicaFailures.sum(),
+                replicaFallbacks.sum());
+    }
+
+    /** Closes the pools it was built with; a pool that fails to close is logged and the others still close. */
+    @Override
+    public void close() {
+        for (DataSource replica : replicas) {
+            closeQuietly(replica);
+        }
+        closeQuietly(primary);
+    }
+
+    private void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.log(LoggerUtil.LogLevel.WARN, "Failed to close data source", e, null,
+                        Map.of("dataSource", dataSource.getClass().getSimpleName()));
+            }
+        }
+    }
+}
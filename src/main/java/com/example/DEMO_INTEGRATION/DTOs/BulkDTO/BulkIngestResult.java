@@ -0,0 +1,45 @@
+package com.example.DEMO_INTEGRATION.DTOs.BulkDTO;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk ingest: how many rows were loaded and rejected, and the first rejection reasons.
+ */
+public class BulkIngestResult {
+    private final String format;
+    private final long loaded;
+    private final long rejected;
+    private final List<BulkRowError> errors;
+    private final long durationMs;
+
+    public BulkIngestResult(String format, long loaded, long rejected, List<BulkRowError> errors, long durationMs) {
+        this.format = format;
+        this.loaded = loaded;
+        this.rejected = rejected;
+        this.errors = errors;
+        this.durationMs = durationMs;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public long getLoaded() {
+        return loaded;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return the first rejected rows; capped, so it may be shorter than {@link #getRejected()}
+     */
+    public List<BulkRowError> getErrors() {
+        return errors;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.DEMO_INTEGRATION.DTOs.BulkDTO;
+
+/**
+ * A rejected input row of a bulk operation.
+ */
+public class BulkRowError {
+    private final long line;
+    private final String message;
+
+    public BulkRowError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
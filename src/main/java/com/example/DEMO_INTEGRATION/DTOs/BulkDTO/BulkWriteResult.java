@@ -0,0 +1,31 @@
+package com.example.DEMO_INTEGRATION.DTOs.BulkDTO;
+
+/**
+ * Outcome of a set-based bulk update or delete.
+ */
+public class BulkWriteResult {
+    private final int requested;
+    private final int affected;
+    private final long durationMs;
+
+    public BulkWriteResult(int requested, int affected, long durationMs) {
+        this.requested = requested;
+        this.affected = affected;
+        this.durationMs = durationMs;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * @return the rows actually changed; lower than {@link #getRequested()} when some ids do not exist
+     */
+    public int getAffected() {
+        return affected;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
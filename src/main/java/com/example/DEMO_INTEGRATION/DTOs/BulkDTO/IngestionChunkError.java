@@ -0,0 +1,37 @@
+package com.example.DEMO_INTEGRATION.DTOs.BulkDTO;
+
+/**
+ * A chunk of an ingestion job that failed and was rolled back; the other chunks of the job are unaffected.
+ */
+public class IngestionChunkError {
+    private final int chunk;
+    private final long firstRow;
+    private final int rowCount;
+    private final String message;
+
+    public IngestionChunkError(int chunk, long firstRow, int rowCount, String message) {
+        this.chunk = chunk;
+        this.firstRow = firstRow;
+        this.rowCount = rowCount;
+        this.message = message;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    /**
+     * @return zero-based index of the chunk's first row in the submitted list
+     */
+    public long getFirstRow() {
+        return firstRow;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
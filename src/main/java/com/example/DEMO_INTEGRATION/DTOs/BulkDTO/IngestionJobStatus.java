@@ -0,0 +1,111 @@
+package com.example.DEMO_INTEGRATION.DTOs.BulkDTO;
+
+import java.util.List;
+
+/**
+ * Progress of an asynchronous ingestion job at the time it was read.
+ */
+public class IngestionJobStatus {
+    private final String jobId;
+    private final String state;
+    private final long totalRows;
+    private final int chunkSize;
+    private final int totalChunks;
+    private final int completedChunks;
+    private final int failedChunks;
+    private final long rowsWritten;
+    private final long rowsFailed;
+    private final long submittedAtEpochMs;
+    private final long queuedMs;
+    private final long runningMs;
+    private final long rowsPerSecond;
+    private final List<IngestionChunkError> errors;
+
+    public IngestionJobStatus(String jobId, String state, long totalRows, int chunkSize, int totalChunks,
+                              int completedChunks, int failedChunks, long rowsWritten, long rowsFailed,
+                              long submittedAtEpochMs, long queuedMs, long runningMs, long rowsPerSecond,
+                              List<IngestionChunkError> errors) {
+        this.jobId = jobId;
+        this.state = state;
+        this.totalRows = totalRows;
+        this.chunkSize = chunkSize;
+        this.totalChunks = totalChunks;
+        this.completedChunks = completedChunks;
+        this.failedChunks = failedChunks;
+        this.rowsWritten = rowsWritten;
+        this.rowsFailed = rowsFailed;
+        this.submittedAtEpochMs = submittedAtEpochMs;
+        this.queuedMs = queuedMs;
+        this.runningMs = runningMs;
+        this.rowsPerSecond = rowsPerSecond;
+        this.errors = errors;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * @return QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS when some chunks failed, or FAILED when all did
+     */
+    public String getState() {
+        return state;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public int getCompletedChunks() {
+        return completedChunks;
+    }
+
+    public int getFailedChunks() {
+        return failedChunks;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed;
+    }
+
+    public long getSubmittedAtEpochMs() {
+        return submittedAtEpochMs;
+    }
+
+    /**
+     * @return time spent waiting for a worker, so far if the job has not started
+     */
+    public long getQueuedMs() {
+        return queuedMs;
+    }
+
+    /**
+     * @return time since a worker picked the job up, up to its completion
+     */
+    public long getRunningMs() {
+        return runningMs;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    /**
+     * @return the first failed chunks; capped, so it may be shorter than {@link #getFailedChunks()}
+     */
+    public List<IngestionChunkError> getErrors() {
+        return errors;
+    }
+}
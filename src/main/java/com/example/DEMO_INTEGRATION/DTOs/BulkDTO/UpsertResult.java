@@ -0,0 +1,62 @@
+package com.example.DEMO_INTEGRATION.DTOs.BulkDTO;
+
+/**
+ * Outcome of a bulk upsert: how the requested rows split into inserts, updates and rows that were already current.
+ */
+public class UpsertResult {
+    private final int requested;
+    private final int duplicates;
+    private final int inserted;
+    private final int updated;
+    private final int unchanged;
+    private final int statements;
+    private final long durationMs;
+
+    public UpsertResult(int requested, int duplicates, int inserted, int updated, int unchanged, int statements,
+                        long durationMs) {
+        this.requested = requested;
+        this.duplicates = duplicates;
+        this.inserted = inserted;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.statements = statements;
+        this.durationMs = durationMs;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * @return rows dropped because a later row in the same request had the same key; the last one wins
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    /**
+     * @return rows whose key already existed with identical values; they are not rewritten
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * @return the INSERT ... ON CONFLICT statements sent, one per chunk
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
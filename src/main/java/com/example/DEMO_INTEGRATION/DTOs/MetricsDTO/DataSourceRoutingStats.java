@@ -0,0 +1,38 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * Where connections went: the primary for writes and non-transactional work, a replica for read-only
+ * transactions, or the primary for a read because it came right after a write or no replica was available.
+ */
+public class DataSourceRoutingStats {
+    private final int replicas;
+    private final int replicasUnavailable;
+    private final long readAfterWriteMs;
+    private final long primaryConnections;
+    private final long replicaConnections;
+    private final long readsOnPrimaryAfterWrite;
+    private final long replicaFailures;
+    private final long replicaFallbacks;
+
+    public DataSourceRoutingStats(int replicas, int replicasUnavailable, long readAfterWriteMs, long primaryConnections,
+                                  long replicaConnections, long readsOnPrimaryAfterWrite, long replicaFailures,
+                                  long replicaFallbacks) {
+        this.replicas = replicas;
+        this.replicasUnavailable = replicasUnavailable;
+        this.readAfterWriteMs = readAfterWriteMs;
+        this.primaryConnections = primaryConnections;
+        this.replicaConnections = replicaConnections;
+        this.readsOnPrimaryAfterWrite = readsOnPrimaryAfterWrite;
+        this.replicaFailures = replicaFailures;
+        this.replicaFallbacks = replicaFallbacks;
+    }
+
+    public int getReplicas() { return replicas; }
+    public int getReplicasUnavailable() { return replicasUnavailable; }
+    public long getReadAfterWriteMs() { return readAfterWriteMs; }
+    public long getPrimaryConnections() { return primaryConnections; }
+    public long getReplicaConnections() { return replicaConnections; }
+    public long getReadsOnPrimaryAfterWrite() { return readsOnPrimaryAfterWrite; }
+    public long getReplicaFailures() { return replicaFailures; }
+    public long getReplicaFallbacks() { return replicaFallbacks; }
+}
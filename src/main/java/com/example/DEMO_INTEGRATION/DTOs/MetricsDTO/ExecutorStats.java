@@ -0,0 +1,46 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * Point-in-time view of an executor's load: pool and queue occupancy, throughput counters and queue wait.
+ */
+public class ExecutorStats {
+    private final String name;
+    private final int activeThreads;
+    private final int poolSize;
+    private final int maxPoolSize;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long submitted;
+    private final long rejected;
+    private final long completed;
+    private final long avgQueueWaitMicros;
+    private final long maxQueueWaitMicros;
+
+    public ExecutorStats(String name, int activeThreads, int poolSize, int maxPoolSize, int queueDepth,
+                         int queueCapacity, long submitted, long rejected, long completed,
+                         long avgQueueWaitMicros, long maxQueueWaitMicros) {
+        this.name = name;
+        this.activeThreads = activeThreads;
+        this.poolSize = poolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.submitted = submitted;
+        this.rejected = rejected;
+        this.completed = completed;
+        this.avgQueueWaitMicros = avgQueueWaitMicros;
+        this.maxQueueWaitMicros = maxQueueWaitMicros;
+    }
+
+    public String getName() { return name; }
+    public int getActiveThreads() { return activeThreads; }
+    public int getPoolSize() { return poolSize; }
+    public int getMaxPoolSize() { return maxPoolSize; }
+    public int getQueueDepth() { return queueDepth; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public long getSubmitted() { return submitted; }
+    public long getRejected() { return rejected; }
+    public long getCompleted() { return completed; }
+    public long getAvgQueueWaitMicros() { return avgQueueWaitMicros; }
+    public long getMaxQueueWaitMicros() { return maxQueueWaitMicros; }
+}
@@ -0,0 +1,53 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * Latency and outcome counters of one instrumented operation. Totals cover the process lifetime;
+ * quantiles, max and throughput cover the recent sliding window only.
+ */
+public class OperationStats {
+    private final String component;
+    private final String operation;
+    private final long count;
+    private final long errors;
+    private final double errorRate;
+    private final long rows;
+    private final double meanMs;
+    private final long windowCount;
+    private final double throughputPerSecond;
+    private final double p50Ms;
+    private final double p95Ms;
+    private final double p99Ms;
+    private final double maxMs;
+
+    public OperationStats(String component, String operation, long count, long errors, double errorRate, long rows,
+                          double meanMs, long windowCount, double throughputPerSecond,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+        this.component = component;
+        this.operation = operation;
+        this.count = count;
+        this.errors = errors;
+        this.errorRate = errorRate;
+        this.rows = rows;
+        this.meanMs = meanMs;
+        this.windowCount = windowCount;
+        this.throughputPerSecond = throughputPerSecond;
+        this.p50Ms = p50Ms;
+        this.p95Ms = p95Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+    }
+
+    public String getComponent() { return component; }
+    public String getOperation() { return operation; }
+    public long getCount() { return count; }
+    public long getErrors() { return errors; }
+    public double getErrorRate() { return errorRate; }
+    public long getRows() { return rows; }
+    public double getMeanMs() { return meanMs; }
+    public long getWindowCount() { return windowCount; }
+    public double getThroughputPerSecond() { return throughputPerSecond; }
+    public double getP50Ms() { return p50Ms; }
+    public double getP95Ms() { return p95Ms; }
+    public double getP99Ms() { return p99Ms; }
+    public double getMaxMs() { return maxMs; }
+}
@@ -0,0 +1,36 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+import java.util.Map;
+
+/**
+ * Virtual-thread pinning observed since startup: how often a virtual thread blocked while pinned to its
+ * carrier for longer than the threshold, and which application frames were on top when it happened.
+ */
+public class PinningStats {
+    private final boolean virtualThreadsEnabled;
+    private final boolean monitoring;
+    private final long thresholdMillis;
+    private final long pinnedEvents;
+    private final long totalPinnedMillis;
+    private final long maxPinnedMillis;
+    private final Map<String, Long> eventsBySite;
+
+    public PinningStats(boolean virtualThreadsEnabled, boolean monitoring, long thresholdMillis, long pinnedEvents,
+                        long totalPinnedMillis, long maxPinnedMillis, Map<String, Long> eventsBySite) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.monitoring = monitoring;
+        this.thresholdMillis = thresholdMillis;
+        this.pinnedEvents = pinnedEvents;
+        this.totalPinnedMillis = totalPinnedMillis;
+        this.maxPinnedMillis = maxPinnedMillis;
+        this.eventsBySite = eventsBySite;
+    }
+
+    public boolean isVirtualThreadsEnabled() { return virtualThreadsEnabled; }
+    public boolean isMonitoring() { return monitoring; }
+    public long getThresholdMillis() { return thresholdMillis; }
+    public long getPinnedEvents() { return pinnedEvents; }
+    public long getTotalPinnedMillis() { return totalPinnedMillis; }
+    public long getMaxPinnedMillis() { return maxPinnedMillis; }
+    public Map<String, Long> getEventsBySite() { return eventsBySite; }
+}
@@ -0,0 +1,31 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * Hibernate second-level cache counters for one region, with the number of entries Caffeine currently holds.
+ */
+public class RegionCacheStats {
+    private final String region;
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+
+    public RegionCacheStats(String region, long size, long hits, long misses, long puts) {
+        this.region = region;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+    }
+
+    public String getRegion() { return region; }
+    public long getSize() { return size; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getPuts() { return puts; }
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * State of the voter spill journal: disk in use against its bound, records still to replay, what was spilled
+ * and synced, and how replay into the database is going.
+ */
+public class SpillJournalStats {
+    private final boolean enabled;
+    private final boolean running;
+    private final String directory;
+    private final int segments;
+    private final long diskBytes;
+    private final long maxDiskBytes;
+    private final long pendingRecords;
+    private final long appendedRecords;
+    private final long appendedBytes;
+    private final long fsyncs;
+    private final long rejected;
+    private final long recoveredRecords;
+    private final long corruptRecords;
+    private final long spilledAdds;
+    private final long spilledUpdates;
+    private final long replayedRecords;
+    private final long replayedRows;
+    private final long replayRowsPerSecond;
+    private final long replayRejected;
+    private final long replayRetries;
+    private final String lastReplayError;
+
+    public SpillJournalStats(boolean enabled, boolean running, String directory, int segments, long diskBytes,
+                             long maxDiskBytes, long pendingRecords, long appendedRecords, long appendedBytes,
+                             long fsyncs, long rejected, long recoveredRecords, long corruptRecords, long spilledAdds,
+                             long spilledUpdates, long replayedRecords, long replayedRows, long replayRowsPerSecond,
+                             long replayRejected, long replayRetries, String lastReplayError) {
+        this.enabled = enabled;
+        this.running = running;
+        this.directory = directory;
+        this.segments = segments;
+        this.diskBytes = diskBytes;
+        this.maxDiskBytes = maxDiskBytes;
+        this.pendingRecords = pendingRecords;
+        this.appendedRecords = appendedRecords;
+        this.appendedBytes = appendedBytes;
+        this.fsyncs = fsyncs;
+        this.rejected = rejected;
+        this.recoveredRecords = recoveredRecords;
+        this.corruptRecords = corruptRecords;
+        this.spilledAdds = spilledAdds;
+        this.spilledUpdates = spilledUpdates;
+        this.replayedRecords = replayedRecords;
+        this.replayedRows = replayedRows;
+        this.replayRowsPerSecond = replayRowsPerSecond;
+        this.replayRejected = replayRejected;
+        this.replayRetries = replayRetries;
+        this.lastReplayError = lastReplayError;
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public boolean isRunning() { return running; }
+    public String getDirectory() { return directory; }
+    public int getSegments() { return segments; }
+    public long getDiskBytes() { return diskBytes; }
+    public long getMaxDiskBytes() { return maxDiskBytes; }
+    public long getPendingRecords() { return pendingRecords; }
+    public long getAppendedRecords() { return appendedRecords; }
+    public long getAppendedBytes() { return appendedBytes; }
+    public long getFsyncs() { return fsyncs; }
+    public long getRejected() { return rejected; }
+    public long getRecoveredRecords() { return recoveredRecords; }
+    public long getCorruptRecords() { return corruptRecords; }
+    public long getSpilledAdds() { return spilledAdds; }
+    public long getSpilledUpdates() { return spilledUpdates; }
+    public long getReplayedRecords() { return replayedRecords; }
+    public long getReplayedRows() { return replayedRows; }
+    public long getReplayRowsPerSecond() { return replayRowsPerSecond; }
+    public long getReplayRejected() { return replayRejected; }
+    public long getReplayRetries() { return replayRetries; }
+    public String getLastReplayError() { return lastReplayError; }
+}
@@ -0,0 +1,40 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * Counters of the asynchronous structured-log pipeline: what was accepted, dropped or waited for by
+ * request threads, and what the writer thread has written so far.
+ */
+public class StructuredLogStats {
+    private final String overflowPolicy;
+    private final int capacity;
+    private final int queueDepth;
+    private final long published;
+    private final long dropped;
+    private final long blocked;
+    private final long written;
+    private final long bytesWritten;
+    private final long writeErrors;
+
+    public StructuredLogStats(String overflowPolicy, int capacity, int queueDepth, long published, long dropped,
+                              long blocked, long written, long bytesWritten, long writeErrors) {
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = capacity;
+        this.queueDepth = queueDepth;
+        this.published = published;
+        this.dropped = dropped;
+        this.blocked = blocked;
+        this.written = written;
+        this.bytesWritten = bytesWritten;
+        this.writeErrors = writeErrors;
+    }
+
+    public String getOverflowPolicy() { return overflowPolicy; }
+    public int getCapacity() { return capacity; }
+    public int getQueueDepth() { return queueDepth; }
+    public long getPublished() { return published; }
+    public long getDropped() { return dropped; }
+    public long getBlocked() { return blocked; }
+    public long getWritten() { return written; }
+    public long getBytesWritten() { return bytesWritten; }
+    public long getWriteErrors() { return writeErrors; }
+}
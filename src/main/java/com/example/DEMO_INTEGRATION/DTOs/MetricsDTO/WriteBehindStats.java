@@ -0,0 +1,72 @@
+package com.example.DEMO_INTEGRATION.DTOs.MetricsDTO;
+
+/**
+ * Counters of one write-behind buffer: updates taken, folded into a pending update for the same id or
+ * rejected, and what the flusher has written, retried or given up on.
+ */
+public class WriteBehindStats {
+    private final String name;
+    private final boolean enabled;
+    private final boolean running;
+    private final String ackMode;
+    private final int flushSize;
+    private final long flushIntervalMs;
+    private final int capacity;
+    private final int pending;
+    private final long submitted;
+    private final long coalesced;
+    private final long rejected;
+    private final long flushes;
+    private final long rowsWritten;
+    private final long rowsMissing;
+    private final long failedFlushes;
+    private final long retried;
+    private final long dropped;
+    private final int lastFlushRows;
+    private final long lastFlushMs;
+
+    public WriteBehindStats(String name, boolean enabled, boolean running, String ackMode, int flushSize,
+                            long flushIntervalMs, int capacity, int pending, long submitted, long coalesced,
+                            long rejected, long flushes, long rowsWritten, long rowsMissing, long failedFlushes,
+                            long retried, long dropped, int lastFlushRows, long lastFlushMs) {
+        this.name = name;
+        this.enabled = enabled;
+        this.running = running;
+        this.ackMode = ackMode;
+        this.flushSize = flushSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.capacity = capacity;
+        this.pending = pending;
+        this.submitted = submitted;
+        this.coalesced = coalesced;
+        this.rejected = rejected;
+        this.flushes = flushes;
+        this.rowsWritten = rowsWritten;
+        this.rowsMissing = rowsMissing;
+        this.failedFlushes = failedFlushes;
+        this.retried = retried;
+        this.dropped = dropped;
+        this.lastFlushRows = lastFlushRows;
+        this.lastFlushMs = lastFlushMs;
+    }
+
+    public String getName() { return name; }
+    public boolean isEnabled() { return enabled; }
+    public boolean isRunning() { return running; }
+    public String getAckMode() { return ackMode; }
+    public int getFlushSize() { return flushSize; }
+    public long getFlushIntervalMs() { return flushIntervalMs; }
+    public int getCapacity() { return capacity; }
+    public int getPending() { return pending; }
+    public long getSubmitted() { return submitted; }
+    public long getCoalesced() { return coalesced; }
+    public long getRejected() { return rejected; }
+    public long getFlushes() { return flushes; }
+    public long getRowsWritten() { return rowsWritten; }
+    public long getRowsMissing() { return rowsMissing; }
+    public long getFailedFlushes() { return failedFlushes; }
+    public long getRetried() { return retried; }
+    public long getDropped() { return dropped; }
+    public int getLastFlushRows() { return lastFlushRows; }
+    public long getLastFlushMs() { return lastFlushMs; }
+}
@@ -0,0 +1,43 @@
+package com.example.DEMO_INTEGRATION.DTOs.PaginationDTO;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated result.
+ * The next page is requested by passing {@link #getNextPageToken()} back unchanged; it is null on the last page.
+ *
+ * @param <T> the element type
+ */
+public class KeysetPage<T> {
+    private final List<T> content;
+    private final String sortBy;
+    private final int size;
+    private final String nextPageToken;
+
+    public KeysetPage(List<T> content, String sortBy, String nextPageToken) {
+        this.content = content;
+        this.sortBy = sortBy;
+        this.size = content.size();
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public boolean isHasMore() {
+        return nextPageToken != null;
+    }
+}
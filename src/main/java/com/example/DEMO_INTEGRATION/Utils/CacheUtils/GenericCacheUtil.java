@@ -1,81 +1,247 @@
-//package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
-//
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.stereotype.Component;
-//
-//import java.lang.reflect.Field;
-//import java.time.Instant;
-//import java.util.Map;
-//import java.util.concurrent.ConcurrentHashMap;
-//
-//@Slf4j
-//@Component
-//public class GenericCacheUtil {
-//
-//    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
-//
-//    private static class CacheEntry {
-//        Object value;
-//        long expiryMillis;
-//
-//        CacheEntry(Object value, long expiryMillis) {
-//            this.value = value;
-//            this.expiryMillis = expiryMillis;
-//        }
-//
-//        boolean isExpired() {
-//            return Instant.now().toEpochMilli() > expiryMillis;
-//        }
-//    }
-//
-//    /**
-//     * Generic cache setter
-//     * @param key - unique cache key
-//     * @param value - object to cache
-//     * @param ttlSeconds - time to live in seconds
-//     */
-//    public <T> void setCache(String key, T value, long ttlSeconds) {
-//        long expiry = Instant.now().toEpochMilli() + ttlSeconds * 1000;
-//        cache.put(key, new CacheEntry(value, expiry));
-//        log.info("Cache set for key={} with TTL={}s", key, ttlSeconds);
-//    }
-//
-//    /**
-//     * Get the full cached object
-//     * @param key - cache key
-//     * @param clazz - expected class
-//     * @return object or null if expired/missing
-//     */
-//    public <T> T getCache(String key, Class<T> clazz) {
-//        CacheEntry entry = cache.get(key);
-//        if (entry == null || entry.isExpired()) {
-//            cache.remove(key);
-//            log.warn("Cache expired/missing for key={}", key);
-//            return null;
-//        }
-//        return clazz.cast(entry.value);
-//    }
-//
-//    /**
-//     * Extract a field value from cached object
-//     * @param key - cache key
-//     * @param fieldName - field name to extract
-//     * @return value or null
-//     */
-//    public Object getFieldFromCache(String key, String fieldName) {
-//        CacheEntry entry = cache.get(key);
-//        if (entry == null || entry.isExpired()) {
-//            cache.remove(key);
-//            log.warn("Cache expired/missing for key={}", key);
-//            return null;
-//        }
-//        try {
-//            Field field = entry.value.getClass().getDeclaredField(fieldName);
-//            field.setAccessible(true);
-//            return field.get(entry.value);
-//        } catch (Exception e) {
-//            log.error("Failed to get field={} from cache key={}: {}", fieldName, key, e.getMessage());
-//            return null;
-//        }
-//    }
-//}
+package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.CacheStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Size-bounded in-memory cache with least-recently-used eviction and a time-to-live per entry.
+ * Keys are spread over independently locked segments, each an access-ordered {@link LinkedHashMap},
+ * so concurrent lookups of different keys rarely contend; eviction is LRU within a segment.
+ * Expired entries are dropped when read and are evicted ahead of live ones when a segment is full.
+ *
+ * <p>Read-through loads ({@link #get(Object, Function)}) run outside the lock. A load that overlaps an
+ * {@link #invalidate(Object)} of its segment is returned to the caller but not cached, so a value read
+ * before a write commits cannot overwrite the invalidation that follows the commit.
+ *
+ * @param <K> the key type
+ * @param <V> the value type; {@code null} values are never cached
+ */
+public class GenericCacheUtil<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int EXPIRED_SCAN_LIMIT = 8; // Least recently used entries checked for expiry before evicting
+
+    private final String name;
+    private final int maxSize;
+    private final long defaultTtlNanos;
+    private final List<Segment<K, V>> segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param name       the cache name reported in statistics
+     * @param maxSize    the maximum number of entries held
+     * @param defaultTtl the time-to-live applied when none is given on {@link #put(Object, Object, Duration)}
+     */
+    public GenericCacheUtil(String name, int maxSize, Duration defaultTtl) {
+        if (maxSize <= 0) throw new IllegalArgumentException("Cache size must be greater than 0");
+        if (defaultTtl == null || defaultTtl.isNegative() || defaultTtl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.defaultTtlNanos = defaultTtl.toNanos();
+        int segmentCount = Math.min(SEGMENT_COUNT, maxSize);
+        int perSegment = (maxSize + segmentCount - 1) / segmentCount;
+        List<Segment<K, V>> segmentList = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segmentList.add(new Segment<>(perSegment));
+        }
+        this.segments = List.copyOf(segmentList);
+    }
+
+    /**
+     * Returns the cached value, or {@code null} if the key is absent or its entry has expired.
+     */
+    public V get(K key) {
+        Objects.requireNonNull(key, "Cache key cannot be null");
+        Segment<K, V> segment = segmentFor(key);
+        long now = System.nanoTime();
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.map.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                segment.map.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached value, loading and caching it on a miss. The loader runs without holding any lock;
+     * concurrent misses for the same key may each call it. A {@code null} result is returned but not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Segment<K, V> segment = segmentFor(key);
+        long generation = segment.generation;
+        V loaded = loader.apply(key);
+        loads.increment();
+        if (loaded != null) {
+            store(segment, key, loaded, defaultTtlNanos, generation);
+        }
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Caches a value with its own time-to-live; {@code null} ttl uses the cache default.
+     */
+    public void put(K key, V value, Duration ttl) {
+        Objects.requireNonNull(key, "Cache key cannot be null");
+        Objects.requireNonNull(value, "Cache value cannot be null");
+        store(segmentFor(key), key, value, ttl == null ? defaultTtlNanos : ttl.toNanos(), -1);
+    }
+
+    public void invalidate(K key) {
+        if (key == null) return;
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.generation++;
+            if (segment.map.remove(key) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll(Collection<? extends K> keys) {
+        if (keys == null) return;
+        for (K key : keys) {
+            invalidate(key);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.generation++;
+                invalidations.add(segment.map.size());
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CacheStats snapshot() {
+        return new CacheStats(name, size(), maxSize, hits.sum(), misses.sum(), loads.sum(),
+                evictions.sum(), expirations.sum(), invalidations.sum());
+    }
+
+    // expectedGeneration < 0 stores unconditionally
+    private void store(Segment<K, V> segment, K key, V value, long ttlNanos, long expectedGeneration) {
+        long now = System.nanoTime();
+        segment.lock.lock();
+        try {
+            if (expectedGeneration >= 0 && segment.generation != expectedGeneration) {
+                return;
+            }
+            segment.map.put(key, new Entry<>(value, now + ttlNanos));
+            if (segment.map.size() > segment.capacity) {
+                evictOne(segment, now);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // Prefers an expired entry near the LRU end; otherwise drops the least recently used one
+    private void evictOne(Segment<K, V> segment, long now) {
+        Iterator<Map.Entry<K, Entry<V>>> it = segment.map.entrySet().iterator();
+        for (int scanned = 0; scanned < EXPIRED_SCAN_LIMIT && it.hasNext(); scanned++) {
+            if (it.next().getValue().isExpired(now)) {
+                it.remove();
+                expirations.increment();
+                return;
+            }
+        }
+        it = segment.map.entrySet().iterator();
+        it.next();
+        it.remove();
+        evictions.increment();
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments.get(Math.floorMod(h, segments.size()));
+    }
+
+    private static final class Segment<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        final int capacity;
+        volatile long generation;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+
+        Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
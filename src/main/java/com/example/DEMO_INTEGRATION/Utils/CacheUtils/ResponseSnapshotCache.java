@@ -0,0 +1,141 @@
+package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
+
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the last serialized form of one list response, labelled with the data version it was read at.
+ * A request for the current version is answered from the stored bytes; otherwise the list is loaded and
+ * serialized once, and concurrent requests for the same version share that load.
+ * {@link #refresh()} rebuilds in the background, typically from a {@link VersionCounter} listener,
+ * so the first request after a write usually finds the new snapshot ready.
+ *
+ * @param <T> the response type, usually a list of entities
+ */
+public class ResponseSnapshotCache<T extends Collection<?>> {
+
+    private static final int GZIP_MIN_BYTES = 1024; // Smaller bodies are sent as is
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(ResponseSnapshotCache.class);
+    private final String name;
+    private final Supplier<String> versionTag;
+    private final Supplier<CompletableFuture<T>> loader;
+    private final ObjectWriter writer;
+    private final int maxBytes;
+
+    private final AtomicReference<SerializedSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private String inFlightTag;
+    private CompletableFuture<SerializedSnapshot> inFlight;
+
+    /**
+     * @param name       the cache name used in logs
+     * @param versionTag supplies the current data version; read before every load
+     * @param loader     loads the response, usually an {@code @Async} service call
+     * @param writer     serializes the response exactly as the HTTP message converter would
+     * @param maxBytes   bodies larger than this are served but not kept
+     */
+    public ResponseSnapshotCache(String name, Supplier<String> versionTag, Supplier<CompletableFuture<T>> loader,
+                                 ObjectWriter writer, int maxBytes) {
+        this.name = name;
+        this.versionTag = versionTag;
+        this.loader = loader;
+        this.writer = writer;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the snapshot for the given version tag, loading it if the stored one is older.
+     */
+    public CompletableFuture<SerializedSnapshot> get(String tag) {
+        SerializedSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.getTag().equals(tag)) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        synchronized (this) {
+            if (inFlight != null && tag.equals(inFlightTag)) {
+                return inFlight;
+            }
+            CompletableFuture<SerializedSnapshot> load = loader.get().thenApply(result -> store(tag, result));
+            inFlightTag = tag;
+            inFlight = load;
+            load.whenComplete((result, ex) -> clearInFlight(load));
+            return load;
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot for the current version in the background. Overlapping calls coalesce into one
+     * rebuild, followed by another if the version moved meanwhile. Never throws: a rebuild that cannot be
+     * scheduled is skipped and the next request loads on demand.
+     */
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        String tag = versionTag.get();
+        try {
+            get(tag).whenComplete((snapshot, ex) -> {
+                refreshing.set(false);
+                if (ex != null) {
+                    logger.log(LoggerUtil.LogLevel.WARN, "Snapshot rebuild failed", ex, null, Map.of("snapshot", name));
+                } else if (!versionTag.get().equals(tag)) {
+                    refresh();
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            logger.log(LoggerUtil.LogLevel.WARN, "Snapshot rebuild could not be scheduled", e, null, Map.of("snapshot", name));
+        }
+    }
+
+    public void clear() {
+        current.set(null);
+    }
+
+    private SerializedSnapshot store(String tag, T result) {
+        byte[] json;
+        byte[] gzip;
+        try {
+            json = writer.writeValueAsBytes(result);
+            gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize snapshot " + name, e);
+        }
+        SerializedSnapshot snapshot = new SerializedSnapshot(tag, json, gzip, result.size());
+        // Keep it only if no write committed while loading; otherwise the next version replaces it anyway
+        if (json.length <= maxBytes && tag.equals(versionTag.get())) {
+            current.set(snapshot);
+            logger.log(LoggerUtil.LogLevel.DEBUG, "Snapshot rebuilt", null,
+                    Map.of("snapshot", name, "tag", tag, "bytes", String.valueOf(json.length),
+                            "gzipBytes", String.valueOf(gzip == null ? 0 : gzip.length)));
+        }
+        return snapshot;
+    }
+
+    private synchronized void clearInFlight(CompletableFuture<SerializedSnapshot> load) {
+        if (inFlight == load) {
+            inFlight = null;
+            inFlightTag = null;
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
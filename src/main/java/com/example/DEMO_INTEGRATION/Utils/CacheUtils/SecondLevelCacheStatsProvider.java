@@ -0,0 +1,63 @@
+package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.RegionCacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads per-region hit/miss/put counters from Hibernate statistics (hibernate.generate_statistics) and
+ * the current entry count from the Caffeine cache behind each region.
+ */
+@Component
+public class SecondLevelCacheStatsProvider {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager hibernateCacheManager;
+
+    public SecondLevelCacheStatsProvider(EntityManagerFactory entityManagerFactory, CacheManager hibernateCacheManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.hibernateCacheManager = hibernateCacheManager;
+    }
+
+    public List<RegionCacheStats> snapshot() {
+        List<RegionCacheStats> stats = new ArrayList<>();
+        for (String region : hibernateCacheManager.getCacheNames()) {
+            CacheRegionStatistics regionStatistics = regionStatistics(region);
+            stats.add(new RegionCacheStats(
+                    region,
+                    estimatedSize(region),
+                    regionStatistics == null ? 0 : regionStatistics.getHitCount(),
+                    regionStatistics == null ? 0 : regionStatistics.getMissCount(),
+                    regionStatistics == null ? 0 : regionStatistics.getPutCount()));
+        }
+        return stats;
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return null;
+        }
+        try {
+            return statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return null; // Region declared but not (yet) used by Hibernate
+        }
+    }
+
+    private long estimatedSize(String region) {
+        Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+        if (cache == null) {
+            return 0;
+        }
+        return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    }
+}
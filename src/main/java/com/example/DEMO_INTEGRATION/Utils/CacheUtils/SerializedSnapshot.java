@@ -0,0 +1,27 @@
+package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
+
+/**
+ * A response body serialized once for a data version: the JSON bytes and, when worth it, a gzip copy.
+ */
+public class SerializedSnapshot {
+    private final String tag;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final int itemCount;
+
+    public SerializedSnapshot(String tag, byte[] json, byte[] gzip, int itemCount) {
+        this.tag = tag;
+        this.json = json;
+        this.gzip = gzip;
+        this.itemCount = itemCount;
+    }
+
+    public String getTag() { return tag; }
+    public byte[] getJson() { return json; }
+    public int getItemCount() { return itemCount; }
+
+    /**
+     * @return the gzip-compressed body, or null when the body was too small to compress
+     */
+    public byte[] getGzip() { return gzip; }
+}
@@ -0,0 +1,55 @@
+package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of a data set, bumped once per committed write, so readers can tell from memory
+ * whether anything changed since a given version. Tags carry a random per-process id: a tag issued by
+ * another instance or an earlier run never matches. Only writes made through this process are counted.
+ */
+public class VersionCounter {
+
+    private final String name;
+    private final String instanceId;
+    private final AtomicLong version = new AtomicLong();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public VersionCounter(String name) {
+        this.name = name;
+        this.instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Bumps the version and notifies listeners on the calling thread. Writers call this after commit,
+     * so listeners must be quick and must not throw.
+     */
+    public long increment() {
+        long next = version.incrementAndGet();
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+        return next;
+    }
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return an opaque tag for the current version, unquoted, suitable as an HTTP entity tag value
+     */
+    public String tag() {
+        return name + "-" + instanceId + "-" + version.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.DEMO_INTEGRATION.Utils.ErrorResponse;
 
 import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -16,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Generic Error Response Utility for standardized error handling in Spring Boot applications.
@@ -127,6 +130,7 @@ public class ErrorResponseUtil {
         String message;
         List<ErrorDetail> errors = new ArrayList<>();
         Map<String, String> context = Map.of("exception", ex.getClass().getSimpleName());
+        IllegalArgumentException invalidArgument = findInvalidArgument(ex);
 
         if (ex instanceof MethodArgumentNotValidException validationEx) {
             // Handles @Valid annotation failures
@@ -176,11 +180,17 @@ public class ErrorResponseUtil {
             code = "RESPONSE_STATUS_ERROR";
             message = statusEx.getReason() != null ? statusEx.getReason() : "Error occurred";
             errors.add(new ErrorDetail(code, message, null));
-        } else if (ex instanceof IllegalArgumentException illegalArgEx) {
-            // Handles invalid arguments
+        } else if (invalidArgument != null) {
+            // Handles invalid arguments, also when a @Repository proxy translated them for the service to wrap
             status = HttpStatus.BAD_REQUEST;
             code = "INVALID_INPUT";
-            message = illegalArgEx.getMessage();
+            message = invalidArgument.getMessage();
+            errors.add(new ErrorDetail(code, message, null));
+        } else if (ex instanceof RejectedExecutionException) {
+            // Handles saturated executors (TaskRejectedException): shed load instead of queueing more work
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+            code = "SERVER_BUSY";
+            message = "Server is at capacity, please retry later";
             errors.add(new ErrorDetail(code, message, null));
         } else if (ex instanceof NullPointerException) {
             // Handles null pointer exceptions
@@ -205,8 +215,33 @@ public class ErrorResponseUtil {
         // Log the error with context
         logger.log(LoggerUtil.LogLevel.ERROR, message, ex, null, context);
 
+        if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(status, errors));
+        }
         return createErrorResponse(status, errors);
     }
 
+    /**
+     * Finds the client error behind an exception. Spring's persistence exception translation turns an
+     * IllegalArgumentException thrown by a repository into an InvalidDataAccessApiUsageException, which a
+     * service may wrap again, so the whole cause chain is searched.
+     * @param ex Exception to inspect.
+     * @return The IllegalArgumentException, or null if the exception is not caused by invalid input.
+     */
+    private static IllegalArgumentException findInvalidArgument(Throwable ex) {
+        if (ex instanceof IllegalArgumentException illegalArgEx) {
+            return illegalArgEx;
+        }
+        for (Throwable cause = ex; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof InvalidDataAccessApiUsageException
+                    && cause.getCause() instanceof IllegalArgumentException illegalArgEx) {
+                return illegalArgEx;
+            }
+        }
+        return null;
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.DEMO_INTEGRATION.Utils.Executor;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.ExecutorStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.Serial;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded ThreadPoolTaskExecutor that records queue depth, queue wait time and rejections.
+ * A full queue rejects immediately (TaskRejectedException) instead of blocking the caller,
+ * so overload is shed at submission time rather than piling up. Each task clears the fast-path log context
+ * when it ends.
+ */
+public final class InstrumentedTaskExecutor extends ThreadPoolTaskExecutor implements MonitoredExecutor {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param name          the pool name, used as thread name prefix and in metrics
+     * @param coreSize      threads kept alive
+     * @param maxSize       threads allowed once the queue is full
+     * @param queueCapacity tasks allowed to wait; further submissions are rejected
+     */
+    public InstrumentedTaskExecutor(String name, int coreSize, int maxSize, int queueCapacity) {
+        this.name = name;
+        setThreadNamePrefix(name + "-");
+        setCorePoolSize(coreSize);
+        setMaxPoolSize(maxSize);
+        setQueueCapacity(queueCapacity);
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationSeconds(30);
+    }
+
+    // The counting hooks are installed when the pool is created rather than in the constructor,
+    // so no reference to this instance escapes before it is fully constructed
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        setTaskDecorator(this::decorate);
+        return super.initializeExecutor(threadFactory, this::reject);
+    }
+
+    private Runnable decorate(Runnable task) {
+        submitted.increment();
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            long waited = System.nanoTime() - enqueuedAt;
+            started.increment();
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            try {
+                task.run();
+            } finally {
+                LoggerUtil.clearContext(); // The pooled thread must not carry this task's MDC into the next one
+            }
+        };
+    }
+
+    private void reject(Runnable task, ThreadPoolExecutor executor) {
+        rejected.increment();
+        new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, executor);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ExecutorStats snapshot() {
+        ThreadPoolExecutor pool = getThreadPoolExecutor();
+        long startedCount = started.sum();
+        return new ExecutorStats(
+                name,
+                pool.getActiveCount(),
+                pool.getPoolSize(),
+                getMaxPoolSize(),
+                pool.getQueue().size(),
+                getQueueCapacity(),
+                submitted.sum(),
+                rejected.sum(),
+                pool.getCompletedTaskCount(),
+                startedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum() / startedCount),
+                TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()));
+    }
+}
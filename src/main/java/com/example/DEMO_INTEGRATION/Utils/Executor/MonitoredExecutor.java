@@ -0,0 +1,15 @@
+package com.example.DEMO_INTEGRATION.Utils.Executor;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.ExecutorStats;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * An {@code @Async} executor that can report its load. Implemented by the bounded platform-thread pool
+ * and by the virtual-thread executor, so metrics and configuration do not depend on the threading mode.
+ */
+public interface MonitoredExecutor extends AsyncTaskExecutor {
+
+    String getName();
+
+    ExecutorStats snapshot();
+}
@@ -0,0 +1,141 @@
+package com.example.DEMO_INTEGRATION.Utils.Executor;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.PinningStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listens to the in-process JFR event {@code jdk.VirtualThreadPinned} while virtual threads are enabled.
+ * A pinned virtual thread holds its carrier while it blocks (typically inside {@code synchronized}), so
+ * pinning under load turns the carrier pool into the bottleneck. Each event is logged once with its stack
+ * and counted per application call site.
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.example.DEMO_INTEGRATION";
+    private static final int MAX_TRACKED_SITES = 200;
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(VirtualThreadPinningMonitor.class);
+    private final boolean virtualThreadsEnabled;
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder totalPinnedMillis = new LongAdder();
+    private final AtomicLong maxPinnedMillis = new AtomicLong();
+    private final Map<String, LongAdder> eventsBySite = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                                       @Value("${app.threads.pinning.monitor-enabled:true}") boolean enabled,
+                                       @Value("${app.threads.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @Override
+    public void start() {
+        if (!virtualThreadsEnabled || !enabled || stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            logger.log(LoggerUtil.LogLevel.INFO, "Virtual thread pinning monitor started", null, null,
+                    Map.of("thresholdMs", String.valueOf(threshold.toMillis())));
+        } catch (RuntimeException e) {
+            logger.log(LoggerUtil.LogLevel.WARN, "Virtual thread pinning monitor could not start", e, null, null);
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long millis = event.getDuration().toMillis();
+        pinnedEvents.increment();
+        totalPinnedMillis.add(millis);
+        maxPinnedMillis.accumulateAndGet(millis, Math::max);
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = applicationSite(frames);
+        if (eventsBySite.containsKey(site) || eventsBySite.size() < MAX_TRACKED_SITES) {
+            eventsBySite.computeIfAbsent(site, key -> new LongAdder()).increment();
+        }
+
+        logger.log(LoggerUtil.LogLevel.WARN, "Virtual thread pinned to its carrier", null, null,
+                Map.of("durationMs", String.valueOf(millis),
+                        "site", site,
+                        "thread", event.getThread() == null ? "unknown" : String.valueOf(event.getThread().getJavaName()),
+                        "stack", formatFrames(frames)));
+    }
+
+    private static String applicationSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() != null && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String formatFrames(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        int limit = Math.min(frames.size(), MAX_LOGGED_FRAMES);
+        for (int i = 0; i < limit; i++) {
+            if (i > 0) sb.append(" <- ");
+            sb.append(describe(frames.get(i)));
+        }
+        return sb.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "unknown";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    public PinningStats snapshot() {
+        Map<String, Long> sites = new LinkedHashMap<>();
+        eventsBySite.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(e -> sites.put(e.getKey(), e.getValue().sum()));
+        return new PinningStats(virtualThreadsEnabled, isRunning(), threshold.toMillis(), pinnedEvents.sum(),
+                totalPinnedMillis.sum(), maxPinnedMillis.get(), sites);
+    }
+}
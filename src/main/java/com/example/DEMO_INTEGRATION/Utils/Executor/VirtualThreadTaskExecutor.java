@@ -0,0 +1,93 @@
+package com.example.DEMO_INTEGRATION.Utils.Executor;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.ExecutorStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Starts one virtual thread per task. There is no queue: a semaphore caps the number of tasks in flight,
+ * and a task submitted above the cap is rejected immediately (HTTP 503), the same contract as the bounded pool.
+ */
+public class VirtualThreadTaskExecutor implements MonitoredExecutor {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalStartNanos = new LongAdder();
+    private final AtomicLong maxStartNanos = new AtomicLong();
+
+    /**
+     * @param name           the executor name, used as thread name prefix and in metrics
+     * @param maxConcurrency the maximum number of tasks running at once
+     */
+    public VirtualThreadTaskExecutor(String name, int maxConcurrency) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("Max concurrency must be greater than 0");
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadFactory = Thread.ofVirtual().name(name + "-vt-", 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submitted.increment();
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new TaskRejectedException("Executor [" + name + "] is at its limit of " + maxConcurrency + " concurrent tasks");
+        }
+        long submittedAt = System.nanoTime();
+        try {
+            threadFactory.newThread(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                started.increment();
+                totalStartNanos.add(waited);
+                maxStartNanos.accumulateAndGet(waited, Math::max);
+                try {
+                    task.run();
+                } finally {
+                    LoggerUtil.clearContext(); // Same task boundary as InstrumentedTaskExecutor
+                    completed.increment();
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ExecutorStats snapshot() {
+        int running = maxConcurrency - permits.availablePermits();
+        long startedCount = started.sum();
+        return new ExecutorStats(
+                name,
+                running,
+                running,
+                maxConcurrency,
+                0,
+                0,
+                submitted.sum(),
+                rejected.sum(),
+                completed.sum(),
+                startedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalStartNanos.sum() / startedCount),
+                TimeUnit.NANOSECONDS.toMicros(maxStartNanos.get()));
+    }
+}
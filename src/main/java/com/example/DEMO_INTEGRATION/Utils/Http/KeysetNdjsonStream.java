@@ -0,0 +1,266 @@
+package com.example.DEMO_INTEGRATION.Utils.Http;
+
+import com.example.DEMO_INTEGRATION.DTOs.PaginationDTO.KeysetPage;
+import com.example.DEMO_INTEGRATION.Utils.ErrorResponse.ErrorResponseUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Metrics.OperationMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams a keyset-paginated result as NDJSON over non-blocking servlet I/O, driven by the client's demand.
+ * A page is serialized and handed to the container only while the connection can take more bytes, and the next
+ * page is read only once the previous one has gone out, so a slow reader stops the reads instead of the server
+ * buffering for it. Between pages a stream holds neither a request thread nor a database connection: each page
+ * is one short read through the {@link PageSource}, and the container calls back when the socket drains.
+ * Memory per stream is bounded by two pages, the one being written and the one read ahead.
+ *
+ * <p>Pages are separate reads, so rows written while the stream runs may or may not be included; keyset order
+ * guarantees no row is sent twice. A failure before the first byte is answered with the usual error response;
+ * after that the stream just ends, as on the blocking endpoints.
+ *
+ * <p>All output happens in {@link #drain()}, which the container callbacks and page completions enter; a
+ * work-in-progress counter lets only one thread run it at a time, and the others just ask it to go round again.
+ *
+ * @param <T> the element type
+ */
+public final class KeysetNdjsonStream<T> implements WriteListener, AsyncListener {
+
+    /**
+     * Reads one page, without blocking the caller.
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        /**
+         * @param pageToken the token of the page to read, or null for the first page
+         */
+        CompletableFuture<KeysetPage<T>> fetch(String pageToken);
+    }
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(KeysetNdjsonStream.class);
+    private final String name;
+    private final AsyncContext asyncContext;
+    private final HttpServletResponse response;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectMapper objectMapper;
+    private final PageSource<T> source;
+    private final OperationMetrics metrics;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final long startNanos;
+
+    private ServletOutputStream out;
+    private volatile String nextToken;
+    private volatile KeysetPage<T> readyPage;
+    private volatile Throwable failure;
+    private volatile boolean fetching;
+    private volatile boolean exhausted;
+    private volatile boolean closing;
+    private volatile boolean finished;
+    private long rows;
+    private long pages;
+
+    /**
+     * @param name         used in logs
+     * @param asyncContext the started async context of the request
+     * @param ndjsonWriter writes one JSON document per element, separated by newlines
+     * @param objectMapper serializes the error body when the first page fails
+     * @param source       reads the pages
+     * @param firstToken   the token to start from, or null to start at the first page
+     * @param metrics      records one success per finished stream, with the rows sent
+     */
+    public KeysetNdjsonStream(String name, AsyncContext asyncContext, ObjectWriter ndjsonWriter, ObjectMapper objectMapper,
+                              PageSource<T> source, String firstToken, OperationMetrics metrics) {
+        this.name = name;
+        this.asyncContext = asyncContext;
+        this.response = (HttpServletResponse) asyncContext.getResponse();
+        this.ndjsonWriter = ndjsonWriter;
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.nextToken = firstToken;
+        this.metrics = metrics;
+        this.startNanos = metrics.start();
+    }
+
+    /**
+     * Switches the response to non-blocking output; the container then calls {@link #onWritePossible()} and
+     * the first page is requested from there.
+     */
+    public void start() throws IOException {
+        asyncContext.addListener(this);
+        out = response.getOutputStream();
+        out.setWriteListener(this);
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        // The client went away or the write failed; nothing more can be sent
+        finish(t);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        finish(new IOException("Stream timed out after " + asyncContext.getTimeout() + " ms"));
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        finish(event.getThrowable());
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            try {
+                emit();
+            } catch (Exception e) {
+                finish(e);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    // Writes while the container accepts bytes; returns when it must wait for the socket, a page or nothing
+    private void emit() throws IOException {
+        while (!finished) {
+            if (closing) {
+                if (out.isReady()) finish(failure);
+                return;
+            }
+            if (failure != null) {
+                closing = true;
+                if (!response.isCommitted() && out.isReady()) {
+                    writeErrorBody(failure);
+                }
+                continue;
+            }
+            KeysetPage<T> page = readyPage;
+            if (page == null) {
+                if (exhausted) {
+                    closing = true;
+                    continue;
+                }
+                requestPage(); // Completes into readyPage or failure and comes back through drain()
+                if (readyPage == null && failure == null) return;
+                continue;
+            }
+            if (!out.isReady()) {
+                return; // onWritePossible resumes once the client has read what is buffered
+            }
+            readyPage = null;
+            nextToken = page.getNextPageToken();
+            exhausted = nextToken == null;
+            requestPage(); // Read ahead while this page is on its way to the client
+            if (page.getSize() > 0) {
+                out.write(serialize(page));
+                rows += page.getSize();
+            }
+            pages++;
+        }
+    }
+
+    private void requestPage() {
+        if (fetching || exhausted || finished || failure != null || readyPage != null) {
+            return;
+        }
+        fetching = true;
+        CompletableFuture<KeysetPage<T>> future;
+        try {
+            future = source.fetch(nextToken);
+        } catch (RuntimeException e) {
+            fetching = false;
+            failure = e;
+            return;
+        }
+        future.whenComplete((page, error) -> {
+            if (error != null) {
+                failure = unwrap(error);
+            } else {
+                readyPage = page;
+            }
+            fetching = false;
+            drain();
+        });
+    }
+
+    private byte[] serialize(KeysetPage<T> page) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(256, page.getSize() * 64));
+        try (SequenceWriter writer = ndjsonWriter.writeValues(buffer)) {
+            for (T item : page.getContent()) {
+                writer.write(item);
+            }
+        }
+        buffer.write('\n'); // The sequence writer separates values; each page must also end its last line
+        return buffer.toByteArray();
+    }
+
+    private void writeErrorBody(Throwable error) throws IOException {
+        Exception exception = error instanceof Exception e ? e : new IllegalStateException(error);
+        ResponseEntity<?> errorResponse = ErrorResponseUtil.handleException(exception, logger);
+        response.setStatus(errorResponse.getStatusCode().value());
+        response.setContentType("application/json");
+        out.write(objectMapper.writeValueAsBytes(errorResponse.getBody()));
+    }
+
+    private void finish(Throwable error) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (error == null) {
+            long durationMs = metrics.recordSuccess(startNanos, rows);
+            logger.log(LoggerUtil.LogLevel.INFO, "Stream completed", null,
+                    Map.of("stream", name, "rows", String.valueOf(rows), "pages", String.valueOf(pages),
+                            "durationMs", String.valueOf(durationMs)));
+        } else {
+            metrics.recordFailure(startNanos);
+            logger.log(LoggerUtil.LogLevel.WARN, "Stream ended early", error, null,
+                    Map.of("stream", name, "rows", String.valueOf(rows), "pages", String.valueOf(pages)));
+        }
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // Already completed by the container after a timeout or a connection error
+        }
+    }
+
+    // ErrorResponseUtil maps what is left, including the repository proxy's translation of invalid arguments
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.DEMO_INTEGRATION.Utils.Logger;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+/**
+ * Immutable set of MDC entries for the fast {@link LoggerUtil} API. Build it once (typically a static final
+ * per operation) and pass the same instance on every call: LoggerUtil skips all MDC work while the
+ * instance it applied last on the thread is still in place.
+ * Per-call values belong in the message arguments, not here.
+ */
+public final class LogContext {
+
+    public static final LogContext EMPTY = new LogContext(new String[0], new String[0]);
+
+    private final String[] keys;
+    private final String[] values;
+
+    private LogContext(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    public static LogContext of(String key, String value) {
+        return new LogContext(new String[]{key}, new String[]{value});
+    }
+
+    public static LogContext of(String key1, String value1, String key2, String value2) {
+        return new LogContext(new String[]{key1, key2}, new String[]{value1, value2});
+    }
+
+    public static LogContext of(String key1, String value1, String key2, String value2, String key3, String value3) {
+        return new LogContext(new String[]{key1, key2, key3}, new String[]{value1, value2, value3});
+    }
+
+    public static LogContext from(Map<String, String> context) {
+        if (context == null || context.isEmpty()) {
+            return EMPTY;
+        }
+        String[] keys = new String[context.size()];
+        String[] values = new String[context.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : context.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return new LogContext(keys, values);
+    }
+
+    /**
+     * @return a copy with one more entry, or with the value replaced if the key is present
+     */
+    public LogContext with(String key, String value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                String[] newValues = values.clone();
+                newValues[i] = value;
+                return new LogContext(keys, newValues);
+            }
+        }
+        String[] newKeys = new String[keys.length + 1];
+        String[] newValues = new String[values.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, keys.length);
+        System.arraycopy(values, 0, newValues, 0, values.length);
+        newKeys[keys.length] = key;
+        newValues[values.length] = value;
+        return new LogContext(newKeys, newValues);
+    }
+
+    void putInMdc() {
+        for (int i = 0; i < keys.length; i++) {
+            MDC.put(keys[i], values[i]);
+        }
+    }
+
+    void removeFromMdc() {
+        for (String key : keys) {
+            MDC.remove(key);
+        }
+    }
+
+    // Identity check: anything else that rewrote or cleared these keys forces a re-apply
+    boolean isInMdc() {
+        for (int i = 0; i < keys.length; i++) {
+            if (MDC.get(keys[i]) != values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(keys[i]).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
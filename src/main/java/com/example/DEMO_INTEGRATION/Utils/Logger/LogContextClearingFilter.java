@@ -0,0 +1,37 @@
+package com.example.DEMO_INTEGRATION.Utils.Logger;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Clears the fast-path {@link LogContext} once the servlet container is done with a request, so the next
+ * request served by the same container thread starts with an empty MDC. Async dispatches are filtered too:
+ * they run on a container thread of their own.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LogContextClearingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LoggerUtil.clearContext();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
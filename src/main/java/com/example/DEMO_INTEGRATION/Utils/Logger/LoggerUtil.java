@@ -1,26 +1,34 @@
 package com.example.DEMO_INTEGRATION.Utils.Logger;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.IllegalFormatException;
 
 /**
  * Optimized Logger Utility class for standardized logging across the application.
  * Uses SLF4J with dynamic context, supports all standard log levels, and includes structured logging.
+ *
+ * <p>The {@code log(LogLevel, LogContext, String, ...)} overloads are the fast path for per-request logging:
+ * SLF4J {@code {}} placeholders formatted only if the event is written, {@link Supplier} arguments resolved
+ * only when the level is enabled, and a reusable {@link LogContext} that stays in the MDC between calls
+ * instead of being cleared and rebuilt each time. A disabled level costs one level check and no allocation.
+ * The context is dropped at the end of each request ({@link LogContextClearingFilter}) and each executor task,
+ * so a pooled thread never logs under the previous caller's context.
+ * The older {@code Map}-based overloads clear the MDC after every call.
  */
 
 public class LoggerUtil {
 
     private final Logger logger;
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private final String loggerName;
+    private static final ThreadLocal<LogContext> APPLIED_CONTEXT = new ThreadLocal<>();
 
     @FunctionalInterface
     interface LoggerWithThrowable {
@@ -46,6 +54,7 @@ public class LoggerUtil {
 
     private LoggerUtil(Class<?> clazz) {
         this.logger = LoggerFactory.getLogger(clazz);
+        this.loggerName = logger.getName();
     }
 
     public static LoggerUtil getLogger(Class<?> clazz) {
@@ -75,19 +84,127 @@ public class LoggerUtil {
         }
     }
 
+    public boolean isEnabled(LogLevel level) {
+        return isLogLevelEnabled(level);
+    }
+
+    public void log(LogLevel level, LogContext context, String pattern) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        emit(level, pattern);
+    }
+
+    public void log(LogLevel level, LogContext context, String pattern, Object arg) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        emit(level, pattern, arg);
+    }
+
+    public void log(LogLevel level, LogContext context, String pattern, Object arg1, Object arg2) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        emit(level, pattern, arg1, arg2);
+    }
+
+    public void log(LogLevel level, LogContext context, String pattern, Object... args) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        emit(level, pattern, args);
+    }
+
+    // Suppliers run only when the level is enabled: use them for arguments that are costly to compute
+    public void log(LogLevel level, LogContext context, String pattern, Supplier<?> arg) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        emit(level, pattern, arg.get());
+    }
+
+    public void log(LogLevel level, LogContext context, String pattern, Supplier<?> arg1, Supplier<?> arg2) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        emit(level, pattern, arg1.get(), arg2.get());
+    }
+
+    public void log(LogLevel level, LogContext context, Throwable throwable, String pattern, Object... args) {
+        if (!isLogLevelEnabled(level)) return;
+        applyContext(context);
+        if (args.length == 0) {
+            emit(level, pattern, (Object) throwable);
+            return;
+        }
+        Object[] withThrowable = new Object[args.length + 1];
+        System.arraycopy(args, 0, withThrowable, 0, args.length);
+        withThrowable[args.length] = throwable; // SLF4J treats a trailing Throwable as the exception
+        emit(level, pattern, withThrowable);
+    }
+
+    /**
+     * Removes the fast-path context from this thread's MDC. Called at request and task boundaries, before a
+     * pooled thread is reused.
+     */
+    public static void clearContext() {
+        LogContext applied = APPLIED_CONTEXT.get();
+        if (applied != null) {
+            applied.removeFromMdc();
+            APPLIED_CONTEXT.remove();
+        }
+    }
+
+    /**
+     * Queues a structured event for the asynchronous NDJSON pipeline and returns immediately; the caller's
+     * thread does no encoding or I/O. The context map is kept by reference until written, so pass an
+     * immutable map. The MDC is not used. Events are dropped (and counted) when the pipeline is saturated.
+     */
     public void logStructured(LogLevel level, String message, Map<String, String> context) {
         if (!isLogLevelEnabled(level)) return;
-        setContext(context);
-        try {
-            Map<String, Object> logEvent = new HashMap<>(context != null ? context : new HashMap<>());
-            logEvent.put("message", message);
-            logEvent.put("level", level.name());
-            logEvent.put("timestamp", LocalDateTime.now().toString());
-            logger.info(OBJECT_MAPPER.writeValueAsString(logEvent));
-        } catch (Exception e) {
-            logger.error("Failed to log structured message", e);
-        } finally {
-            MDC.clear();
+        StructuredLogPipeline.current().publish(level, loggerName, message, context);
+    }
+
+    private static void applyContext(LogContext context) {
+        LogContext applied = APPLIED_CONTEXT.get();
+        if (applied == context && (context == null || context.isInMdc())) return;
+        if (applied != null) applied.removeFromMdc();
+        if (context != null) context.putInMdc();
+        APPLIED_CONTEXT.set(context);
+    }
+
+    private void emit(LogLevel level, String pattern) {
+        switch (level) {
+            case ERROR -> logger.error(pattern);
+            case WARN -> logger.warn(pattern);
+            case INFO -> logger.info(pattern);
+            case DEBUG -> logger.debug(pattern);
+            case TRACE -> logger.trace(pattern);
+        }
+    }
+
+    private void emit(LogLevel level, String pattern, Object arg) {
+        switch (level) {
+            case ERROR -> logger.error(pattern, arg);
+            case WARN -> logger.warn(pattern, arg);
+            case INFO -> logger.info(pattern, arg);
+            case DEBUG -> logger.debug(pattern, arg);
+            case TRACE -> logger.trace(pattern, arg);
+        }
+    }
+
+    private void emit(LogLevel level, String pattern, Object arg1, Object arg2) {
+        switch (level) {
+            case ERROR -> logger.error(pattern, arg1, arg2);
+            case WARN -> logger.warn(pattern, arg1, arg2);
+            case INFO -> logger.info(pattern, arg1, arg2);
+            case DEBUG -> logger.debug(pattern, arg1, arg2);
+            case TRACE -> logger.trace(pattern, arg1, arg2);
+        }
+    }
+
+    private void emit(LogLevel level, String pattern, Object[] args) {
+        switch (level) {
+            case ERROR -> logger.error(pattern, args);
+            case WARN -> logger.warn(pattern, args);
+            case INFO -> logger.info(pattern, args);
+            case DEBUG -> logger.debug(pattern, args);
+            case TRACE -> logger.trace(pattern, args);
         }
     }
 
@@ -0,0 +1,379 @@
+package com.example.DEMO_INTEGRATION.Utils.Logger;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.StructuredLogStats;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous sink behind {@link LoggerUtil#logStructured}. Request threads only claim a slot in a bounded
+ * lock-free ring buffer and store references to the event fields; a single writer thread encodes each event
+ * as one NDJSON line with a streaming {@link JsonGenerator} into a reusable byte buffer and hands whole
+ * lines to the output in large writes.
+ *
+ * <p>When the buffer is full the {@link OverflowPolicy} decides: {@code DROP} discards the event and counts it,
+ * {@code BLOCK} makes the caller wait (up to a bounded time, then drop) so no event is lost under short bursts.
+ * Context maps are kept by reference until written, so callers must not modify them after the call.
+ */
+public final class StructuredLogPipeline implements AutoCloseable {
+
+    public enum OverflowPolicy { DROP, BLOCK }
+
+    private static final int MAX_DRAIN_BATCH = 1024;
+    private static final int FLUSH_THRESHOLD_BYTES = 32 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.")
+            .withZone(ZoneOffset.UTC);
+
+    private static volatile StructuredLogPipeline current;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final OverflowPolicy overflowPolicy;
+    private final long maxBlockNanos;
+    private final OutputStream output;
+    private final boolean closeOutput;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // writer thread only
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private volatile long written;
+    private volatile long bytesWritten;
+    private volatile long writeErrors;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // Writer-thread encoding state, reused for every event
+    private final LineBuffer buffer = new LineBuffer(FLUSH_THRESHOLD_BYTES * 2);
+    private final JsonGenerator generator;
+    private final char[] timestamp = new char[24];
+    private long timestampSecond = Long.MIN_VALUE;
+
+    /**
+     * @param capacity       ring buffer slots, rounded up to a power of two
+     * @param overflowPolicy what a caller does when the buffer is full
+     * @param maxBlock       the longest a caller waits under {@code BLOCK} before the event is dropped
+     * @param output         where NDJSON lines are written
+     * @param closeOutput    whether {@link #close()} closes the output (false for stdout)
+     */
+    public StructuredLogPipeline(int capacity, OverflowPolicy overflowPolicy, long maxBlock, TimeUnit unit,
+                                 OutputStream output, boolean closeOutput) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be greater than 0");
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = size - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.maxBlockNanos = unit.toNanos(maxBlock);
+        this.output = output;
+        this.closeOutput = closeOutput;
+        try {
+            this.generator = new JsonFactory().createGenerator(buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create JSON generator", e);
+        }
+        this.writer = new Thread(this::drainLoop, "structured-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * The pipeline {@link LoggerUtil#logStructured} publishes to. Until one is installed, a default
+     * (8192 slots, DROP, stdout) is created on first use.
+     */
+    public static StructuredLogPipeline current() {
+        StructuredLogPipeline pipeline = current;
+        if (pipeline == null) {
+            synchronized (StructuredLogPipeline.class) {
+                pipeline = current;
+                if (pipeline == null) {
+                    pipeline = new StructuredLogPipeline(8192, OverflowPolicy.DROP, 0, TimeUnit.MILLISECONDS,
+                            new FileOutputStream(FileDescriptor.out), false);
+                    current = pipeline;
+                    Runtime.getRuntime().addShutdownHook(new Thread(pipeline::close, "structured-log-shutdown"));
+                }
+            }
+        }
+        return pipeline;
+    }
+
+    /**
+     * Makes the given pipeline current. The previous one is drained and closed.
+     */
+    public static void install(StructuredLogPipeline pipeline) {
+        StructuredLogPipeline previous;
+        synchronized (StructuredLogPipeline.class) {
+            previous = current;
+            current = pipeline;
+        }
+        if (previous != null && previous != pipeline) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Queues one event. Never throws and never allocates on the caller's thread.
+     *
+     * @return false if the event was dropped
+     */
+    public boolean publish(LoggerUtil.LogLevel level, String loggerName, String message, Map<String, String> context) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        long timestampMillis = System.currentTimeMillis();
+        if (tryPublish(level, loggerName, message, context, timestampMillis)) {
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK && maxBlockNanos > 0) {
+            blocked.increment();
+            long deadline = System.nanoTime() + maxBlockNanos;
+            while (running && System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (tryPublish(level, loggerName, message, context, timestampMillis)) {
+                    return true;
+                }
+            }
+        }
+        dropped.increment();
+        return false;
+    }
+
+    // Bounded MPSC queue after Vyukov: a slot is free for position p when its sequence equals p
+    private boolean tryPublish(LoggerUtil.LogLevel level, String loggerName, String message,
+                               Map<String, String> context, long timestampMillis) {
+        long position = tail.get();
+        for (;;) {
+            Slot slot = slots[(int) (position & mask)];
+            long difference = slot.sequence.get() - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.level = level;
+                    slot.loggerName = loggerName;
+                    slot.threadName = Thread.currentThread().getName();
+                    slot.message = message;
+                    slot.context = context;
+                    slot.timestampMillis = timestampMillis;
+                    slot.sequence.set(position + 1);
+                    published.increment();
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        while (running || tail.get() != head) {
+            int drained = 0;
+            while (drained < MAX_DRAIN_BATCH && pollOne()) {
+                drained++;
+            }
+            if (drained == 0 || buffer.size() >= FLUSH_THRESHOLD_BYTES) {
+                flushBuffer();
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        flushBuffer();
+    }
+
+    private boolean pollOne() {
+        Slot slot = slots[(int) (head & mask)];
+        if (slot.sequence.get() != head + 1) {
+            return false;
+        }
+        try {
+            encode(slot);
+            written++;
+        } catch (IOException | RuntimeException e) {
+            writeErrors++;
+        } finally {
+            slot.clear();
+            slot.sequence.set(head + slots.length);
+            head++;
+        }
+        return true;
+    }
+
+    private void encode(Slot slot) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("timestamp");
+        generator.writeString(timestamp, 0, formatTimestamp(slot.timestampMillis));
+        generator.writeStringField("level", slot.level.name());
+        generator.writeStringField("logger", slot.loggerName);
+        generator.writeStringField("thread", slot.threadName);
+        generator.writeStringField("message", slot.message);
+        if (slot.context != null) {
+            for (Map.Entry<String, String> entry : slot.context.entrySet()) {
+                if (!isReservedField(entry.getKey())) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush(); // Moves the finished line from the generator into the line buffer
+    }
+
+    private static boolean isReservedField(String key) {
+        return switch (key) {
+            case "timestamp", "level", "logger", "thread", "message" -> true;
+            default -> false;
+        };
+    }
+
+    // ISO-8601 UTC with millis, e.g. 2024-01-31T12:00:00.123Z; the part up to the second is reused
+    private int formatTimestamp(long millis) {
+        long second = Math.floorDiv(millis, 1000);
+        if (second != timestampSecond) {
+            String prefix = SECOND_FORMAT.format(Instant.ofEpochSecond(second));
+            prefix.getChars(0, prefix.length(), timestamp, 0);
+            timestampSecond = second;
+        }
+        int fraction = Math.floorMod(millis, 1000);
+        timestamp[20] = (char) ('0' + fraction / 100);
+        timestamp[21] = (char) ('0' + (fraction / 10) % 10);
+        timestamp[22] = (char) ('0' + fraction % 10);
+        timestamp[23] = 'Z';
+        return 24;
+    }
+
+    // One write per batch of whole lines, so output never interleaves mid-line with other writers
+    private void flushBuffer() {
+        if (buffer.size() == 0) {
+            return;
+        }
+        try {
+            output.write(buffer.array(), 0, buffer.size());
+            output.flush();
+            bytesWritten += buffer.size();
+        } catch (IOException e) {
+            writeErrors++;
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * Stops accepting events and writes everything already queued.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            output.flush();
+            if (closeOutput) {
+                output.close();
+            }
+        } catch (IOException e) {
+            writeErrors++;
+        }
+    }
+
+    public StructuredLogStats snapshot() {
+        int depth = (int) Math.max(0, Math.min(slots.length, tail.get() - head));
+        return new StructuredLogStats(overflowPolicy.name(), slots.length, depth, published.sum(), dropped.sum(),
+                blocked.sum(), written, bytesWritten, writeErrors);
+    }
+
+    private static final class Slot {
+        final AtomicLong sequence;
+        LoggerUtil.LogLevel level;
+        String loggerName;
+        String threadName;
+        String message;
+        Map<String, String> context;
+        long timestampMillis;
+
+        Slot(long initialSequence) {
+            this.sequence = new AtomicLong(initialSequence);
+        }
+
+        void clear() {
+            level = null;
+            loggerName = null;
+            threadName = null;
+            message = null;
+            context = null;
+        }
+    }
+
+    // Growable byte buffer the generator writes into; reset, never reallocated once large enough
+    private static final class LineBuffer extends OutputStream {
+        private byte[] bytes;
+        private int size;
+
+        LineBuffer(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        @Override
+        public void flush() {
+            // Bytes stay here until the pipeline writes a whole batch
+        }
+
+        byte[] array() {
+            return bytes;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+        }
+    }
+}
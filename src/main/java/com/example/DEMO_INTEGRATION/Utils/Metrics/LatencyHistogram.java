@@ -0,0 +1,190 @@
+package com.example.DEMO_INTEGRATION.Utils.Metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram over a sliding window. Values (nanoseconds) fall into log-linear buckets:
+ * eight sub-buckets per power of two, so any reported quantile is within 12.5% of the recorded value.
+ * The window is split into slices that are reused round-robin; a slice is zeroed by the first recording
+ * that finds it stale. Counters are striped by thread so concurrent writers rarely share a cache line.
+ * A {@link #cumulative()} histogram has a single slice that is never reset.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40; // Values from 2^40 ns (~18 minutes) share the last bucket
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final int MAX_STRIPES = 4;
+
+    private final Slice[] slices;
+    private final long sliceNanos;
+    private final int stripeMask;
+    private final boolean windowed;
+    private final long createdNanos = System.nanoTime();
+
+    public LatencyHistogram(long window, TimeUnit unit, int sliceCount) {
+        this(checkedSliceNanos(window, unit, sliceCount), sliceCount, true);
+    }
+
+    private LatencyHistogram(long sliceNanos, int sliceCount, boolean windowed) {
+        this.sliceNanos = sliceNanos;
+        this.windowed = windowed;
+        int stripes = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES));
+        this.stripeMask = stripes - 1;
+        this.slices = new Slice[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = new Slice(stripes * BUCKETS);
+        }
+    }
+
+    /**
+     * @return a histogram of every value recorded since creation, e.g. for one load-test run
+     */
+    public static LatencyHistogram cumulative() {
+        return new LatencyHistogram(Long.MAX_VALUE, 1, false);
+    }
+
+    private static long checkedSliceNanos(long window, TimeUnit unit, int sliceCount) {
+        if (window <= 0 || sliceCount <= 0) {
+            throw new IllegalArgumentException("Window and slice count must be greater than 0");
+        }
+        return Math.max(1, unit.toNanos(window) / sliceCount);
+    }
+
+    /**
+     * Records one value.
+     *
+     * @param valueNanos the latency, negative values count as 0
+     * @param nowNanos   the current {@link System#nanoTime()}, usually the end timestamp of the operation
+     */
+    public void record(long valueNanos, long nowNanos) {
+        long value = Math.max(0, valueNanos);
+        Slice slice = slices[0];
+        if (windowed) {
+            long epoch = Math.floorDiv(nowNanos, sliceNanos);
+            slice = slices[(int) Math.floorMod(epoch, (long) slices.length)];
+            if (slice.epoch < epoch) {
+                slice.rotate(epoch);
+            }
+        }
+        int stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        slice.counts.getAndIncrement(stripe * BUCKETS + bucketIndex(value));
+        long max = slice.max.get();
+        while (value > max && !slice.max.compareAndSet(max, value)) {
+            max = slice.max.get();
+        }
+    }
+
+    /**
+     * Merges the slices that still belong to the window ending at {@code nowNanos}.
+     */
+    public Snapshot snapshot(long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, sliceNanos);
+        long[] merged = new long[BUCKETS];
+        long total = 0;
+        long max = 0;
+        for (Slice slice : slices) {
+            if (windowed && (slice.epoch <= epoch - slices.length || slice.epoch > epoch)) {
+                continue;
+            }
+            for (int i = 0; i < slice.counts.length(); i++) {
+                long count = slice.counts.get(i);
+                merged[i % BUCKETS] += count;
+                total += count;
+            }
+            max = Math.max(max, slice.max.get());
+        }
+        // The current slice is only partly elapsed, and a young histogram has not filled its window yet
+        long windowNanos = windowed
+                ? Math.min((slices.length - 1) * sliceNanos + (nowNanos - epoch * sliceNanos), nowNanos - createdNanos)
+                : nowNanos - createdNanos;
+        return new Snapshot(merged, total, max, windowNanos);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // Highest value that maps to the bucket
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static final class Slice {
+        private final AtomicLongArray counts;
+        private final AtomicLong max = new AtomicLong();
+        private volatile long epoch = Long.MIN_VALUE;
+
+        private Slice(int length) {
+            this.counts = new AtomicLongArray(length);
+        }
+
+        // Rare (once per slice period); recordings racing with the reset may be lost, which a metric tolerates
+        private synchronized void rotate(long newEpoch) {
+            if (epoch >= newEpoch) {
+                return;
+            }
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+            max.set(0);
+            epoch = newEpoch;
+        }
+    }
+
+    /**
+     * Immutable merge of the window's buckets.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long max;
+        private final long windowNanos;
+
+        private Snapshot(long[] counts, long count, long max, long windowNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.max = max;
+            this.windowNanos = windowNanos;
+        }
+
+        /**
+         * @param quantile between 0 and 1
+         * @return the upper bound of the bucket holding the quantile, capped at the window maximum; 0 when empty
+         */
+        public long valueAtQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        public long getCount() { return count; }
+        public long getMax() { return max; }
+        public long getWindowNanos() { return windowNanos; }
+    }
+}
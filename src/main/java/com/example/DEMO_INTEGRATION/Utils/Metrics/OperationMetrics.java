@@ -0,0 +1,136 @@
+package com.example.DEMO_INTEGRATION.Utils.Metrics;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.OperationStats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing, row and error counters of one operation of one component, measured with {@link System#nanoTime()}.
+ * Instances are registered process-wide, like loggers: look one up once with {@link #forOperation} and keep it
+ * in a field, then bracket each call with {@link #start()} and {@link #recordSuccess}/{@link #recordFailure}.
+ */
+public final class OperationMetrics {
+
+    private static final long WINDOW_SECONDS = 60;
+    private static final int WINDOW_SLICES = 6;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final ConcurrentMap<String, OperationMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String component;
+    private final String operation;
+    private final LatencyHistogram histogram = new LatencyHistogram(WINDOW_SECONDS, TimeUnit.SECONDS, WINDOW_SLICES);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    private OperationMetrics(String component, String operation) {
+        this.component = component;
+        this.operation = operation;
+    }
+
+    /**
+     * @return the shared metrics of {@code operation} in {@code component}, created on first use
+     */
+    public static OperationMetrics forOperation(String component, String operation) {
+        return REGISTRY.computeIfAbsent(component + '.' + operation, key -> new OperationMetrics(component, operation));
+    }
+
+    public static Collection<OperationMetrics> all() {
+        List<OperationMetrics> metrics = new ArrayList<>(REGISTRY.values());
+        metrics.sort((a, b) -> a.component.equals(b.component)
+                ? a.operation.compareTo(b.operation)
+                : a.component.compareTo(b.component));
+        return Collections.unmodifiableList(metrics);
+    }
+
+    public static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a completed call.
+     *
+     * @param rows rows returned or written by the call
+     * @return the elapsed milliseconds, for the caller's log line
+     */
+    public long recordSuccess(long startNanos, long rows) {
+        this.rows.add(rows);
+        return record(startNanos);
+    }
+
+    /**
+     * Records a call that ended with an exception; its latency still counts.
+     *
+     * @return the elapsed milliseconds, for the caller's log line
+     */
+    public long recordFailure(long startNanos) {
+        errors.increment();
+        return record(startNanos);
+    }
+
+    private long record(long startNanos) {
+        long now = System.nanoTime();
+        long elapsed = now - startNanos;
+        histogram.record(elapsed, now);
+        count.increment();
+        totalNanos.add(elapsed);
+        return TimeUnit.NANOSECONDS.toMillis(elapsed);
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public LatencyHistogram.Snapshot windowSnapshot() {
+        return histogram.snapshot(System.nanoTime());
+    }
+
+    public OperationStats snapshot() {
+        LatencyHistogram.Snapshot window = windowSnapshot();
+        long calls = getCount();
+        long failed = getErrors();
+        double windowSeconds = window.getWindowNanos() / 1_000_000_000.0;
+        return new OperationStats(component, operation, calls, failed,
+                calls == 0 ? 0 : (double) failed / calls,
+                getRows(),
+                calls == 0 ? 0 : getTotalNanos() / NANOS_PER_MILLI / calls,
+                window.getCount(),
+                windowSeconds > 0 ? window.getCount() / windowSeconds : 0,
+                window.valueAtQuantile(0.50) / NANOS_PER_MILLI,
+                window.valueAtQuantile(0.95) / NANOS_PER_MILLI,
+                window.valueAtQuantile(0.99) / NANOS_PER_MILLI,
+                window.getMax() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.DEMO_INTEGRATION.Utils.Metrics;
+
+import java.util.Collection;
+
+/**
+ * Renders {@link OperationMetrics} in the Prometheus text exposition format (version 0.0.4). Latency is a
+ * summary whose quantiles cover the sliding window while {@code _sum} and {@code _count} are lifetime totals.
+ */
+public final class PrometheusTextFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private PrometheusTextFormat() {
+    }
+
+    public static String format(Collection<OperationMetrics> operations) {
+        StringBuilder out = new StringBuilder(256 + operations.size() * 512);
+
+        header(out, "app_operation_duration_seconds", "summary",
+                "Operation latency; quantiles cover the last 60 seconds");
+        for (OperationMetrics metrics : operations) {
+            LatencyHistogram.Snapshot window = metrics.windowSnapshot();
+            for (double quantile : QUANTILES) {
+                sample(out, "app_operation_duration_seconds", metrics, String.valueOf(quantile),
+                        window.valueAtQuantile(quantile) / NANOS_PER_SECOND);
+            }
+            sample(out, "app_operation_duration_seconds_sum", metrics, null, metrics.getTotalNanos() / NANOS_PER_SECOND);
+            sample(out, "app_operation_duration_seconds_count", metrics, null, metrics.getCount());
+        }
+
+        header(out, "app_operation_errors_total", "counter", "Operations that ended with an exception");
+        for (OperationMetrics metrics : operations) {
+            sample(out, "app_operation_errors_total", metrics, null, metrics.getErrors());
+        }
+
+        header(out, "app_operation_rows_total", "counter", "Rows returned or written by completed operations");
+        for (OperationMetrics metrics : operations) {
+            sample(out, "app_operation_rows_total", metrics, null, metrics.getRows());
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, OperationMetrics metrics, String quantile, double value) {
+        out.append(name).append("{component=\"");
+        escape(out, metrics.getComponent());
+        out.append("\",operation=\"");
+        escape(out, metrics.getOperation());
+        out.append('"');
+        if (quantile != null) {
+            out.append(",quantile=\"").append(quantile).append('"');
+        }
+        out.append("} ");
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static void escape(StringBuilder out, String labelValue) {
+        for (int i = 0; i < labelValue.length(); i++) {
+            char c = labelValue.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.Utils.Executor.MonitoredExecutor;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Routes un-qualified {@code @Async} methods (the service layer) to the bounded service executor
+ * instead of Spring's default, and logs exceptions thrown by void async methods.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final LoggerUtil logger = LoggerUtil.getLogger(AsyncConfig.class);
+    private final MonitoredExecutor serviceExecutor;
+
+    public AsyncConfig(@Qualifier(ExecutorConfig.SERVICE_EXECUTOR) MonitoredExecutor serviceExecutor) {
+        this.serviceExecutor = serviceExecutor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return serviceExecutor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> logger.log(LoggerUtil.LogLevel.ERROR, "Uncaught exception in async method", ex, null,
+                Map.of("method", method.getDeclaringClass().getSimpleName() + "." + method.getName()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.DAL.Routing.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with the primary pool (still configured through spring.datasource.*) plus
+ * one pool per {@code app.datasource.replica.urls} entry, behind a routing data source that serves read-only
+ * transactions from the replicas. Without replica URLs every connection goes to the primary.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${app.datasource.replica.urls:}") List<String> replicaUrls,
+            @Value("${app.datasource.replica.username:}") String replicaUsername,
+            @Value("${app.datasource.replica.password:}") String replicaPassword,
+            @Value("${app.datasource.replica.pool-size:10}") int replicaPoolSize,
+            @Value("${app.datasource.replica.connection-timeout-ms:2000}") long connectionTimeoutMillis,
+            @Value("${app.datasource.replica.read-after-write-ms:1000}") long readAfterWriteMillis,
+            @Value("${app.datasource.replica.retry-after-ms:5000}") long retryAfterMillis) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) continue;
+            // Not started until first use, so a replica that is down at startup only costs a fallback
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername);
+            replica.setPassword(replicaPassword.isEmpty() ? properties.determinePassword() : replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(connectionTimeoutMillis);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas,
+                Duration.ofMillis(readAfterWriteMillis), Duration.ofMillis(retryAfterMillis));
+    }
+
+    // Connections are fetched on first statement, after the transaction's read-only flag is set. The defaults
+    // are the driver's, given explicitly so the proxy does not open a connection to find them out.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.Utils.Executor.InstrumentedTaskExecutor;
+import com.example.DEMO_INTEGRATION.Utils.Executor.MonitoredExecutor;
+import com.example.DEMO_INTEGRATION.Utils.Executor.VirtualThreadTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Executors behind {@code @Async}. Repository async methods use their own pool so slow queries
+ * cannot starve request-level work. Both pools are bounded and reject when full, which the
+ * controllers surface as HTTP 503.
+ * With {@code spring.threads.virtual.enabled=true} (which also moves Tomcat onto virtual threads) both
+ * executors start a virtual thread per task instead, capped by {@code app.async.virtual.max-concurrency};
+ * the v1 endpoints then block on the request's own virtual thread and only background work uses them.
+ * The ingestion executor always keeps a few platform threads: its thread count is the number of jobs writing
+ * at once, and its queue is where accepted jobs wait.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String SERVICE_EXECUTOR = "serviceExecutor";
+    public static final String REPOSITORY_EXECUTOR = "repositoryExecutor";
+    public static final String INGESTION_EXECUTOR = "ingestionExecutor";
+
+    private final boolean virtualThreads;
+    private final int virtualMaxConcurrency;
+
+    public ExecutorConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                          @Value("${app.async.virtual.max-concurrency:10000}") int virtualMaxConcurrency) {
+        this.virtualThreads = virtualThreads;
+        this.virtualMaxConcurrency = virtualMaxConcurrency;
+    }
+
+    @Bean(name = SERVICE_EXECUTOR)
+    public MonitoredExecutor serviceExecutor(
+            @Value("${app.async.service.core-size:8}") int coreSize,
+            @Value("${app.async.service.max-size:32}") int maxSize,
+            @Value("${app.async.service.queue-capacity:500}") int queueCapacity) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor(SERVICE_EXECUTOR, virtualMaxConcurrency);
+        }
+        return new InstrumentedTaskExecutor(SERVICE_EXECUTOR, coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = REPOSITORY_EXECUTOR)
+    public MonitoredExecutor repositoryExecutor(
+            @Value("${app.async.repository.core-size:4}") int coreSize,
+            @Value("${app.async.repository.max-size:16}") int maxSize,
+            @Value("${app.async.repository.queue-capacity:200}") int queueCapacity) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor(REPOSITORY_EXECUTOR, virtualMaxConcurrency);
+        }
+        return new InstrumentedTaskExecutor(REPOSITORY_EXECUTOR, coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = INGESTION_EXECUTOR)
+    public MonitoredExecutor ingestionExecutor(
+            @Value("${app.voters4.ingestion.workers:2}") int workers,
+            @Value("${app.voters4.ingestion.queue-capacity:50}") int queueCapacity) {
+        return new InstrumentedTaskExecutor(INGESTION_EXECUTOR, workers, workers, queueCapacity);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.BAL.Ingestion.IngestionJobQueue;
+import com.example.DEMO_INTEGRATION.BAL.Spill.VoterWriteSpill;
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import com.example.DEMO_INTEGRATION.Utils.Executor.MonitoredExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Job queue behind {@code /add-voters?async=true}: jobs run on the ingestion executor and are written
+ * through {@link IVoters4Repository#addVotersChunk}, one transaction per chunk. While the spill journal holds
+ * earlier writes, a chunk is journaled behind them instead.
+ */
+@Configuration
+public class IngestionConfig {
+
+    @Bean
+    public IngestionJobQueue<Voters4> voters4IngestionQueue(
+            IVoters4Repository voters4Repository,
+            VoterWriteSpill voterWriteSpill,
+            @Qualifier(ExecutorConfig.INGESTION_EXECUTOR) MonitoredExecutor ingestionExecutor,
+            @Value("${app.voters4.ingestion.chunk-size:1000}") int chunkSize,
+            @Value("${app.voters4.ingestion.max-queued-rows:1000000}") long maxQueuedRows,
+            @Value("${app.voters4.ingestion.retained-jobs:1000}") int retainedJobs) {
+        return new IngestionJobQueue<>("voters4", ingestionExecutor, chunkSize, maxQueuedRows, retainedJobs,
+                voters -> {
+                    if (voterWriteSpill.hasBacklog()) {
+                        voterWriteSpill.spillAdd(voters);
+                    } else {
+                        voters4Repository.addVotersChunk(voters);
+                    }
+                });
+    }
+}
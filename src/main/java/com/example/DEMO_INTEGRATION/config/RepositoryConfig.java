@@ -5,13 +5,18 @@ package com.example.DEMO_INTEGRATION.config;
 import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
 import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
 import com.example.DEMO_INTEGRATION.DAL.Repository.Voters4Repository;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.GenericCacheUtil;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.VersionCounter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
 
+import java.time.Duration;
+
 @Configuration
 public class RepositoryConfig {
 
@@ -23,11 +28,25 @@ public class RepositoryConfig {
         return JpaEntityInformationSupport.getEntityInformation(Voters4.class, entityManager);
     }
 
+    @Bean
+    public GenericCacheUtil<Integer, Voters4> voters4Cache(
+            @Value("${app.cache.voters4.max-size:10000}") int maxSize,
+            @Value("${app.cache.voters4.ttl-seconds:300}") long ttlSeconds) {
+        return new GenericCacheUtil<>("voters4", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public VersionCounter voters4Version() {
+        return new VersionCounter("voters4");
+    }
+
     @Bean
     public IVoters4Repository nrlmRepository(
-            JpaEntityInformation<Voters4, ?> entityInfo) {
+            JpaEntityInformation<Voters4, ?> entityInfo,
+            GenericCacheUtil<Integer, Voters4> voters4Cache,
+            VersionCounter voters4Version) {
 
-        return new Voters4Repository(entityInfo, entityManager);
+        return new Voters4Repository(entityInfo, entityManager, voters4Cache, voters4Version);
     }
 
 
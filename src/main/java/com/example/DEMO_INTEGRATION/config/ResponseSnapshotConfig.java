@@ -0,0 +1,31 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.BAL.Interfaces.IVoters4Service;
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.ResponseSnapshotCache;
+import com.example.DEMO_INTEGRATION.Utils.CacheUtils.VersionCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class ResponseSnapshotConfig {
+
+    @Bean
+    public ResponseSnapshotCache<List<Voters4>> allVotersSnapshot(
+            IVoters4Service voters4Service,
+            VersionCounter voters4Version,
+            ObjectMapper objectMapper,
+            @Value("${app.voters4.snapshot.max-bytes:67108864}") int maxBytes,
+            @Value("${app.voters4.snapshot.refresh-on-write:true}") boolean refreshOnWrite) {
+        ResponseSnapshotCache<List<Voters4>> snapshot = new ResponseSnapshotCache<>(
+                "voters4-all", voters4Version::tag, voters4Service::getAllVotersAsync, objectMapper.writer(), maxBytes);
+        if (refreshOnWrite) {
+            voters4Version.addListener(snapshot::refresh);
+        }
+        return snapshot;
+    }
+}
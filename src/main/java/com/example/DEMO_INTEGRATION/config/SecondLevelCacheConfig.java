@@ -0,0 +1,67 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regions of the Hibernate second-level and query cache, held in-process by Caffeine through JCache.
+ * Every region is created here with its own size and TTL; Hibernate is configured to fail on a region
+ * that is not declared, so a new cached entity must add its region below.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String VOTERS4_REGION = "voters4";
+    public static final String VOTERS4_QUERY_REGION = "voters4-queries";
+    public static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.l2.voters4.max-size:10000}") long voters4MaxSize,
+            @Value("${app.cache.l2.voters4.ttl-seconds:600}") long voters4TtlSeconds,
+            @Value("${app.cache.l2.voters4-queries.max-size:200}") long voters4QueriesMaxSize,
+            @Value("${app.cache.l2.voters4-queries.ttl-seconds:60}") long voters4QueriesTtlSeconds,
+            @Value("${app.cache.l2.default-queries.max-size:200}") long defaultQueriesMaxSize,
+            @Value("${app.cache.l2.default-queries.ttl-seconds:60}") long defaultQueriesTtlSeconds,
+            @Value("${app.cache.l2.update-timestamps.max-size:1000}") long timestampsMaxSize) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        createRegion(cacheManager, VOTERS4_REGION, voters4MaxSize, voters4TtlSeconds);
+        createRegion(cacheManager, VOTERS4_QUERY_REGION, voters4QueriesMaxSize, voters4QueriesTtlSeconds);
+        createRegion(cacheManager, DEFAULT_QUERY_REGION, defaultQueriesMaxSize, defaultQueriesTtlSeconds);
+        // Must not expire: a missing timestamp would let the query cache serve results older than the last write
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, timestampsMaxSize, 0);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // ttlSeconds <= 0 keeps entries until evicted by size
+    private static void createRegion(CacheManager cacheManager, String region, long maxSize, long ttlSeconds) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
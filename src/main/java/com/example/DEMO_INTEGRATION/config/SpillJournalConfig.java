@@ -0,0 +1,34 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.BAL.Spill.VoterWriteSpill;
+import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spill journal for voter inserts and single-voter updates. Created (and reported) even when disabled; the journal files
+ * are only opened when {@code app.voters4.spill.enabled} is true.
+ */
+@Configuration
+public class SpillJournalConfig {
+
+    @Bean
+    public VoterWriteSpill voterWriteSpill(
+            IVoters4Repository voters4Repository,
+            @Value("${app.voters4.spill.enabled:false}") boolean enabled,
+            @Value("${app.voters4.spill.directory:data/spill-journal}") String directory,
+            @Value("${app.voters4.spill.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${app.voters4.spill.max-segments:16}") int maxSegments,
+            @Value("${app.voters4.spill.replay-batch:500}") int replayBatch,
+            @Value("${app.voters4.spill.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        if (segmentSizeMb <= 0 || segmentSizeMb > 1024) {
+            throw new IllegalArgumentException("app.voters4.spill.segment-size-mb must be between 1 and 1024");
+        }
+        return new VoterWriteSpill(voters4Repository, enabled, Path.of(directory), segmentSizeMb * 1024 * 1024,
+                maxSegments, replayBatch, retryBackoffMillis, TimeUnit.MILLISECONDS);
+    }
+}
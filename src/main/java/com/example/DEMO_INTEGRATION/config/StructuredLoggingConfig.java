@@ -0,0 +1,49 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.Utils.Logger.StructuredLogPipeline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces the default structured-log pipeline with one sized from application.properties, writing NDJSON
+ * to stdout or, when {@code app.logging.structured.file} is set, appending to that file.
+ */
+@Configuration
+public class StructuredLoggingConfig {
+
+    @Bean(destroyMethod = "close")
+    public StructuredLogPipeline structuredLogPipeline(
+            @Value("${app.logging.structured.capacity:8192}") int capacity,
+            @Value("${app.logging.structured.overflow-policy:DROP}") StructuredLogPipeline.OverflowPolicy overflowPolicy,
+            @Value("${app.logging.structured.max-block-ms:5}") long maxBlockMillis,
+            @Value("${app.logging.structured.file:}") String file) {
+        boolean toFile = !file.isBlank();
+        StructuredLogPipeline pipeline = new StructuredLogPipeline(capacity, overflowPolicy, maxBlockMillis,
+                TimeUnit.MILLISECONDS, toFile ? openFile(file) : new FileOutputStream(FileDescriptor.out), toFile);
+        StructuredLogPipeline.install(pipeline);
+        return pipeline;
+    }
+
+    private static OutputStream openFile(String file) {
+        try {
+            Path path = Path.of(file);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            return Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open structured log file " + file, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.DEMO_INTEGRATION.config;
+
+import com.example.DEMO_INTEGRATION.BAL.Spill.VoterWriteSpill;
+import com.example.DEMO_INTEGRATION.BAL.WriteBehind.WriteBehindBuffer;
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind buffer for single-voter updates, flushed through the set-based
+ * {@link IVoters4Repository#updateVotersReturningIds} so each batch is one UPDATE per chunk in one transaction,
+ * and each caller learns whether its voter still existed. While the spill journal holds earlier writes, a batch
+ * is journaled behind them instead and every update in it is acknowledged.
+ * Created (and reported) even when disabled; it only starts when {@code app.voters4.write-behind.enabled} is true.
+ */
+@Configuration
+public class WriteBehindConfig {
+
+    @Bean
+    public WriteBehindBuffer<Voters4> voters4WriteBehindBuffer(
+            IVoters4Repository voters4Repository,
+            VoterWriteSpill voterWriteSpill,
+            @Value("${app.voters4.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.voters4.write-behind.ack-mode:FLUSH}") WriteBehindBuffer.AckMode ackMode,
+            @Value("${app.voters4.write-behind.flush-size:500}") int flushSize,
+            @Value("${app.voters4.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${app.voters4.write-behind.capacity:20000}") int capacity,
+            @Value("${app.voters4.write-behind.max-attempts:3}") int maxAttempts) {
+        return new WriteBehindBuffer<>("voters4", enabled, ackMode, flushSize, flushIntervalMillis,
+                TimeUnit.MILLISECONDS, capacity, maxAttempts, Voters4::getId,
+                voters -> updateOrSpill(voters4Repository, voterWriteSpill, voters));
+    }
+
+    private static Set<Integer> updateOrSpill(IVoters4Repository voters4Repository, VoterWriteSpill voterWriteSpill,
+                                              List<Voters4> voters) {
+        if (!voterWriteSpill.hasBacklog()) {
+            return voters4Repository.updateVotersReturningIds(voters);
+        }
+        Set<Integer> spilled = new HashSet<>();
+        for (Voters4 voter : voters) {
+            voterWriteSpill.spillUpdate(voter);
+            spilled.add(voter.getId());
+        }
+        return spilled;
+    }
+}
@@ -0,0 +1,5 @@
+-- Voters4 ids are allocated by Hibernate's pooled optimizer in blocks of 50 (Voters4.allocationSize).
+-- The backing identity sequence must step by the same amount, otherwise Hibernate refuses to start.
+-- Idempotent; runs on every startup. Fails harmlessly (continue-on-error) when the table does not exist yet or
+-- was created by Hibernate itself, in which case the sequence already has INCREMENT BY 50.
+ALTER TABLE public."Voters4" ALTER COLUMN "ID" SET INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- Idempotency keys of voter inserts replayed from the spill journal (VoterWriteSpill). Replay claims a record's
+-- key in the transaction that inserts its voters, so a record applied again after a crash before its checkpoint
+-- is skipped. Keys are deleted once their record is checkpointed; one left behind by a failed delete is never
+-- reused. Idempotent; runs on every startup.
+CREATE TABLE IF NOT EXISTS public."Voters4WriteKeys" (
+    "Key" uuid PRIMARY KEY,
+    "AppliedAt" timestamptz NOT NULL DEFAULT now()
+);
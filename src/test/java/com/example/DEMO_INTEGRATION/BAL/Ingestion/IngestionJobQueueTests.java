@@ -0,0 +1,139 @@
+package com.example.DEMO_INTEGRATION.BAL.Ingestion;
+
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionChunkError;
+import com.example.DEMO_INTEGRATION.DTOs.BulkDTO.IngestionJobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IngestionJobQueueTests {
+
+    // Jobs run when the test says so, on the test thread
+    private final Queue<Runnable> workers = new ArrayDeque<>();
+    private final List<List<Integer>> written = new ArrayList<>();
+
+    @Test
+    void writesEveryChunkAndCountsRows() {
+        IngestionJobQueue<Integer> queue = queue(4, 100, 10, written::add);
+
+        IngestionJobStatus submitted = queue.submit(rows(10));
+        assertThat(submitted.getState()).isEqualTo("QUEUED");
+        assertThat(submitted.getTotalChunks()).isEqualTo(3);
+        runAll();
+
+        IngestionJobStatus status = queue.status(submitted.getJobId()).orElseThrow();
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getCompletedChunks()).isEqualTo(3);
+        assertThat(status.getRowsWritten()).isEqualTo(10);
+        assertThat(status.getRowsFailed()).isZero();
+        assertThat(written).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9));
+    }
+
+    @Test
+    void recordsAFailedChunkAndGoesOnWithTheNextOne() {
+        IngestionJobQueue<Integer> queue = queue(4, 100, 10, chunk -> {
+            if (chunk.contains(5)) {
+                throw new DataIntegrityViolationException("Batch insert failed",
+                        new IllegalStateException("duplicate key value violates unique constraint"));
+            }
+            written.add(chunk);
+        });
+
+        String jobId = queue.submit(rows(10)).getJobId();
+        runAll();
+
+        IngestionJobStatus status = queue.status(jobId).orElseThrow();
+        assertThat(status.getState()).isEqualTo("COMPLETED_WITH_ERRORS");
+        assertThat(status.getCompletedChunks()).isEqualTo(2);
+        assertThat(status.getFailedChunks()).isEqualTo(1);
+        assertThat(status.getRowsWritten()).isEqualTo(6);
+        assertThat(status.getRowsFailed()).isEqualTo(4);
+        IngestionChunkError error = status.getErrors().get(0);
+        assertThat(error.getChunk()).isEqualTo(1);
+        assertThat(error.getFirstRow()).isEqualTo(4);
+        assertThat(error.getRowCount()).isEqualTo(4);
+        assertThat(error.getMessage()).isEqualTo("duplicate key value violates unique constraint");
+    }
+
+    @Test
+    void failsAJobWhoseChunksAllFail() {
+        IngestionJobQueue<Integer> queue = queue(4, 100, 10, chunk -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        String jobId = queue.submit(rows(6)).getJobId();
+        runAll();
+
+        IngestionJobStatus status = queue.status(jobId).orElseThrow();
+        assertThat(status.getState()).isEqualTo("FAILED");
+        assertThat(status.getRowsWritten()).isZero();
+        assertThat(status.getRowsFailed()).isEqualTo(6);
+    }
+
+    @Test
+    void releasesQueuedRowsOnceAJobHasRun() {
+        IngestionJobQueue<Integer> queue = queue(4, 10, 10, chunk -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        queue.submit(rows(6));
+        assertThatThrownBy(() -> queue.submit(rows(5))).isInstanceOf(RejectedExecutionException.class);
+        runAll();
+
+        assertThat(queue.submit(rows(10)).getState()).isEqualTo("QUEUED");
+    }
+
+    @Test
+    void rejectsJobsTheQueueCanNeverHoldAndReleasesRowsOfRejectedTasks() {
+        IngestionJobQueue<Integer> full = new IngestionJobQueue<>("test", task -> {
+            throw new RejectedExecutionException("no workers left");
+        }, 4, 10, 10, written::add);
+
+        assertThatThrownBy(() -> full.submit(rows(11))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> full.submit(List.of())).isInstanceOf(IllegalArgumentException.class);
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThatThrownBy(() -> full.submit(rows(10)))
+                    .isInstanceOf(RejectedExecutionException.class)
+                    .hasMessage("no workers left");
+        }
+    }
+
+    @Test
+    void retiresTheOldestFinishedJobs() {
+        IngestionJobQueue<Integer> queue = queue(4, 100, 1, written::add);
+
+        String first = queue.submit(rows(1)).getJobId();
+        runAll();
+        String second = queue.submit(rows(1)).getJobId();
+        runAll();
+
+        assertThat(queue.status(first)).isEmpty();
+        assertThat(queue.status(second)).isPresent();
+        assertThat(queue.status(null)).isEmpty();
+    }
+
+    private IngestionJobQueue<Integer> queue(int chunkSize, long maxQueuedRows, int retainedJobs,
+                                             Consumer<List<Integer>> chunkWriter) {
+        return new IngestionJobQueue<>("test", workers::add, chunkSize, maxQueuedRows, retainedJobs, chunkWriter);
+    }
+
+    private void runAll() {
+        for (Runnable job = workers.poll(); job != null; job = workers.poll()) {
+            job.run();
+        }
+    }
+
+    private static List<Integer> rows(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
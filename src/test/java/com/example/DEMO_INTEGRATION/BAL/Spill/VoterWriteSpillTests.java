@@ -0,0 +1,138 @@
+package com.example.DEMO_INTEGRATION.BAL.Spill;
+
+import com.example.DEMO_INTEGRATION.DAL.Entities.NRLM.Voters4;
+import com.example.DEMO_INTEGRATION.DAL.Interfaces.IVoters4Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoterWriteSpillTests {
+
+    @TempDir
+    Path directory;
+
+    private final IVoters4Repository repository = mock(IVoters4Repository.class);
+    private final List<VoterWriteSpill> spills = new ArrayList<>();
+
+    @AfterEach
+    void stop() {
+        spills.forEach(VoterWriteSpill::stop);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void retriesAnInsertWithTheSameKeyAndReleasesItOnceCheckpointed() {
+        when(repository.addVotersOnce(anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(2);
+        VoterWriteSpill spill = start();
+
+        spill.spillAdd(List.of(voter(null, "a"), voter(null, "b")));
+
+        ArgumentCaptor<Map<UUID, List<Voters4>>> applied = ArgumentCaptor.forClass(Map.class);
+        verify(repository, timeout(5000).times(2)).addVotersOnce(applied.capture());
+        Map<UUID, List<Voters4>> first = applied.getAllValues().get(0);
+        assertThat(applied.getAllValues().get(1)).isEqualTo(first);
+        assertThat(first.values()).containsExactly(List.of(voter(null, "a"), voter(null, "b")));
+
+        ArgumentCaptor<Collection<UUID>> released = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, timeout(5000)).releaseWriteKeys(released.capture());
+        assertThat(released.getValue()).containsExactlyElementsOf(first.keySet());
+        assertThat(spill.hasBacklog()).isFalse();
+        assertThat(spill.snapshot().getReplayRetries()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaysAnUncheckpointedInsertWithItsKeyAfterARestart() {
+        when(repository.addVotersOnce(anyMap())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+        VoterWriteSpill first = start();
+        first.spillAdd(List.of(voter(null, "a")));
+        ArgumentCaptor<Map<UUID, List<Voters4>>> beforeRestart = ArgumentCaptor.forClass(Map.class);
+        verify(repository, timeout(5000).atLeastOnce()).addVotersOnce(beforeRestart.capture());
+        first.stop();
+
+        IVoters4Repository recovered = mock(IVoters4Repository.class);
+        when(recovered.addVotersOnce(anyMap())).thenReturn(1);
+        start(recovered);
+
+        ArgumentCaptor<Map<UUID, List<Voters4>>> afterRestart = ArgumentCaptor.forClass(Map.class);
+        verify(recovered, timeout(5000)).addVotersOnce(afterRestart.capture());
+        assertThat(afterRestart.getValue().keySet()).isEqualTo(beforeRestart.getValue().keySet());
+    }
+
+    @Test
+    void coalescesSpilledUpdatesPerId() {
+        when(repository.updateVoters(anyList())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+        VoterWriteSpill first = start();
+        first.spillUpdate(voter(1, "first"));
+        first.spillUpdate(voter(2, "other"));
+        first.spillUpdate(voter(1, "last"));
+        first.stop();
+
+        IVoters4Repository recovered = mock(IVoters4Repository.class);
+        start(recovered);
+
+        verify(recovered, timeout(5000)).updateVoters(List.of(voter(2, "other"), voter(1, "last")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refusesWritesThatCannotBeJournaledWhileABacklogExists() {
+        when(repository.addVotersOnce(anyMap())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+        VoterWriteSpill spill = start();
+
+        spill.rejectWhileBacklogged("deleteVoters");
+        spill.spillAdd(List.of(voter(null, "a")));
+
+        assertThat(spill.hasBacklog()).isTrue();
+        assertThatThrownBy(() -> spill.rejectWhileBacklogged("deleteVoters"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("deleteVoters");
+    }
+
+    @Test
+    void rejectsInvalidVotersBeforeJournalingThem() {
+        VoterWriteSpill spill = start();
+
+        assertThatThrownBy(() -> spill.spillAdd(List.of(new Voters4(null, "a", null, true))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spill.spillUpdate(voter(null, "a"))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(spill.hasBacklog()).isFalse();
+    }
+
+    private VoterWriteSpill start() {
+        return start(repository);
+    }
+
+    private VoterWriteSpill start(IVoters4Repository voters4Repository) {
+        VoterWriteSpill spill = new VoterWriteSpill(voters4Repository, true, directory, 64 * 1024, 2, 100, 10, TimeUnit.MILLISECONDS);
+        spills.add(spill);
+        spill.start();
+        return spill;
+    }
+
+    private static Voters4 voter(Integer id, String name) {
+        return new Voters4(id, name, 30, true);
+    }
+}
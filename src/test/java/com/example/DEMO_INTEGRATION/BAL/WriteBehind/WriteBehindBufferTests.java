@@ -0,0 +1,176 @@
+package com.example.DEMO_INTEGRATION.BAL.WriteBehind;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.WriteBehindStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindBufferTests {
+
+    record Row(Integer id, String value) {
+    }
+
+    private final List<List<Row>> batches = new CopyOnWriteArrayList<>();
+    private WriteBehindBuffer<Row> buffer;
+
+    @AfterEach
+    void stop() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    void coalescesUpdatesPerIdAndKeepsTheLastOne() throws Exception {
+        buffer = start(WriteBehindBuffer.AckMode.FLUSH, 10, TimeUnit.HOURS.toMillis(1), 1, writeAll());
+
+        CompletableFuture<Boolean> first = buffer.submit(new Row(1, "a"));
+        CompletableFuture<Boolean> second = buffer.submit(new Row(2, "b"));
+        CompletableFuture<Boolean> last = buffer.submit(new Row(1, "c"));
+        buffer.stop();
+
+        assertThat(batches).containsExactly(List.of(new Row(1, "c"), new Row(2, "b")));
+        assertThat(List.of(first.get(), second.get(), last.get())).containsOnly(true);
+        WriteBehindStats stats = buffer.snapshot();
+        assertThat(stats.getSubmitted()).isEqualTo(3);
+        assertThat(stats.getCoalesced()).isEqualTo(1);
+        assertThat(stats.getRowsWritten()).isEqualTo(2);
+    }
+
+    @Test
+    void completesUpdatesOfMissingIdsWithFalse() throws Exception {
+        buffer = start(WriteBehindBuffer.AckMode.FLUSH, 10, TimeUnit.HOURS.toMillis(1), 1,
+                values -> values.stream().map(Row::id).filter(id -> id != 2).collect(HashSet::new, Set::add, Set::addAll));
+
+        CompletableFuture<Boolean> existing = buffer.submit(new Row(1, "a"));
+        CompletableFuture<Boolean> missing = buffer.submit(new Row(2, "b"));
+        buffer.stop();
+
+        assertThat(existing.get()).isTrue();
+        assertThat(missing.get()).isFalse();
+        assertThat(buffer.snapshot().getRowsWritten()).isEqualTo(1);
+        assertThat(buffer.snapshot().getRowsMissing()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesAFailedBatchOnTheNextFlush() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Function<List<Row>, Set<Integer>> writeAll = writeAll();
+        buffer = start(WriteBehindBuffer.AckMode.FLUSH, 1, 10, 3, values -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("connection reset");
+            }
+            return writeAll.apply(values);
+        });
+
+        CompletableFuture<Boolean> ack = buffer.submit(new Row(1, "a"));
+
+        assertThat(ack.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).hasValue(2);
+        assertThat(buffer.snapshot().getFailedFlushes()).isEqualTo(1);
+        assertThat(buffer.snapshot().getRetried()).isEqualTo(1);
+    }
+
+    @Test
+    void writesRowsAloneWhenTheBatchHasInvalidInput() throws Exception {
+        Function<List<Row>, Set<Integer>> writeAll = writeAll();
+        buffer = start(WriteBehindBuffer.AckMode.FLUSH, 2, TimeUnit.HOURS.toMillis(1), 3, values -> {
+            if (values.stream().anyMatch(row -> row.value() == null)) {
+                throw new IllegalArgumentException("value is required");
+            }
+            return writeAll.apply(values);
+        });
+
+        CompletableFuture<Boolean> valid = buffer.submit(new Row(1, "a"));
+        CompletableFuture<Boolean> invalid = buffer.submit(new Row(2, null));
+
+        assertThat(valid.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> invalid.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(buffer.snapshot().getRetried()).isZero();
+        assertThat(buffer.snapshot().getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void drainsPendingUpdatesOnStopAndThenRejects() {
+        buffer = start(WriteBehindBuffer.AckMode.BUFFER, 10, TimeUnit.HOURS.toMillis(1), 1, writeAll());
+
+        assertThat(buffer.submit(new Row(1, "a"))).isCompletedWithValue(true);
+        assertThat(batches).isEmpty();
+        buffer.stop();
+
+        assertThat(buffer.isRunning()).isFalse();
+        assertThat(batches).containsExactly(List.of(new Row(1, "a")));
+        assertThatThrownBy(() -> buffer.submit(new Row(2, "b"))).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void rejectsNewIdsWhenFullButTakesUpdatesToPendingOnes() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<Row>, Set<Integer>> writeAll = writeAll();
+        buffer = start(WriteBehindBuffer.AckMode.BUFFER, 1, TimeUnit.HOURS.toMillis(1), 1, values -> {
+            writing.countDown();
+            await(release);
+            return writeAll.apply(values);
+        }, 1);
+
+        buffer.submit(new Row(1, "a"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.submit(new Row(2, "b"));
+
+        assertThatThrownBy(() -> buffer.submit(new Row(3, "c"))).isInstanceOf(RejectedExecutionException.class);
+        assertThat(buffer.submit(new Row(2, "b2"))).isCompletedWithValue(true);
+        release.countDown();
+        buffer.stop();
+        assertThat(batches).containsExactly(List.of(new Row(1, "a")), List.of(new Row(2, "b2")));
+        assertThat(buffer.snapshot().getRejected()).isEqualTo(1);
+    }
+
+    private WriteBehindBuffer<Row> start(WriteBehindBuffer.AckMode ackMode, int flushSize, long flushIntervalMillis,
+                                         int maxAttempts, Function<List<Row>, Set<Integer>> writer) {
+        return start(ackMode, flushSize, flushIntervalMillis, maxAttempts, writer, 100);
+    }
+
+    private WriteBehindBuffer<Row> start(WriteBehindBuffer.AckMode ackMode, int flushSize, long flushIntervalMillis,
+                                         int maxAttempts, Function<List<Row>, Set<Integer>> writer, int capacity) {
+        WriteBehindBuffer<Row> started = new WriteBehindBuffer<>("test", true, ackMode, flushSize, flushIntervalMillis,
+                TimeUnit.MILLISECONDS, capacity, maxAttempts, Row::id, writer);
+        started.start();
+        return started;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Function<List<Row>, Set<Integer>> writeAll() {
+        return values -> {
+            batches.add(List.copyOf(values));
+            Set<Integer> ids = new HashSet<>();
+            for (Row row : values) {
+                ids.add(row.id());
+            }
+            return ids;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.DEMO_INTEGRATION.Controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same endpoint checks with {@code spring.threads.virtual.enabled=true}, where the blocking controller
+ * serves them instead of the future-returning one.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+class Voters4BlockingControllerIntegrationTests extends Voters4ControllerIntegrationTests {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void servesTheEndpointsFromTheBlockingController() {
+        assertThat(context.getBeansOfType(Voters4BlockingController.class)).hasSize(1);
+        assertThat(context.getBeansOfType(Voters4AsyncController.class)).isEmpty();
+    }
+}
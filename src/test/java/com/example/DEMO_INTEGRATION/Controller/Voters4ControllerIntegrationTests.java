@@ -0,0 +1,256 @@
+package com.example.DEMO_INTEGRATION.Controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application against an embedded PostgreSQL, so the SQL behind the endpoints (keyset seeks, the
+ * ON CONFLICT upsert, the version tag, COPY ingest ids) is checked by the database itself rather than by mocks.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class Voters4ControllerIntegrationTests {
+
+    private static final String VOTERS = "/api/v1/voters4";
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        // On an empty database update mode creates the table before its id sequence, as in Voters4WriteBenchmark
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    // Deleted through the API, so the voter, snapshot and second-level caches see the change
+    @BeforeEach
+    void deleteAllVoters() {
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT \"ID\" FROM public.\"Voters4\"", Integer.class);
+        if (!ids.isEmpty()) {
+            ResponseEntity<JsonNode> deleted = rest.exchange(VOTERS + "/delete-voters", HttpMethod.DELETE,
+                    new HttpEntity<>(ids), JsonNode.class);
+            assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+    }
+
+    @Test
+    void walksEveryVoterOnceThroughKeysetPages() {
+        upsert(List.of(voter(null, "Cara", 40), voter(null, "Abel", 25), voter(null, "Dana", 25),
+                voter(null, "Bert", 61), voter(null, "Eve", 18)));
+
+        List<String> names = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String pageToken = null;
+        do {
+            String url = VOTERS + "/get-voters-page?sortBy=age&size=2" + (pageToken != null ? "&pageToken=" + pageToken : "");
+            ResponseEntity<JsonNode> page = rest.getForEntity(url, JsonNode.class);
+            assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+            page.getBody().get("content").forEach(voter -> names.add(voter.get("name").asText()));
+            pageSizes.add(page.getBody().get("size").asInt());
+            pageToken = page.getBody().get("nextPageToken").isNull() ? null : page.getBody().get("nextPageToken").asText();
+        } while (pageToken != null);
+
+        // Ties on age are broken by id, which follows insertion order
+        assertThat(names).containsExactly("Eve", "Abel", "Dana", "Cara", "Bert");
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void rejectsAPageTokenIssuedForAnotherSortOrder() {
+        upsert(List.of(voter(null, "Abel", 25), voter(null, "Bert", 30)));
+        String token = rest.getForEntity(VOTERS + "/get-voters-page?sortBy=age&size=1", JsonNode.class)
+                .getBody().get("nextPageToken").asText();
+
+        ResponseEntity<JsonNode> page = rest.getForEntity(
+                VOTERS + "/get-voters-page?sortBy=name&size=1&pageToken=" + token, JsonNode.class);
+
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void rejectsASortAttributeWithoutAKeysetIndex() {
+        upsert(List.of(voter(null, "Abel", 25)));
+
+        ResponseEntity<JsonNode> page = rest.getForEntity(VOTERS + "/get-voters-page?sortBy=isAdult&size=1", JsonNode.class);
+
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void answersNotModifiedUntilAWriteChangesTheETag() {
+        upsert(List.of(voter(null, "Abel", 25)));
+        ResponseEntity<JsonNode> first = rest.getForEntity(VOTERS + "/get-all-voters", JsonNode.class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody()).hasSize(1);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotBlank();
+
+        ResponseEntity<JsonNode> unchanged = getAllVoters(etag);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(etag);
+
+        upsert(List.of(voter(null, "Bert", 30)));
+        ResponseEntity<JsonNode> changed = getAllVoters(etag);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(changed.getBody()).hasSize(2);
+    }
+
+    @Test
+    void upsertUpdatesChangedRowsOnlyAndInsertsVotersWithoutAnId() {
+        upsert(List.of(voter(null, "Abel", 25), voter(null, "Bert", 30)));
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT \"ID\" FROM public.\"Voters4\" ORDER BY \"ID\"", Integer.class);
+
+        JsonNode result = upsert(List.of(voter(ids.get(0), "Abel", 26), voter(ids.get(1), "Bert", 30), voter(null, "Cara", 40)));
+
+        assertThat(result.get("inserted").asInt()).isEqualTo(1);
+        assertThat(result.get("updated").asInt()).isEqualTo(1);
+        assertThat(result.get("unchanged").asInt()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT \"Age\" FROM public.\"Voters4\" WHERE \"ID\" = ?", Integer.class, ids.get(0)))
+                .isEqualTo(26);
+        assertThat(rest.getForEntity(VOTERS + "/get-voter/" + ids.get(0), JsonNode.class).getBody().get("age").asInt())
+                .isEqualTo(26);
+    }
+
+    @Test
+    void upsertRejectsAnIdThatDoesNotExistAndWritesNothing() {
+        upsert(List.of(voter(null, "Abel", 25)));
+        Integer id = jdbcTemplate.queryForObject("SELECT \"ID\" FROM public.\"Voters4\"", Integer.class);
+
+        ResponseEntity<JsonNode> rejected = rest.exchange(VOTERS + "/upsert-voters", HttpMethod.PUT,
+                new HttpEntity<>(List.of(voter(id, "Abel", 99), voter(id + 1_000_000, "Zed", 50))), JsonNode.class);
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(jdbcTemplate.queryForList("SELECT \"Name\" || ':' || \"Age\" FROM public.\"Voters4\"", String.class))
+                .containsExactly("Abel:25");
+    }
+
+    @Test
+    void upsertInsertsVotersWithoutAnIdFromOneSequenceValuePerBlock() {
+        int rows = 500;
+        List<Map<String, Object>> voters = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            voters.add(voter(null, "Voter " + i, 18 + i % 60));
+        }
+
+        assertThat(upsert(voters).get("inserted").asInt()).isEqualTo(rows);
+
+        Map<String, Object> span = jdbcTemplate.queryForMap(
+                "SELECT min(\"ID\") AS low, max(\"ID\") AS high FROM public.\"Voters4\"");
+        assertThat(((Number) span.get("high")).longValue() - ((Number) span.get("low")).longValue())
+                .isLessThan(rows + 50);
+    }
+
+    @Test
+    void upsertedAndJpaInsertedVotersDrawIdsFromTheSameSequence() {
+        upsert(List.of(voter(null, "Abel", 25), voter(null, "Bert", 30)));
+
+        ResponseEntity<JsonNode> added = rest.postForEntity(VOTERS + "/add-voters",
+                List.of(voter(null, "Cara", 40), voter(null, "Dana", 50)), JsonNode.class);
+        assertThat(added.getStatusCode()).isEqualTo(HttpStatus.OK);
+        upsert(List.of(voter(null, "Eve", 18)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(DISTINCT \"ID\") FROM public.\"Voters4\"", Integer.class))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void asyncAddVotersRejectsVotersCarryingAnIdAndQueuesNothing() {
+        upsert(List.of(voter(null, "Abel", 25)));
+        Integer id = jdbcTemplate.queryForObject("SELECT \"ID\" FROM public.\"Voters4\"", Integer.class);
+
+        ResponseEntity<JsonNode> rejected = rest.postForEntity(VOTERS + "/add-voters?async=true",
+                List.of(voter(null, "Bert", 30), voter(id, "Abel", 26)), JsonNode.class);
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(jdbcTemplate.queryForList("SELECT \"Name\" || ':' || \"Age\" FROM public.\"Voters4\"", String.class))
+                .containsExactly("Abel:25");
+    }
+
+    @Test
+    void bulkIngestUsesOneSequenceValuePerBlockOfIds() {
+        int rows = 25_000; // More than one COPY batch
+        StringBuilder csv = new StringBuilder("name,age,isAdult\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Voter ").append(i).append(',').append(18 + i % 60).append(",true\n");
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        ResponseEntity<JsonNode> ingested = rest.postForEntity(VOTERS + "/bulk-ingest?format=csv&header=true",
+                new HttpEntity<>(csv.toString(), headers), JsonNode.class);
+
+        assertThat(ingested.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ingested.getBody().get("loaded").asLong()).isEqualTo(rows);
+        Map<String, Object> span = jdbcTemplate.queryForMap(
+                "SELECT min(\"ID\") AS low, max(\"ID\") AS high FROM public.\"Voters4\"");
+        assertThat(((Number) span.get("high")).longValue() - ((Number) span.get("low")).longValue())
+                .isLessThan(rows + 50);
+
+        ResponseEntity<JsonNode> added = rest.postForEntity(VOTERS + "/add-voters", List.of(voter(null, "Abel", 25)), JsonNode.class);
+        assertThat(added.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(DISTINCT \"ID\") FROM public.\"Voters4\"", Integer.class))
+                .isEqualTo(rows + 1);
+    }
+
+    private JsonNode upsert(List<Map<String, Object>> voters) {
+        ResponseEntity<JsonNode> response = rest.exchange(VOTERS + "/upsert-voters", HttpMethod.PUT,
+                new HttpEntity<>(voters), JsonNode.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private ResponseEntity<JsonNode> getAllVoters(String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(ifNoneMatch);
+        return rest.exchange(VOTERS + "/get-all-voters", HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+    }
+
+    private static Map<String, Object> voter(Integer id, String name, int age) {
+        Map<String, Object> voter = new LinkedHashMap<>();
+        voter.put("id", id);
+        voter.put("name", name);
+        voter.put("age", age);
+        voter.put("isAdult", age >= 18);
+        return voter;
+    }
+
+    // Stopped by its own shutdown hook, after the cached application context has closed its pool
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
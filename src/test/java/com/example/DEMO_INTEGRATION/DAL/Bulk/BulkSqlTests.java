@@ -0,0 +1,94 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkSqlTests {
+
+    static final class Row {
+        Integer id;
+        String name;
+        Integer age;
+    }
+
+    static final BulkTableMapping<Row> MAPPING = new BulkTableMapping<>(
+            "public.\"Rows\"",
+            new BulkColumn<>("id", "\"ID\"", "int4", Integer.class, true, 0, (Row r) -> r.id, (Row r, Integer v) -> r.id = v),
+            List.of(
+                    new BulkColumn<>("name", "\"Name\"", "varchar", String.class, true, 50, (Row r) -> r.name, (Row r, String v) -> r.name = v),
+                    new BulkColumn<>("age", "\"Age\"", "int4", Integer.class, false, 0, (Row r) -> r.age, (Row r, Integer v) -> r.age = v)),
+            Row::new);
+
+    @Test
+    void updateFromValuesCastsEveryParameterAndJoinsOnTheId() {
+        assertThat(BulkSql.updateFromValues(MAPPING, 2)).isEqualTo(
+                "UPDATE public.\"Rows\" AS t SET \"Name\" = v.\"Name\", \"Age\" = v.\"Age\""
+                        + " FROM (VALUES (?::int4, ?::varchar, ?::int4), (?::int4, ?::varchar, ?::int4))"
+                        + " AS v(\"ID\", \"Name\", \"Age\") WHERE t.\"ID\" = v.\"ID\"");
+    }
+
+    @Test
+    void updateFromValuesBindsIdAndColumnsPerRow() {
+        String sql = BulkSql.updateFromValues(MAPPING, 500);
+
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(500L * (1 + MAPPING.getColumns().size()));
+    }
+
+    @Test
+    void updateFromValuesRejectsAnEmptyValuesList() {
+        assertThatThrownBy(() -> BulkSql.updateFromValues(MAPPING, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void updateFromValuesReturningIdsReturnsTheMatchedIds() {
+        assertThat(BulkSql.updateFromValuesReturningIds(MAPPING, 1))
+                .startsWith(BulkSql.updateFromValues(MAPPING, 1))
+                .endsWith(" WHERE t.\"ID\" = v.\"ID\" RETURNING t.\"ID\"");
+    }
+
+    @Test
+    void insertValuesBindsTheIdExplicitly() {
+        assertThat(BulkSql.insertValues(MAPPING, 2)).isEqualTo(
+                "INSERT INTO public.\"Rows\" (\"ID\", \"Name\", \"Age\")"
+                        + " VALUES (?::int4, ?::varchar, ?::int4), (?::int4, ?::varchar, ?::int4)");
+    }
+
+    @Test
+    void updateChangedFromValuesReturningIdsSkipsRowsThatAreAlreadyCurrent() {
+        assertThat(BulkSql.updateChangedFromValuesReturningIds(MAPPING, 1))
+                .startsWith(BulkSql.updateFromValues(MAPPING, 1))
+                .endsWith(" WHERE t.\"ID\" = v.\"ID\" AND ROW(t.\"Name\", t.\"Age\") IS DISTINCT FROM ROW(v.\"Name\", v.\"Age\")"
+                        + " RETURNING t.\"ID\"");
+    }
+
+    @Test
+    void selectExistingIdsUsesOneArrayParameter() {
+        assertThat(BulkSql.selectExistingIds(MAPPING)).isEqualTo("SELECT \"ID\" FROM public.\"Rows\" WHERE \"ID\" = ANY(?)");
+    }
+
+    @Test
+    void upsertValuesUpdatesOnlyChangedRowsAndReturnsTheirIds() {
+        List<BulkColumn<Row>> insertColumns = List.of(MAPPING.getIdColumn(), MAPPING.getColumns().get(0), MAPPING.getColumns().get(1));
+
+        assertThat(BulkSql.upsertValues(MAPPING, insertColumns, List.of(MAPPING.getIdColumn()), 1)).isEqualTo(
+                "INSERT INTO public.\"Rows\" AS t (\"ID\", \"Name\", \"Age\") VALUES (?::int4, ?::varchar, ?::int4)"
+                        + " ON CONFLICT (\"ID\") DO UPDATE SET \"Name\" = EXCLUDED.\"Name\", \"Age\" = EXCLUDED.\"Age\""
+                        + " WHERE ROW(t.\"Name\", t.\"Age\") IS DISTINCT FROM ROW(EXCLUDED.\"Name\", EXCLUDED.\"Age\")"
+                        + " RETURNING (t.xmax = 0), t.\"ID\"");
+    }
+
+    @Test
+    void upsertValuesDoesNothingWhenEveryColumnIsPartOfTheKey() {
+        assertThat(BulkSql.upsertValues(MAPPING, MAPPING.getColumns(), MAPPING.getColumns(), 1))
+                .endsWith(" ON CONFLICT (\"Name\", \"Age\") DO NOTHING RETURNING (t.xmax = 0), t.\"ID\"");
+    }
+
+    @Test
+    void deleteByIdsUsesOneArrayParameter() {
+        assertThat(BulkSql.deleteByIds(MAPPING)).isEqualTo("DELETE FROM public.\"Rows\" WHERE \"ID\" = ANY(?)");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvLineParserTests {
+
+    @Test
+    void parsesQuotedUnquotedAndEmptyFields() {
+        assertThat(CsvLineParser.parse("1,\"Doe, Jane\",,\"\",42"))
+                .containsExactly("1", "Doe, Jane", null, "", "42");
+    }
+
+    @Test
+    void unescapesDoubledQuotes() {
+        assertThat(CsvLineParser.parse("\"say \"\"hi\"\"\",x")).containsExactly("say \"hi\"", "x");
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFields() {
+        assertThat(CsvLineParser.parse("1,\"first\nsecond\",3")).containsExactly("1", "first\nsecond", "3");
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() {
+        assertThatThrownBy(() -> CsvLineParser.parse("1,\"open"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unterminated");
+    }
+
+    @Test
+    void rejectsCharactersAfterClosingQuote() {
+        assertThatThrownBy(() -> CsvLineParser.parse("\"a\"b,c"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void appendValueRoundTripsThroughParse() {
+        List<Object> values = Arrays.asList(7, "plain", "with, comma", "with \"quotes\"", "", null, "multi\nline");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) sb.append(',');
+            CsvLineParser.appendValue(sb, values.get(i));
+        }
+
+        assertThat(CsvLineParser.parse(sb.toString()))
+                .containsExactly("7", "plain", "with, comma", "with \"quotes\"", "", null, "multi\nline");
+    }
+
+    @Test
+    void recordReaderJoinsLinesOfAQuotedField() throws IOException {
+        CsvRecordReader reader = reader("id,name\r\n1,\"two\r\nlines\"\r\n2,\"\"\"quoted\"\" \nand\nthree\"\n3,last\n");
+
+        List<String> records = new ArrayList<>();
+        List<Long> lines = new ArrayList<>();
+        for (String record = reader.next(); record != null; record = reader.next()) {
+            records.add(record);
+            lines.add(reader.getLineNumber());
+        }
+
+        assertThat(records).containsExactly("id,name", "1,\"two\nlines\"", "2,\"\"\"quoted\"\" \nand\nthree\"", "3,last");
+        assertThat(lines).containsExactly(1L, 2L, 4L, 7L);
+        assertThat(CsvLineParser.parse(records.get(2))).containsExactly("2", "\"quoted\" \nand\nthree");
+    }
+
+    @Test
+    void recordReaderReturnsAnUnterminatedRecordForTheParserToReject() throws IOException {
+        CsvRecordReader reader = reader("1,ok\n2,\"never closed\n3,lost\n");
+
+        assertThat(reader.next()).isEqualTo("1,ok");
+        String unterminated = reader.next();
+        assertThat(unterminated).isEqualTo("2,\"never closed\n3,lost");
+        assertThat(reader.next()).isNull();
+        assertThatThrownBy(() -> CsvLineParser.parse(unterminated)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recordReaderLimitsTheRecordLength() {
+        CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader("1,\"abc\ndef\nghi\"\n")), 8);
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 1");
+    }
+
+    private static CsvRecordReader reader(String input) {
+        return new CsvRecordReader(new BufferedReader(new StringReader(input)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.DEMO_INTEGRATION.DAL.Bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SequenceIdBlocksTests {
+
+    @Test
+    void handsOutEveryIdOfEachBlockBelowItsSequenceValue() {
+        SequenceIdBlocks ids = new SequenceIdBlocks("public.\"Seq\"", 50);
+        ids.addBlock(150);
+        ids.addBlock(300);
+
+        List<Long> handedOut = take(ids, 100);
+
+        assertThat(handedOut).containsExactlyElementsOf(
+                LongStream.concat(LongStream.rangeClosed(101, 150), LongStream.rangeClosed(251, 300)).boxed().toList());
+        assertThat(ids.available()).isZero();
+        assertThatThrownBy(ids::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void neverHandsOutIdsBelowOneFromTheFirstValueOfAFreshSequence() {
+        SequenceIdBlocks ids = new SequenceIdBlocks("public.\"Seq\"", 50);
+        ids.addBlock(1);
+
+        assertThat(ids.available()).isEqualTo(1);
+        assertThat(ids.next()).isEqualTo(1);
+    }
+
+    @Test
+    void handsOutGivenBackIdsFirst() {
+        SequenceIdBlocks ids = new SequenceIdBlocks("public.\"Seq\"", 50);
+        ids.addBlock(50);
+        long first = ids.next();
+        ids.next();
+
+        ids.giveBack(first);
+
+        assertThat(ids.available()).isEqualTo(49);
+        assertThat(ids.next()).isEqualTo(first);
+        assertThat(ids.next()).isEqualTo(3);
+    }
+
+    @Test
+    void reservesTheMissingBlocksInOneStatement() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(100L, 150L, 200L);
+        SequenceIdBlocks ids = new SequenceIdBlocks("public.\"Seq\"", 50);
+        ids.addBlock(50);
+        ids.next(); // 49 left, so 101 more ids need three blocks
+
+        ids.reserve(connection, 150);
+
+        verify(statement).setString(1, "public.\"Seq\"");
+        verify(statement).setLong(2, 3);
+        assertThat(ids.available()).isEqualTo(199);
+        ids.reserve(connection, 199); // Already available: no second round trip
+        verify(connection).prepareStatement(anyString());
+    }
+
+    private static List<Long> take(SequenceIdBlocks ids, int count) {
+        List<Long> taken = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            taken.add(ids.next());
+        }
+        return taken;
+    }
+}
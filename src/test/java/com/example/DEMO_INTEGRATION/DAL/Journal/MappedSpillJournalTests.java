@@ -0,0 +1,171 @@
+package com.example.DEMO_INTEGRATION.DAL.Journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedSpillJournalTests {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int HEADER_BYTES = 9; // length, crc32c, type
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsRecordsInAppendOrderUntilCommitted() {
+        try (MappedSpillJournal journal = open()) {
+            journal.append((byte) 1, bytes("one"));
+            journal.append((byte) 2, bytes("two"));
+
+            List<MappedSpillJournal.Record> records = journal.read(10);
+            assertThat(records).extracting(MappedSpillJournal.Record::getType).containsExactly((byte) 1, (byte) 2);
+            assertThat(records).extracting(record -> text(record.getPayload())).containsExactly("one", "two");
+            assertThat(journal.read(10)).hasSize(2); // Reading does not consume
+
+            journal.commit(records.get(1).getNextPosition(), 2);
+            assertThat(journal.read(10)).isEmpty();
+            assertThat(journal.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    void recoversFromTheCheckpointAfterReopening() {
+        try (MappedSpillJournal journal = open()) {
+            journal.append((byte) 1, bytes("applied"));
+            journal.append((byte) 1, bytes("pending-1"));
+            journal.append((byte) 1, bytes("pending-2"));
+            journal.commit(journal.read(1).get(0).getNextPosition(), 1);
+        }
+
+        try (MappedSpillJournal journal = open()) {
+            assertThat(journal.pendingRecords()).isEqualTo(2);
+            assertThat(journal.getRecoveredRecords()).isEqualTo(2);
+            assertThat(journal.getCorruptRecords()).isZero();
+            assertThat(journal.read(10)).extracting(record -> text(record.getPayload()))
+                    .containsExactly("pending-1", "pending-2");
+        }
+    }
+
+    @Test
+    void dropsTheRecordWithACrcMismatchAndEverythingAfterIt() throws IOException {
+        try (MappedSpillJournal journal = open()) {
+            journal.append((byte) 1, bytes("intact"));
+            journal.append((byte) 1, bytes("flipped"));
+            journal.append((byte) 1, bytes("after"));
+        }
+        long secondPayload = HEADER_BYTES + "intact".length() + HEADER_BYTES;
+        try (RandomAccessFile file = new RandomAccessFile(onlySegment().toFile(), "rw")) {
+            file.seek(secondPayload);
+            file.write('F');
+        }
+
+        try (MappedSpillJournal journal = open()) {
+            assertThat(journal.getCorruptRecords()).isEqualTo(1);
+            assertThat(journal.pendingRecords()).isEqualTo(1);
+            journal.append((byte) 1, bytes("new"));
+
+            assertThat(journal.read(10)).extracting(record -> text(record.getPayload())).containsExactly("intact", "new");
+        }
+    }
+
+    @Test
+    void zeroesATornTailAndAppendsAfterTheLastIntactRecord() throws IOException {
+        long end;
+        try (MappedSpillJournal journal = open()) {
+            journal.append((byte) 1, bytes("first"));
+            journal.append((byte) 1, bytes("second"));
+            end = journal.read(10).get(1).getNextPosition();
+        }
+        // A crash mid-append: the length was written but only part of the payload and no valid crc
+        try (RandomAccessFile file = new RandomAccessFile(onlySegment().toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(1 + 100);
+            file.writeInt(0);
+            file.write(1);
+            file.write(bytes("torn"));
+        }
+
+        try (MappedSpillJournal journal = open()) {
+            assertThat(journal.getCorruptRecords()).isEqualTo(1);
+            assertThat(journal.pendingRecords()).isEqualTo(2);
+            journal.append((byte) 1, bytes("third"));
+
+            List<MappedSpillJournal.Record> records = journal.read(10);
+            assertThat(records).extracting(record -> text(record.getPayload())).containsExactly("first", "second", "third");
+            assertThat(records.get(1).getNextPosition()).isEqualTo(end);
+        }
+    }
+
+    @Test
+    void rejectsAppendsWhenAllSegmentsAreFullAndFreesThemOnCommit() {
+        byte[] payload = new byte[SEGMENT_SIZE / 2 - HEADER_BYTES]; // Two records per segment
+        try (MappedSpillJournal journal = open()) {
+            for (int i = 0; i < 4; i++) {
+                journal.append((byte) 1, payload);
+            }
+            assertThat(journal.segmentCount()).isEqualTo(2);
+            assertThatThrownBy(() -> journal.append((byte) 1, payload)).isInstanceOf(RejectedExecutionException.class);
+            assertThat(journal.getRejected()).isEqualTo(1);
+
+            List<MappedSpillJournal.Record> records = journal.read(10);
+            assertThat(records).hasSize(4);
+            journal.commit(records.get(3).getNextPosition(), 4);
+
+            assertThat(journal.segmentCount()).isZero(); // The checkpoint is at the start of a segment not yet opened
+            journal.append((byte) 1, payload);
+            assertThat(journal.segmentCount()).isEqualTo(1);
+            assertThat(journal.read(10)).hasSize(1);
+        }
+    }
+
+    @Test
+    void rejectsARecordLargerThanASegment() {
+        try (MappedSpillJournal journal = open()) {
+            assertThatThrownBy(() -> journal.append((byte) 1, new byte[SEGMENT_SIZE]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void refusesADamagedCheckpoint() throws IOException {
+        try (MappedSpillJournal journal = open()) {
+            journal.append((byte) 1, bytes("one"));
+            journal.commit(journal.read(1).get(0).getNextPosition(), 1);
+        }
+        Files.write(directory.resolve("checkpoint"), new byte[12]);
+
+        assertThatThrownBy(this::open).hasMessageContaining("Cannot open spill journal");
+    }
+
+    private MappedSpillJournal open() {
+        return new MappedSpillJournal(directory, SEGMENT_SIZE, 2);
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.filter(file -> file.getFileName().toString().startsWith("segment-")).toList();
+            assertThat(segments).hasSize(1);
+            return segments.get(0);
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterCriterionTests {
+
+    @Test
+    void parsesAttributeOperatorAndValue() {
+        FilterCriterion criterion = FilterCriterion.parse("age:GTE:18");
+
+        assertThat(criterion.getAttribute()).isEqualTo("age");
+        assertThat(criterion.getOperator()).isEqualTo(FilterOperator.GTE);
+        assertThat(criterion.getValues()).containsExactly("18");
+    }
+
+    @Test
+    void keepsColonsInTheValue() {
+        assertThat(FilterCriterion.parse("name:eq:a:b:c").getValues()).containsExactly("a:b:c");
+    }
+
+    @Test
+    void splitsInValuesOnPipes() {
+        FilterCriterion criterion = FilterCriterion.parse("id:in:1|2|3");
+
+        assertThat(criterion.getValues()).containsExactly("1", "2", "3");
+        assertThat(criterion.toString()).isEqualTo("id:in:1|2|3");
+    }
+
+    @Test
+    void rejectsNullExpression() {
+        assertThatThrownBy(() -> FilterCriterion.parse(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be null");
+    }
+
+    @Test
+    void rejectsExpressionWithoutThreeParts() {
+        assertThatThrownBy(() -> FilterCriterion.parse("age:gte"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("attribute:operator:value");
+    }
+
+    @Test
+    void rejectsUnknownOperator() {
+        assertThatThrownBy(() -> FilterCriterion.parse("age:between:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown filter operator: between");
+    }
+
+    @Test
+    void rejectsBlankAttribute() {
+        assertThatThrownBy(() -> FilterCriterion.parse(" :eq:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("attribute");
+    }
+
+    @Test
+    void rejectsSeveralValuesForASingleValueOperator() {
+        assertThatThrownBy(() -> new FilterCriterion("age", FilterOperator.EQ, List.of("1", "2")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exactly one value");
+    }
+}
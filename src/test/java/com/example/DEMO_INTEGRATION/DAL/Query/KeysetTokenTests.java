@@ -0,0 +1,55 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetTokenTests {
+
+    @Test
+    void roundTripsSortAttributeValueAndId() {
+        KeysetToken decoded = KeysetToken.decode(new KeysetToken("name", "O'Brien, \"Pat\" / ü", "42").encode());
+
+        assertThat(decoded.getSortBy()).isEqualTo("name");
+        assertThat(decoded.getLastSortValue()).isEqualTo("O'Brien, \"Pat\" / ü");
+        assertThat(decoded.getLastId()).isEqualTo("42");
+    }
+
+    @Test
+    void roundTripsANullSortValue() {
+        KeysetToken decoded = KeysetToken.decode(new KeysetToken("age", null, "7").encode());
+
+        assertThat(decoded.getLastSortValue()).isNull();
+        assertThat(decoded.getLastId()).isEqualTo("7");
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String token = new KeysetToken("name", "??>>~~", "1").encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> KeysetToken.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetToken.decode(encode("[1,2]"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetToken.decode(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTokensWithoutSortAttributeOrId() {
+        assertThatThrownBy(() -> KeysetToken.decode(encode("{\"s\":\"name\",\"v\":\"x\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetToken.decode(encode("{\"v\":\"x\",\"i\":\"1\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.DEMO_INTEGRATION.DAL.Query;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NativeRowMapperTests {
+
+    public static final class VoterRow {
+        final Integer id;
+        final String name;
+        final long votes;
+        final LocalDate born;
+
+        public VoterRow(Integer id, String name, long votes, LocalDate born) {
+            this.id = id;
+            this.name = name;
+            this.votes = votes;
+            this.born = born;
+        }
+    }
+
+    @Test
+    void mapsRowsThroughTheConstructorConvertingEachColumn() {
+        LocalDate born = LocalDate.of(1990, 5, 17);
+        List<VoterRow> rows = NativeRowMapper.mapRows(List.of(
+                new Object[]{1, "Ann", 3L, born},
+                new Object[]{new BigInteger("2"), 42, new BigDecimal("7"), null},
+                new Object[]{"3", null, "12", born}), VoterRow.class);
+
+        assertThat(rows).extracting(r -> r.id).containsExactly(1, 2, 3);
+        assertThat(rows).extracting(r -> r.name).containsExactly("Ann", "42", null);
+        assertThat(rows).extracting(r -> r.votes).containsExactly(3L, 7L, 12L);
+        assertThat(rows).extracting(r -> r.born).containsExactly(born, null, born);
+    }
+
+    @Test
+    void reusesTheCompiledMapperForTheSameShape() {
+        Function<Object[], VoterRow> first = NativeRowMapper.rowMapper(VoterRow.class, 4);
+
+        assertThat(NativeRowMapper.rowMapper(VoterRow.class, 4)).isSameAs(first);
+    }
+
+    @Test
+    void returnsNoRowsWithoutLookingForAConstructor() {
+        assertThat(NativeRowMapper.mapRows(List.of(), String.class)).isEmpty();
+    }
+
+    @Test
+    void rejectsValuesThatCannotBeConverted() {
+        assertThatThrownBy(() -> NativeRowMapper.mapRows(List.<Object[]>of(new Object[]{"x1", "Ann", 1L, null}), VoterRow.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cannot convert value: x1 to type: Integer");
+        assertThatThrownBy(() -> NativeRowMapper.mapRows(List.<Object[]>of(new Object[]{1, "Ann", 1L, "1990-05-17"}), VoterRow.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("LocalDate");
+    }
+
+    @Test
+    void failsWhenAPrimitiveColumnIsNull() {
+        assertThatThrownBy(() -> NativeRowMapper.mapRows(List.<Object[]>of(new Object[]{1, "Ann", null, null}), VoterRow.class))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void rejectsRowsOfAnotherWidth() {
+        Function<Object[], VoterRow> mapper = NativeRowMapper.rowMapper(VoterRow.class, 4);
+
+        assertThatThrownBy(() -> mapper.apply(new Object[]{1, "Ann", 1L}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected 4");
+    }
+
+    @Test
+    void failsWithoutAConstructorOfTheRowWidth() {
+        assertThatThrownBy(() -> NativeRowMapper.rowMapper(VoterRow.class, 2))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("No matching constructor");
+    }
+
+    @Test
+    void convertToTypeMatchesTheCompiledConversions() {
+        assertThat(NativeRowMapper.convertToType("42", Integer.class)).isEqualTo(42);
+        assertThat(NativeRowMapper.convertToType(42, long.class)).isEqualTo(42L);
+        assertThat(NativeRowMapper.convertToType(4.5, String.class)).isEqualTo("4.5");
+        assertThatThrownBy(() -> NativeRowMapper.convertToType("-1", Integer.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
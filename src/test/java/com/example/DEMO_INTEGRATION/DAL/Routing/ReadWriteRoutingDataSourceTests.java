@@ -0,0 +1,122 @@
+package com.example.DEMO_INTEGRATION.DAL.Routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTests {
+
+    private static final Duration READ_AFTER_WRITE = Duration.ofMillis(200);
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica), READ_AFTER_WRITE, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void readsGoToTheReplicaWithoutRecentWrites() throws SQLException {
+        assertThat(read()).isSameAs(replicaConnection);
+        assertThat(write()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readAfterWriteWindowStartsWhenTheWriteCommits() throws Exception {
+        beginWrite();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        Thread.sleep(READ_AFTER_WRITE.toMillis() + 50); // A write running longer than the window
+        assertThat(readOnOtherThread()).isSameAs(replicaConnection); // Not committed yet, the replica is as current
+
+        commit();
+        assertThat(read()).isSameAs(primaryConnection);
+        assertThat(routing.snapshot().getReadsOnPrimaryAfterWrite()).isEqualTo(1);
+
+        Thread.sleep(READ_AFTER_WRITE.toMillis() + 50);
+        assertThat(read()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReadsToThePrimary() throws SQLException {
+        beginWrite();
+        routing.getConnection();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(read()).isSameAs(replicaConnection);
+    }
+
+    private void beginWrite() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private Connection write() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        return routing.getConnection();
+    }
+
+    private Connection read() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return routing.getConnection();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private Connection readOnOtherThread() throws Exception {
+        Connection[] result = new Connection[1];
+        Exception[] failure = new Exception[1];
+        Thread reader = new Thread(() -> {
+            try {
+                result[0] = read();
+            } catch (SQLException e) {
+                failure[0] = e;
+            }
+        });
+        reader.start();
+        reader.join();
+        if (failure[0] != null) throw failure[0];
+        return result[0];
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.DEMO_INTEGRATION.Utils.CacheUtils;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenericCacheUtilTests {
+
+    private final GenericCacheUtil<Integer, String> cache = new GenericCacheUtil<>("test", 64, Duration.ofMinutes(5));
+
+    @Test
+    void loadsOnMissAndServesHitsFromMemory() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1, id -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get(1, id -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        CacheStats stats = cache.snapshot();
+        assertThat(loads).hasValue(1);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheALoadThatOverlapsAnInvalidation() {
+        // The loader read the old row; a write committed and invalidated the key before the load finished
+        String loaded = cache.get(1, id -> {
+            cache.invalidate(id);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1, id -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get(1)).isEqualTo("fresh");
+    }
+
+    @Test
+    void doesNotCacheALoadThatOverlapsAClear() {
+        cache.get(1, id -> {
+            cache.clear();
+            return "stale";
+        });
+
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @Test
+    void invalidatesListedKeysOnly() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+
+        cache.invalidateAll(List.of(1, 3));
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(2)).isEqualTo("b");
+        assertThat(cache.get(3)).isNull();
+        assertThat(cache.snapshot().getInvalidations()).isEqualTo(2);
+    }
+
+    @Test
+    void neverCachesNullLoads() {
+        assertThat(cache.get(1, id -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void dropsExpiredEntries() throws InterruptedException {
+        cache.put(1, "short", Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.snapshot().getExpirations()).isEqualTo(1);
+    }
+
+    @Test
+    void staysWithinItsSizeBound() {
+        GenericCacheUtil<Integer, String> small = new GenericCacheUtil<>("small", 4, Duration.ofMinutes(5));
+        for (int i = 0; i < 100; i++) {
+            small.put(i, "v" + i);
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(4);
+        assertThat(small.snapshot().getEvictions()).isEqualTo(100 - small.size());
+    }
+}
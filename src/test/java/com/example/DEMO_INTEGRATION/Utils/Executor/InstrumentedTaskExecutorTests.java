@@ -0,0 +1,73 @@
+package com.example.DEMO_INTEGRATION.Utils.Executor;
+
+import com.example.DEMO_INTEGRATION.DTOs.MetricsDTO.ExecutorStats;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LogContext;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil;
+import com.example.DEMO_INTEGRATION.Utils.Logger.LoggerUtil.LogLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedTaskExecutorTests {
+
+    private final InstrumentedTaskExecutor executor = new InstrumentedTaskExecutor("test", 1, 1, 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void countsSubmittedRejectedAndCompletedTasks() throws InterruptedException {
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { }); // Waits in the queue
+
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+        ExecutorStats busy = executor.snapshot();
+        assertThat(busy.getQueueDepth()).isEqualTo(1);
+        assertThat(busy.getRejected()).isEqualTo(1);
+
+        release.countDown();
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        ExecutorStats done = executor.snapshot();
+        assertThat(done.getSubmitted()).isEqualTo(3);
+        assertThat(done.getCompleted()).isEqualTo(2);
+        assertThat(done.getMaxQueueWaitMicros()).isPositive();
+    }
+
+    @Test
+    void clearsTheLogContextATaskLeftInTheMdc() throws Exception {
+        executor.initialize();
+        LoggerUtil logger = LoggerUtil.getLogger(InstrumentedTaskExecutorTests.class);
+        executor.submit(() -> logger.log(LogLevel.INFO, LogContext.of("operation", "leaky"), "Leaves its context")).get(5, TimeUnit.SECONDS);
+
+        // One thread in the pool, so the next task runs where the first one logged
+        Map<String, String> mdc = executor.submit(MDC::getCopyOfContextMap).get(5, TimeUnit.SECONDS);
+
+        assertThat(mdc == null ? Map.of() : mdc).doesNotContainKey("operation");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.DEMO_INTEGRATION.Utils.Metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTests {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void reportsPercentilesWithinTheBucketError() {
+        LatencyHistogram histogram = LatencyHistogram.cumulative();
+        long now = System.nanoTime();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * MS, now);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(now);
+
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1000 * MS);
+        assertThat((double) snapshot.valueAtQuantile(0.50)).isCloseTo(500.0 * MS, within(500.0 * MS * 0.125));
+        assertThat((double) snapshot.valueAtQuantile(0.99)).isCloseTo(990.0 * MS, within(990.0 * MS * 0.125));
+        assertThat(snapshot.valueAtQuantile(1.0)).isEqualTo(1000 * MS);
+    }
+
+    @Test
+    void neverReportsBelowTheRecordedValue() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 1023, 1024, 1025, 123_456_789L}) {
+            LatencyHistogram histogram = LatencyHistogram.cumulative();
+            histogram.record(value, 0);
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot(0);
+
+            assertThat(snapshot.valueAtQuantile(0.5)).isEqualTo(value); // Capped at the maximum
+            assertThat(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value)))
+                    .isGreaterThanOrEqualTo(value)
+                    .isLessThanOrEqualTo(value + value / 8);
+        }
+    }
+
+    @Test
+    void bucketsAreContiguous() {
+        for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+            long lower = LatencyHistogram.bucketUpperBound(i - 1) + 1;
+            assertThat(LatencyHistogram.bucketIndex(lower)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void emptySnapshotReportsZero() {
+        assertThat(LatencyHistogram.cumulative().snapshot(System.nanoTime()).valueAtQuantile(0.99)).isZero();
+    }
+
+    @Test
+    void dropsSlicesThatLeftTheWindow() {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.SECONDS, 4);
+        long start = 10_000 * MS;
+        histogram.record(900 * MS, start);
+        histogram.record(5 * MS, start + 600 * MS);
+
+        assertThat(histogram.snapshot(start + 600 * MS).getCount()).isEqualTo(2);
+        LatencyHistogram.Snapshot later = histogram.snapshot(start + 1100 * MS);
+        assertThat(later.getCount()).isEqualTo(1);
+        assertThat(later.getMax()).isEqualTo(5 * MS);
+        assertThat(histogram.snapshot(start + 5000 * MS).getCount()).isZero();
+    }
+}